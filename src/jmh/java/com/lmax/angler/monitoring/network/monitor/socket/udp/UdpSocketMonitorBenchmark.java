@@ -0,0 +1,89 @@
+package com.lmax.angler.monitoring.network.monitor.socket.udp;
+
+import com.lmax.angler.monitoring.network.monitor.socket.SocketMonitoringLifecycleListener;
+import com.lmax.angler.monitoring.network.monitor.util.ProcFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full poll of a generated /proc/net/udp file, monitoring a handful of its sockets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UdpSocketMonitorBenchmark implements UdpSocketStatisticsHandler, SocketMonitoringLifecycleListener
+{
+    private static final int MONITORED_SOCKET_COUNT = 16;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int socketCount;
+
+    private Path path;
+    private UdpSocketMonitor monitor;
+    private long updateCount;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        path = ProcFixtures.writeUdpFixture(socketCount);
+        monitor = new UdpSocketMonitor(this, path);
+        for(int i = 0; i < MONITORED_SOCKET_COUNT; i++)
+        {
+            monitor.beginMonitoringOf(ProcFixtures.socketAddress(i * (socketCount / MONITORED_SOCKET_COUNT)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception
+    {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public long poll()
+    {
+        monitor.poll(this);
+        return updateCount;
+    }
+
+    @Override
+    public void onStatisticsUpdated(
+            final InetAddress inetAddress,
+            final int port,
+            final long socketIdentifier,
+            final long inode,
+            final long receiveQueueDepth,
+            final long transmitQueueDepth,
+            final long drops)
+    {
+        updateCount++;
+    }
+
+    @Override
+    public void socketMonitoringStarted(final InetAddress inetAddress, final int port, final long inode)
+    {
+    }
+
+    @Override
+    public void socketMonitoringStopped(final InetAddress inetAddress, final int port, final long inode)
+    {
+    }
+}
@@ -0,0 +1,64 @@
+package com.lmax.angler.monitoring.network.monitor.system.softnet;
+
+import com.lmax.angler.monitoring.network.monitor.util.ProcFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a full poll of a generated /proc/net/softnet_stat file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SoftnetStatsMonitorBenchmark implements SoftnetStatsHandler
+{
+    @Param({"8", "64", "256"})
+    private int cpuCount;
+
+    private Path path;
+    private SoftnetStatsMonitor monitor;
+    private long dropped;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        path = ProcFixtures.writeSoftnetStatFixture(cpuCount);
+        monitor = new SoftnetStatsMonitor(path);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception
+    {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public long poll()
+    {
+        monitor.poll(this);
+        return dropped;
+    }
+
+    @Override
+    public void perCpuStatistics(final int cpuId, final long processed, final long squeezed, final long dropped)
+    {
+        this.dropped += dropped;
+    }
+}
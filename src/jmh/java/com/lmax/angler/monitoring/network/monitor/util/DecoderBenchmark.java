@@ -0,0 +1,69 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Compares SwarDecoder with HexToLongDecoder and AsciiBytesToLongDecoder on the values found in a /proc/net/udp row.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecoderBenchmark
+{
+    // local_address tx_queue:rx_queue inode
+    private static final String ROW_VALUES = "017AA8C0:0035 00000090:000000A6 4437391";
+
+    private final ByteBuffer src = ByteBuffer.allocateDirect(64);
+    private final SwarDecoder swarDecoder = new SwarDecoder();
+
+    public DecoderBenchmark()
+    {
+        src.put(ROW_VALUES.getBytes(UTF_8)).flip();
+    }
+
+    @Benchmark
+    public long hexToLongDecoder()
+    {
+        return HexToLongDecoder.UPPER_CASE.decodeHex(src, 0, 8) +
+                HexToLongDecoder.UPPER_CASE.decodeHex(src, 9, 13) +
+                HexToLongDecoder.UPPER_CASE.decodeHex(src, 14, 22) +
+                HexToLongDecoder.UPPER_CASE.decodeHex(src, 23, 31);
+    }
+
+    @Benchmark
+    public long swarHexDecoder()
+    {
+        return swarDecoder.decodeHex(src, 0, 8) +
+                swarDecoder.decodeHex(src, 9, 13) +
+                swarDecoder.decodeHex(src, 14, 22) +
+                swarDecoder.decodeHex(src, 23, 31);
+    }
+
+    @Benchmark
+    public long asciiBytesToLongDecoder()
+    {
+        return AsciiBytesToLongDecoder.decodeAscii(src, 32, 39);
+    }
+
+    @Benchmark
+    public long swarAsciiDecoder()
+    {
+        return swarDecoder.decodeAscii(src, 32, 39);
+    }
+}
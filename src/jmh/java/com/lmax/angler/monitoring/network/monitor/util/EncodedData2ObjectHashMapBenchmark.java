@@ -0,0 +1,99 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import com.lmax.angler.monitoring.network.monitor.socket.IPv6SocketKeyEncoder;
+import com.lmax.angler.monitoring.network.monitor.socket.InodeIdentifiedSocketDescriptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookups of IPv6 socket keys, as performed for each row of /proc/net/tcp6 and /proc/net/udp6.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncodedData2ObjectHashMapBenchmark
+{
+    private static final int LOOKUP_KEY_COUNT = 1024;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int socketCount;
+
+    private EncodedData2ObjectHashMap<InodeIdentifiedSocketDescriptor, InetSocketAddress> map;
+    private final InodeIdentifiedSocketDescriptor[] descriptors = new InodeIdentifiedSocketDescriptor[LOOKUP_KEY_COUNT];
+    private final ByteBuffer[] encodedKeys = new ByteBuffer[LOOKUP_KEY_COUNT];
+    private int lookupIndex;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        final IPv6SocketKeyEncoder encoder = new IPv6SocketKeyEncoder();
+        map = new EncodedData2ObjectHashMap<>(socketCount * 2, 0.67f, IPv6SocketKeyEncoder.KEY_LENGTH, encoder,
+                descriptor(new InetSocketAddress(InetAddress.getByAddress(new byte[16]), 0), -1L));
+        for(int i = 0; i < socketCount; i++)
+        {
+            final InodeIdentifiedSocketDescriptor descriptor = descriptor(socketAddress(i), 0L);
+            map.put(descriptor, socketAddress(i));
+        }
+
+        for(int i = 0; i < LOOKUP_KEY_COUNT; i++)
+        {
+            // half of the lookups miss
+            descriptors[i] = descriptor(socketAddress(i % 2 == 0 ? (i * 7919) % socketCount : socketCount + i), 0L);
+            encodedKeys[i] = ByteBuffer.allocate(IPv6SocketKeyEncoder.KEY_LENGTH);
+            encoder.accept(descriptors[i], encodedKeys[i]);
+        }
+    }
+
+    @Benchmark
+    public InetSocketAddress get()
+    {
+        return map.get(descriptors[nextLookupIndex()]);
+    }
+
+    @Benchmark
+    public InetSocketAddress getByEncodedKey()
+    {
+        return map.getByEncodedKey(encodedKeys[nextLookupIndex()]);
+    }
+
+    private int nextLookupIndex()
+    {
+        lookupIndex = (lookupIndex + 1) & (LOOKUP_KEY_COUNT - 1);
+        return lookupIndex;
+    }
+
+    private static InetSocketAddress socketAddress(final int socketIndex) throws Exception
+    {
+        final byte[] address = new byte[16];
+        address[0] = 0x20;
+        address[1] = 0x01;
+        address[13] = (byte) (socketIndex >>> 16);
+        address[14] = (byte) (socketIndex >>> 8);
+        address[15] = (byte) socketIndex;
+        return new InetSocketAddress(InetAddress.getByAddress(address), 1024 + socketIndex % 50000);
+    }
+
+    private static InodeIdentifiedSocketDescriptor descriptor(final InetSocketAddress socketAddress, final long inode)
+    {
+        final InodeIdentifiedSocketDescriptor descriptor = new InodeIdentifiedSocketDescriptor();
+        descriptor.set(socketAddress, inode);
+        return descriptor;
+    }
+}
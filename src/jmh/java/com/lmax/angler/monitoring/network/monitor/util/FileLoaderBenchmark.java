@@ -0,0 +1,56 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a generated /proc/net/udp file into a FileLoader buffer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileLoaderBenchmark
+{
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int socketCount;
+
+    private Path path;
+    private FileLoader fileLoader;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        path = ProcFixtures.writeUdpFixture(socketCount);
+        fileLoader = new FileLoader(path, 65536);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception
+    {
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public int load()
+    {
+        fileLoader.load();
+        return fileLoader.getBuffer().limit();
+    }
+}
@@ -0,0 +1,98 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares tokenising a generated /proc/net/tcp file with nested DelimitedDataParsers and with RowColumnParser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark
+{
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int socketCount;
+
+    private final TokenCounter tokenCounter = new TokenCounter();
+    private final TokenHandler delimitedDataParser = new DelimitedDataParser(
+            new DelimitedDataParser(tokenCounter, (byte) ' ', true), (byte) '\n', true);
+    private final TokenHandler rowColumnParser = Parsers.rowColumnParser(tokenCounter);
+    private ByteBuffer src;
+
+    @Setup
+    public void setUp() throws Exception
+    {
+        final Path path = ProcFixtures.writeTcpFixture(socketCount);
+        try
+        {
+            final FileLoader fileLoader = new FileLoader(path, 65536);
+            fileLoader.load();
+            src = fileLoader.getBuffer();
+        }
+        finally
+        {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Benchmark
+    public long delimitedDataParser()
+    {
+        return parse(delimitedDataParser);
+    }
+
+    @Benchmark
+    public long rowColumnParser()
+    {
+        return parse(rowColumnParser);
+    }
+
+    private long parse(final TokenHandler parser)
+    {
+        tokenCounter.reset();
+        parser.reset();
+        parser.handleToken(src, src.position(), src.limit());
+        return tokenCounter.tokenLengths;
+    }
+
+    private static final class TokenCounter implements TokenHandler
+    {
+        private long tokenLengths;
+
+        @Override
+        public void handleToken(final ByteBuffer src, final int startPosition, final int endPosition)
+        {
+            tokenLengths += endPosition - startPosition;
+        }
+
+        @Override
+        public void complete()
+        {
+            tokenLengths++;
+        }
+
+        @Override
+        public void reset()
+        {
+            tokenLengths = 0L;
+        }
+    }
+}
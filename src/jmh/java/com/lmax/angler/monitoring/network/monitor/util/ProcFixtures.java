@@ -0,0 +1,107 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Generates /proc files in the format written by the kernel, for benchmarks that need realistic volumes of data.
+ *
+ * Socket n is bound to 10.x.y.z, where x.y.z is n, on port 1024 + (n % 50000).
+ */
+public final class ProcFixtures
+{
+    private static final String TCP_HEADER =
+            "  sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode";
+    private static final String UDP_HEADER = TCP_HEADER + " ref pointer drops";
+    private static final int TCP_ROW_WIDTH = 149;
+    private static final int UDP_ROW_WIDTH = 127;
+    private static final int FIRST_PORT = 1024;
+    private static final int PORT_COUNT = 50000;
+    private static final int FIRST_INODE = 100000;
+
+    private ProcFixtures() {}
+
+    public static Path writeTcpFixture(final int socketCount) throws IOException
+    {
+        final Path path = Files.createTempFile("proc-net-tcp", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(path, US_ASCII))
+        {
+            writeRow(writer, TCP_HEADER, TCP_ROW_WIDTH);
+            for(int i = 0; i < socketCount; i++)
+            {
+                writeRow(writer, String.format("%4d: %s %08X:%04X %02X %08X:%08X %02X:%08X %08X %5d %8d %d %d %016x %d %d %d %d %d",
+                        i, hexEncodedLocalAddress(i), 0, 0, 0x0A, i % 7, i % 13, 0, 0, 0, 1000, 0, FIRST_INODE + i,
+                        1, 0L, 100, 0, 0, 10, 0), TCP_ROW_WIDTH);
+            }
+        }
+        return path;
+    }
+
+    public static Path writeUdpFixture(final int socketCount) throws IOException
+    {
+        final Path path = Files.createTempFile("proc-net-udp", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(path, US_ASCII))
+        {
+            writeRow(writer, UDP_HEADER, UDP_ROW_WIDTH);
+            for(int i = 0; i < socketCount; i++)
+            {
+                writeRow(writer, String.format("%5d: %s %08X:%04X %02X %08X:%08X %02X:%08X %08X %5d %8d %d %d %016x %d",
+                        i, hexEncodedLocalAddress(i), 0, 0, 0x07, i % 7, i % 13, 0, 0, 0, 1000, 0, FIRST_INODE + i,
+                        2, 0L, i % 3), UDP_ROW_WIDTH);
+            }
+        }
+        return path;
+    }
+
+    public static Path writeSoftnetStatFixture(final int cpuCount) throws IOException
+    {
+        final Path path = Files.createTempFile("proc-net-softnet-stat", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(path, US_ASCII))
+        {
+            for(int i = 0; i < cpuCount; i++)
+            {
+                writer.write(String.format("%08x %08x %08x 00000000 00000000 00000000 00000000 00000000 00000000 00000000 %08x%n",
+                        0x10000 + i, i % 3, i % 5, i));
+            }
+        }
+        return path;
+    }
+
+    public static InetSocketAddress socketAddress(final int socketIndex)
+    {
+        try
+        {
+            final byte[] address = {10, (byte) (socketIndex >>> 16), (byte) (socketIndex >>> 8), (byte) socketIndex};
+            return new InetSocketAddress(InetAddress.getByAddress(address), port(socketIndex));
+        }
+        catch(final UnknownHostException e)
+        {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static String hexEncodedLocalAddress(final int socketIndex)
+    {
+        // kernel prints the address in host (little-endian) byte order
+        return String.format("%02X%02X%02X%02X:%04X",
+                socketIndex & 0xFF, (socketIndex >>> 8) & 0xFF, (socketIndex >>> 16) & 0xFF, 10, port(socketIndex));
+    }
+
+    private static int port(final int socketIndex)
+    {
+        return FIRST_PORT + socketIndex % PORT_COUNT;
+    }
+
+    private static void writeRow(final BufferedWriter writer, final String row, final int width) throws IOException
+    {
+        writer.write(String.format("%-" + width + "s", row));
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,176 @@
+package com.lmax.angler.monitoring.network.monitor.agent;
+
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.AgentRunner;
+import org.agrona.concurrent.BusySpinIdleStrategy;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.SleepingIdleStrategy;
+import org.agrona.concurrent.SystemNanoClock;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agent that polls any number of monitors, each at its own interval, from a single duty cycle.
+ *
+ * Monitors are registered as tasks that invoke their poll method with the desired handler, e.g.
+ * <pre>
+ *     agent.schedule(() -&gt; udpSocketMonitor.poll(handler), 100, TimeUnit.MILLISECONDS);
+ * </pre>
+ *
+ * For sub-millisecond sampling, run the agent with newSamplingAgentRunner, and pass SamplingStatistics
+ * when scheduling to record how closely each task kept to its interval.
+ *
+ * Register all tasks before the agent is started. Not thread-safe, only call from a single thread.
+ */
+public final class AnglerAgent implements Agent
+{
+    private static final long DEFAULT_IDLE_SLEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    private final NanoClock nanoClock;
+    private ScheduledTask[] tasks = new ScheduledTask[0];
+
+    public AnglerAgent()
+    {
+        this(new SystemNanoClock());
+    }
+
+    public AnglerAgent(final NanoClock nanoClock)
+    {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Schedule a task to run repeatedly; the first run is due immediately.
+     * @param task the task, typically polling a monitor
+     * @param interval the interval between runs
+     * @param unit the unit of the interval
+     * @return this agent
+     */
+    public AnglerAgent schedule(final Runnable task, final long interval, final TimeUnit unit)
+    {
+        return schedule(task, interval, unit, null);
+    }
+
+    /**
+     * Schedule a task to run repeatedly, recording the actual interval between runs; the first run is due immediately.
+     * @param task the task, typically polling a monitor
+     * @param interval the interval between runs
+     * @param unit the unit of the interval
+     * @param statistics records the timing of each run, may be null
+     * @return this agent
+     */
+    public AnglerAgent schedule(final Runnable task, final long interval, final TimeUnit unit, final SamplingStatistics statistics)
+    {
+        final long intervalNanos = unit.toNanos(interval);
+        if(intervalNanos <= 0L)
+        {
+            throw new IllegalArgumentException("Interval must be positive: " + interval + " " + unit);
+        }
+        tasks = Arrays.copyOf(tasks, tasks.length + 1);
+        tasks[tasks.length - 1] = new ScheduledTask(task, intervalNanos, nanoClock.nanoTime(), statistics);
+        return this;
+    }
+
+    /**
+     * Create a runner for this agent.
+     * @param idleStrategy the strategy to use when no task is due
+     * @param errorHandler the handler for exceptions thrown by tasks
+     * @return the runner, which can be started with AgentRunner.startOnThread
+     */
+    public AgentRunner newAgentRunner(final IdleStrategy idleStrategy, final ErrorHandler errorHandler)
+    {
+        return new AgentRunner(idleStrategy, errorHandler, null, this);
+    }
+
+    /**
+     * Create a runner for this agent that sleeps for one millisecond when no task is due.
+     * @param errorHandler the handler for exceptions thrown by tasks
+     * @return the runner, which can be started with AgentRunner.startOnThread
+     */
+    public AgentRunner newAgentRunner(final ErrorHandler errorHandler)
+    {
+        return newAgentRunner(new SleepingIdleStrategy(DEFAULT_IDLE_SLEEP_NANOS), errorHandler);
+    }
+
+    /**
+     * Create a runner for high-frequency sampling, that busy-spins or parks briefly when no task is due.
+     *
+     * Busy-spinning dedicates a CPU to the agent; pin the thread to an isolated core to minimise sampling jitter.
+     *
+     * @param parkNanos the time to park when no task is due, or zero to busy-spin
+     * @param errorHandler the handler for exceptions thrown by tasks
+     * @return the runner, which can be started with AgentRunner.startOnThread
+     */
+    public AgentRunner newSamplingAgentRunner(final long parkNanos, final ErrorHandler errorHandler)
+    {
+        if(parkNanos < 0L)
+        {
+            throw new IllegalArgumentException("Park time must not be negative: " + parkNanos);
+        }
+        final IdleStrategy idleStrategy = parkNanos == 0L ? new BusySpinIdleStrategy() : new SleepingIdleStrategy(parkNanos);
+        return newAgentRunner(idleStrategy, errorHandler);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int doWork()
+    {
+        long now = nanoClock.nanoTime();
+        int workCount = 0;
+        for (final ScheduledTask scheduledTask : tasks)
+        {
+            if(now - scheduledTask.deadline >= 0L)
+            {
+                final long latenessNanos = now - scheduledTask.deadline;
+                long missedRuns = 0L;
+                // advance the deadline first, so that a failing task does not run on every duty cycle
+                scheduledTask.deadline += scheduledTask.intervalNanos;
+                if(now - scheduledTask.deadline >= 0L)
+                {
+                    // fell behind by more than one interval, skip missed runs
+                    missedRuns = (now - scheduledTask.deadline) / scheduledTask.intervalNanos + 1;
+                    scheduledTask.deadline = now + scheduledTask.intervalNanos;
+                }
+                if(scheduledTask.statistics != null)
+                {
+                    scheduledTask.statistics.onSample(now, latenessNanos, missedRuns);
+                }
+                workCount++;
+                scheduledTask.task.run();
+                // later tasks are measured and scheduled from when they actually start
+                now = nanoClock.nanoTime();
+            }
+        }
+        return workCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String roleName()
+    {
+        return "angler";
+    }
+
+    private static final class ScheduledTask
+    {
+        private final Runnable task;
+        private final long intervalNanos;
+        private final SamplingStatistics statistics;
+        private long deadline;
+
+        ScheduledTask(final Runnable task, final long intervalNanos, final long deadline, final SamplingStatistics statistics)
+        {
+            this.task = task;
+            this.intervalNanos = intervalNanos;
+            this.deadline = deadline;
+            this.statistics = statistics;
+        }
+    }
+}
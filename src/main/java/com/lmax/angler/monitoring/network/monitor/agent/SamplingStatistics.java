@@ -0,0 +1,97 @@
+package com.lmax.angler.monitoring.network.monitor.agent;
+
+import com.lmax.angler.monitoring.network.monitor.util.LogLinearHistogram;
+
+/**
+ * Records how closely a task scheduled on an AnglerAgent kept to its interval, so that the trustworthiness of
+ * the samples it takes can be judged.
+ *
+ * The actual interval between the starts of consecutive runs is recorded in nanoseconds (intervals above
+ * 2^32 - 1 nanoseconds, about 4.3 seconds, are counted as that value). A run is late if it started more than
+ * the late threshold after it was due; runs skipped because the agent fell more than one interval behind are
+ * counted as missed.
+ *
+ * Not thread-safe, only read or reset from the agent's thread, e.g. from another scheduled task.
+ */
+public final class SamplingStatistics
+{
+    private static final long NO_SAMPLE = Long.MIN_VALUE;
+
+    private final LogLinearHistogram intervals = new LogLinearHistogram();
+    private final long lateThresholdNanos;
+    private long previousSampleNanos = NO_SAMPLE;
+    private long sampleCount;
+    private long lateSampleCount;
+    private long missedSampleCount;
+
+    /**
+     * Constructor.
+     * @param lateThresholdNanos how long after its deadline a run may start without being counted as late
+     */
+    public SamplingStatistics(final long lateThresholdNanos)
+    {
+        if(lateThresholdNanos < 0L)
+        {
+            throw new IllegalArgumentException("Late threshold must not be negative: " + lateThresholdNanos);
+        }
+        this.lateThresholdNanos = lateThresholdNanos;
+    }
+
+    /**
+     * @return the distribution of intervals, in nanoseconds, between consecutive runs since the last reset
+     */
+    public LogLinearHistogram getIntervals()
+    {
+        return intervals;
+    }
+
+    /**
+     * @return the number of runs since the last reset
+     */
+    public long getSampleCount()
+    {
+        return sampleCount;
+    }
+
+    /**
+     * @return the number of runs since the last reset that started more than the late threshold after their deadline
+     */
+    public long getLateSampleCount()
+    {
+        return lateSampleCount;
+    }
+
+    /**
+     * @return the number of runs skipped since the last reset because the agent fell behind
+     */
+    public long getMissedSampleCount()
+    {
+        return missedSampleCount;
+    }
+
+    /**
+     * Discard the recorded intervals and counts, e.g. after each report.
+     */
+    public void reset()
+    {
+        intervals.reset();
+        sampleCount = 0L;
+        lateSampleCount = 0L;
+        missedSampleCount = 0L;
+    }
+
+    void onSample(final long sampleNanos, final long latenessNanos, final long missedSamples)
+    {
+        if(previousSampleNanos != NO_SAMPLE)
+        {
+            intervals.record(sampleNanos - previousSampleNanos);
+        }
+        previousSampleNanos = sampleNanos;
+        sampleCount++;
+        if(latenessNanos > lateThresholdNanos)
+        {
+            lateSampleCount++;
+        }
+        missedSampleCount += missedSamples;
+    }
+}
@@ -0,0 +1,359 @@
+package com.lmax.angler.monitoring.network.monitor.app;
+
+import com.lmax.angler.monitoring.network.monitor.recorder.FlightRecord;
+import com.lmax.angler.monitoring.network.monitor.recorder.FlightRecordHandler;
+import com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat;
+import com.lmax.angler.monitoring.network.monitor.recorder.FlightRecordingReader;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
+import org.agrona.collections.Long2ObjectHashMap;
+
+import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports a recording written by FlightRecorder as CSV, one line per record, or as a per-socket (per-CPU) summary.
+ *
+ * Usage: ExportFlightRecordingMain recording-file [--summary] [--type udp|tcp|softnet|snmp] [--address a.b.c.d]
+ * [--port port] [--inode inode] [--from epoch-millis] [--to epoch-millis]
+ *
+ * The address, port and inode filters select socket records only; softnet and snmp records are not filtered by them.
+ * Sockets are summarised by address, port and inode, so that sockets without an inode, e.g. in TIME_WAIT, are kept apart.
+ *
+ * Records are decoded in place from the mapped file and formatted into a reusable byte buffer,
+ * so no objects are created per record.
+ */
+public final class ExportFlightRecordingMain implements FlightRecordHandler
+{
+    private static final String[] TYPE_NAMES = {"", "udp", "tcp", "softnet", "snmp"};
+    private static final long IPV4_ADDRESS_MASK = 0xFFFFFFFFL;
+    private static final int ANY = -1;
+
+    private final AsciiOutput output;
+    private final Long2ObjectHashMap<Summary>[] summaries;
+    private int type = ANY;
+    private long address = ANY;
+    private int port = ANY;
+    private long inode = ANY;
+    private long fromNanos = Long.MIN_VALUE;
+    private long toNanos = Long.MAX_VALUE;
+
+    public static void main(final String[] args) throws IOException
+    {
+        if(args.length == 0)
+        {
+            throw new IllegalArgumentException("Usage: ExportFlightRecordingMain recording-file [--summary] [--type udp|tcp|softnet|snmp] " +
+                    "[--address a.b.c.d] [--port port] [--inode inode] [--from epoch-millis] [--to epoch-millis]");
+        }
+        final AsciiOutput output = new AsciiOutput(new FileOutputStream(FileDescriptor.out));
+        final ExportFlightRecordingMain exporter = new ExportFlightRecordingMain(output, hasOption(args, "--summary"));
+        exporter.parseFilters(args);
+        try(FlightRecordingReader reader = new FlightRecordingReader(new File(args[0])))
+        {
+            exporter.export(reader);
+        }
+        output.flush();
+    }
+
+    // arrays of a generic type can only be created raw
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ExportFlightRecordingMain(final AsciiOutput output, final boolean summary)
+    {
+        this.output = output;
+        this.summaries = summary ? new Long2ObjectHashMap[TYPE_NAMES.length] : null;
+    }
+
+    void export(final FlightRecordingReader reader)
+    {
+        if(summaries == null)
+        {
+            output.append("timestamp_ns,type,address,port_or_cpu,inode,value0,value1,value2").newLine();
+            reader.read(this);
+            return;
+        }
+        for(int i = 0; i < summaries.length; i++)
+        {
+            summaries[i] = new Long2ObjectHashMap<>();
+        }
+        reader.read(this);
+        output.append("type,address,port_or_cpu,inode,records,first_timestamp_ns,last_timestamp_ns," +
+                "max_value0,delta_value0,max_value1,delta_value1,max_value2,delta_value2").newLine();
+        for(int i = 0; i < summaries.length; i++)
+        {
+            for(final Summary summary : summaries[i].values())
+            {
+                summary.appendTo(output);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onRecord(final FlightRecord record)
+    {
+        final int recordType = record.getType();
+        final long timestampNanos = record.getTimestampNanos();
+        if(recordType <= 0 || recordType >= TYPE_NAMES.length ||
+                (type != ANY && recordType != type) ||
+                timestampNanos < fromNanos || timestampNanos > toNanos ||
+                (isSocketRecord(recordType) && !matchesSocketFilters(record)))
+        {
+            return;
+        }
+
+        if(summaries == null)
+        {
+            output.append(timestampNanos).append(',').append(TYPE_NAMES[recordType]).append(',');
+            appendAddress(output, record.getSocketIdentifier());
+            output.append(',').append(record.getPortOrCpuId()).append(',').append(record.getInode()).
+                    append(',').append(record.getValue0()).append(',').append(record.getValue1()).
+                    append(',').append(record.getValue2()).newLine();
+        }
+        else
+        {
+            final long key = summaryKey(record);
+            Summary summary = summaries[recordType].get(key);
+            if(summary == null)
+            {
+                summary = new Summary(record);
+                summaries[recordType].put(key, summary);
+            }
+            summary.update(record);
+        }
+    }
+
+    private boolean matchesSocketFilters(final FlightRecord record)
+    {
+        return (port == ANY || record.getPortOrCpuId() == port) &&
+                (inode == ANY || record.getInode() == inode) &&
+                (address == ANY || (record.getSocketIdentifier() & IPV4_ADDRESS_MASK) == address);
+    }
+
+    void parseFilters(final String[] args) throws UnknownHostException
+    {
+        for(int i = 1; i < args.length; i++)
+        {
+            switch(args[i])
+            {
+                case "--summary":
+                    break;
+                case "--type":
+                    type = typeOf(args[++i]);
+                    break;
+                case "--address":
+                    address = SocketIdentifier.fromInet4Address(InetAddress.getByName(args[++i])) & IPV4_ADDRESS_MASK;
+                    break;
+                case "--port":
+                    port = Integer.parseInt(args[++i]);
+                    break;
+                case "--inode":
+                    inode = Long.parseLong(args[++i]);
+                    break;
+                case "--from":
+                    fromNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(args[++i]));
+                    break;
+                case "--to":
+                    toNanos = TimeUnit.MILLISECONDS.toNanos(Long.parseLong(args[++i]));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+    }
+
+    private static long summaryKey(final FlightRecord record)
+    {
+        // sockets are identified by address, port and inode; softnet records are distinguished by CPU
+        if(isSocketRecord(record.getType()))
+        {
+            final long addressAndPort = (long) record.getPortOrCpuId() << 32 | (record.getSocketIdentifier() & IPV4_ADDRESS_MASK);
+            return SocketIdentifier.overlayInode(addressAndPort, record.getInode());
+        }
+        return record.getType() == FlightRecorderFormat.SOFTNET_RECORD ? record.getPortOrCpuId() : 0L;
+    }
+
+    private static boolean isSocketRecord(final int recordType)
+    {
+        return recordType == FlightRecorderFormat.UDP_SOCKET_RECORD || recordType == FlightRecorderFormat.TCP_SOCKET_RECORD;
+    }
+
+    private static int typeOf(final String name)
+    {
+        for(int i = 1; i < TYPE_NAMES.length; i++)
+        {
+            if(TYPE_NAMES[i].equals(name))
+            {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown record type: " + name);
+    }
+
+    private static boolean hasOption(final String[] args, final String option)
+    {
+        for(int i = 1; i < args.length; i++)
+        {
+            if(option.equals(args[i]))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void appendAddress(final AsciiOutput output, final long socketIdentifier)
+    {
+        output.append((socketIdentifier >> 24) & 0xFF).append('.').append((socketIdentifier >> 16) & 0xFF).append('.').
+                append((socketIdentifier >> 8) & 0xFF).append('.').append(socketIdentifier & 0xFF);
+    }
+
+    private static final class Summary
+    {
+        private final int type;
+        private final int portOrCpuId;
+        private final long socketIdentifier;
+        private final long inode;
+        private final long firstTimestampNanos;
+        private final long[] firstValues = new long[3];
+        private final long[] lastValues = new long[3];
+        private final long[] maxValues = {Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE};
+        private long lastTimestampNanos;
+        private long recordCount;
+
+        Summary(final FlightRecord record)
+        {
+            type = record.getType();
+            portOrCpuId = record.getPortOrCpuId();
+            socketIdentifier = record.getSocketIdentifier();
+            inode = record.getInode();
+            firstTimestampNanos = record.getTimestampNanos();
+            firstValues[0] = record.getValue0();
+            firstValues[1] = record.getValue1();
+            firstValues[2] = record.getValue2();
+        }
+
+        void update(final FlightRecord record)
+        {
+            recordCount++;
+            lastTimestampNanos = record.getTimestampNanos();
+            lastValues[0] = record.getValue0();
+            lastValues[1] = record.getValue1();
+            lastValues[2] = record.getValue2();
+            for(int i = 0; i < lastValues.length; i++)
+            {
+                maxValues[i] = Math.max(maxValues[i], lastValues[i]);
+            }
+        }
+
+        void appendTo(final AsciiOutput output)
+        {
+            output.append(TYPE_NAMES[type]).append(',');
+            appendAddress(output, socketIdentifier);
+            output.append(',').append(portOrCpuId).append(',').append(inode).append(',').append(recordCount).
+                    append(',').append(firstTimestampNanos).append(',').append(lastTimestampNanos);
+            for(int i = 0; i < lastValues.length; i++)
+            {
+                output.append(',').append(maxValues[i]).append(',').append(lastValues[i] - firstValues[i]);
+            }
+            output.newLine();
+        }
+    }
+
+    /**
+     * Buffered ASCII output that formats numbers without creating intermediate Strings.
+     */
+    static final class AsciiOutput
+    {
+        private static final int CAPACITY = 65536;
+        private static final int MAX_LONG_DIGITS = 20;
+
+        private final OutputStream outputStream;
+        private final byte[] buffer = new byte[CAPACITY];
+        private int position;
+
+        AsciiOutput(final OutputStream outputStream)
+        {
+            this.outputStream = outputStream;
+        }
+
+        AsciiOutput append(final CharSequence value)
+        {
+            for(int i = 0; i < value.length(); i++)
+            {
+                append(value.charAt(i));
+            }
+            return this;
+        }
+
+        AsciiOutput append(final char value)
+        {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+            return this;
+        }
+
+        AsciiOutput append(final long value)
+        {
+            ensureCapacity(MAX_LONG_DIGITS);
+            if(value == Long.MIN_VALUE)
+            {
+                return append(Long.toString(value));
+            }
+            long remaining = value;
+            if(remaining < 0L)
+            {
+                buffer[position++] = '-';
+                remaining = -remaining;
+            }
+            final int start = position;
+            do
+            {
+                buffer[position++] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+            while(remaining != 0L);
+            for(int left = start, right = position - 1; left < right; left++, right--)
+            {
+                final byte digit = buffer[left];
+                buffer[left] = buffer[right];
+                buffer[right] = digit;
+            }
+            return this;
+        }
+
+        AsciiOutput newLine()
+        {
+            return append('\n');
+        }
+
+        void flush()
+        {
+            try
+            {
+                outputStream.write(buffer, 0, position);
+                outputStream.flush();
+                position = 0;
+            }
+            catch(final IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void ensureCapacity(final int length)
+        {
+            if(position + length > CAPACITY)
+            {
+                flush();
+            }
+        }
+    }
+}
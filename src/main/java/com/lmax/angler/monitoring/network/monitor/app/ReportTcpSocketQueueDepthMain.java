@@ -1,24 +1,44 @@
 package com.lmax.angler.monitoring.network.monitor.app;
 
+import com.lmax.angler.monitoring.network.monitor.agent.AnglerAgent;
+import com.lmax.angler.monitoring.network.monitor.agent.SamplingStatistics;
 import com.lmax.angler.monitoring.network.monitor.socket.SocketMonitoringLifecycleListener;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketQueueDepthHistogramHandler;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketQueueDepthHistograms;
 import com.lmax.angler.monitoring.network.monitor.socket.tcp.TcpSocketMonitor;
 import com.lmax.angler.monitoring.network.monitor.socket.tcp.TcpSocketStatisticsHandler;
+import com.lmax.angler.monitoring.network.monitor.util.LogLinearHistogram;
+import org.agrona.concurrent.AgentRunner;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.agrona.concurrent.SleepingIdleStrategy;
 
 import java.net.InetAddress;
-import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
-import java.util.concurrent.Executors;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
-import java.util.HashMap;
-import java.util.Map;
 
+/**
+ * Samples the queue depths of TCP sockets on an address, reporting their distribution once a second.
+ *
+ * Reports are formatted and printed on a separate thread, so that the sampling thread does not allocate,
+ * and the sampling statistics that are reported are not skewed by the cost of reporting.
+ */
 public final class ReportTcpSocketQueueDepthMain implements
         SocketMonitoringLifecycleListener, TcpSocketStatisticsHandler, Runnable
 {
     private static final long SAMPLE_INTERVAL_MS = Long.getLong("angler.tcp.sample.ms", 1000);
+    private static final long SAMPLE_INTERVAL_US = Long.getLong("angler.tcp.sample.us", TimeUnit.MILLISECONDS.toMicros(SAMPLE_INTERVAL_MS));
+    private static final long PARK_NS = Long.getLong("angler.tcp.park.ns", TimeUnit.MILLISECONDS.toNanos(1L));
+    private static final long REPORT_INTERVAL_MS = TimeUnit.SECONDS.toMillis(1L);
+    private static final int REPORT_COUNT = 3;
     private final TcpSocketMonitor tcpSocketMonitor;
-    private final Map<InetSocketAddress, Long> rxMaxima = new HashMap<>();
-    private final Map<InetSocketAddress, Long> txMaxima = new HashMap<>();
+    private final SocketQueueDepthHistograms queueDepthHistograms = new SocketQueueDepthHistograms();
+    // a sample starting more than a tenth of the interval after its deadline is late
+    private final SamplingStatistics samplingStatistics = new SamplingStatistics(TimeUnit.MICROSECONDS.toNanos(SAMPLE_INTERVAL_US) / 10);
+    private final OneToOneConcurrentArrayQueue<Report> freeReports = new OneToOneConcurrentArrayQueue<>(REPORT_COUNT);
+    private final OneToOneConcurrentArrayQueue<Report> completedReports = new OneToOneConcurrentArrayQueue<>(REPORT_COUNT);
+    private Report currentReport = new Report();
     private long nextReportTimestamp;
 
     public static void main(String[] args) throws UnknownHostException
@@ -32,59 +52,58 @@ public final class ReportTcpSocketQueueDepthMain implements
 
     private ReportTcpSocketQueueDepthMain(final InetAddress addressToMonitor)
     {
+        for (int i = 1; i < REPORT_COUNT; i++)
+        {
+            freeReports.offer(new Report());
+        }
         tcpSocketMonitor = new TcpSocketMonitor(this);
+        tcpSocketMonitor.recordQueueDepthsTo(queueDepthHistograms);
         tcpSocketMonitor.beginMonitoringOf(addressToMonitor);
     }
 
     private void start()
     {
-        Executors.newSingleThreadScheduledExecutor().
-                scheduleAtFixedRate(this, SAMPLE_INTERVAL_MS, SAMPLE_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        final Thread reportThread = new Thread(this::printReports, "angler-report");
+        reportThread.setDaemon(true);
+        reportThread.start();
+
+        final AnglerAgent agent = new AnglerAgent().schedule(this, SAMPLE_INTERVAL_US, TimeUnit.MICROSECONDS, samplingStatistics);
+        AgentRunner.startOnThread(agent.newSamplingAgentRunner(PARK_NS, Throwable::printStackTrace));
     }
 
     @Override
     public void run()
     {
         tcpSocketMonitor.poll(this);
-    }
-
-    @Override
-    public void onStatisticsUpdated(final InetAddress inetAddress, final int port,
-                                    final long socketIdentifier, final long inode,
-                                    final long receiveQueueDepth, final long transmitQueueDepth)
-    {
-        final InetSocketAddress key = new InetSocketAddress(inetAddress, port);
-        updateMaximum(receiveQueueDepth, rxMaxima, key);
-        updateMaximum(transmitQueueDepth, txMaxima, key);
 
-        if (System.currentTimeMillis() > nextReportTimestamp)
+        final long currentTimeMillis = System.currentTimeMillis();
+        if (currentTimeMillis > nextReportTimestamp)
         {
-            final long epochSeconds = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
-            for (final InetSocketAddress socket : rxMaxima.keySet())
+            // if the report thread has fallen behind, keep accumulating into the current report
+            final Report nextReport = freeReports.poll();
+            if (nextReport != null)
             {
-                System.out.printf("%d %s; RX: %s, TX: %s%n", epochSeconds,
-                  socket, rxMaxima.get(socket), txMaxima.get(socket));
+                currentReport.complete(TimeUnit.MILLISECONDS.toSeconds(currentTimeMillis), queueDepthHistograms, samplingStatistics);
+                samplingStatistics.reset();
+                completedReports.offer(currentReport);
+                currentReport = nextReport;
             }
-            nextReportTimestamp = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(1L);
-            rxMaxima.clear();
-            txMaxima.clear();
+            nextReportTimestamp = currentTimeMillis + REPORT_INTERVAL_MS;
         }
     }
 
-    private void updateMaximum(final long value, final Map<InetSocketAddress, Long> maxima, final InetSocketAddress key)
+    @Override
+    public void onStatisticsUpdated(final InetAddress inetAddress, final int port,
+                                    final long socketIdentifier, final long inode,
+                                    final long receiveQueueDepth, final long transmitQueueDepth)
     {
-        Long existing = maxima.get(key);
-        if (existing == null)
-        {
-            existing = 0L;
-        }
-        maxima.put(key, Math.max(existing, value));
+        // every sample is recorded to queueDepthHistograms
     }
 
     @Override
     public void socketMonitoringStarted(final InetAddress inetAddress, final int port, final long inode)
     {
-        System.out.printf("Started monitoring %s:%d%n", inetAddress, port);
+        currentReport.addStartedSocket(inetAddress, port);
     }
 
     @Override
@@ -92,4 +111,111 @@ public final class ReportTcpSocketQueueDepthMain implements
     {
         // no-op
     }
-}
\ No newline at end of file
+
+    private void printReports()
+    {
+        final IdleStrategy idleStrategy = new SleepingIdleStrategy(TimeUnit.MILLISECONDS.toNanos(10L));
+        while (!Thread.currentThread().isInterrupted())
+        {
+            final Report report = completedReports.poll();
+            if (report == null)
+            {
+                idleStrategy.idle();
+                continue;
+            }
+            report.print();
+            freeReports.offer(report);
+        }
+    }
+
+    /**
+     * Values copied from the sampling thread's histograms and statistics, to be printed on the report thread.
+     */
+    private static final class Report implements SocketQueueDepthHistogramHandler
+    {
+        private InetAddress[] startedAddresses = new InetAddress[0];
+        private int[] startedPorts = new int[0];
+        private int startedCount;
+        private InetAddress[] addresses = new InetAddress[0];
+        private int[] ports = new int[0];
+        private long[][] queueDepths = new long[6][0];
+        private int socketCount;
+        private long epochSeconds;
+        private long sampleCount;
+        private long lateSampleCount;
+        private long missedSampleCount;
+        private long intervalP50;
+        private long intervalP99;
+        private long intervalMax;
+
+        void addStartedSocket(final InetAddress inetAddress, final int port)
+        {
+            if (startedCount == startedPorts.length)
+            {
+                startedAddresses = Arrays.copyOf(startedAddresses, Math.max(8, startedCount * 2));
+                startedPorts = Arrays.copyOf(startedPorts, startedAddresses.length);
+            }
+            startedAddresses[startedCount] = inetAddress;
+            startedPorts[startedCount++] = port;
+        }
+
+        void complete(final long epochSeconds, final SocketQueueDepthHistograms histograms, final SamplingStatistics statistics)
+        {
+            this.epochSeconds = epochSeconds;
+            histograms.report(this);
+            final LogLinearHistogram intervals = statistics.getIntervals();
+            sampleCount = statistics.getSampleCount();
+            lateSampleCount = statistics.getLateSampleCount();
+            missedSampleCount = statistics.getMissedSampleCount();
+            intervalP50 = intervals.getValueAtPercentile(50d);
+            intervalP99 = intervals.getValueAtPercentile(99d);
+            intervalMax = intervals.getMaxValue();
+        }
+
+        @Override
+        public void onQueueDepthHistograms(final InetAddress inetAddress, final int port,
+                                           final long socketInstanceIdentifier,
+                                           final LogLinearHistogram receiveQueueDepths,
+                                           final LogLinearHistogram transmitQueueDepths)
+        {
+            if (socketCount == ports.length)
+            {
+                addresses = Arrays.copyOf(addresses, Math.max(8, socketCount * 2));
+                ports = Arrays.copyOf(ports, addresses.length);
+                for (int i = 0; i < queueDepths.length; i++)
+                {
+                    queueDepths[i] = Arrays.copyOf(queueDepths[i], addresses.length);
+                }
+            }
+            addresses[socketCount] = inetAddress;
+            ports[socketCount] = port;
+            queueDepths[0][socketCount] = receiveQueueDepths.getValueAtPercentile(50d);
+            queueDepths[1][socketCount] = receiveQueueDepths.getValueAtPercentile(99d);
+            queueDepths[2][socketCount] = receiveQueueDepths.getMaxValue();
+            queueDepths[3][socketCount] = transmitQueueDepths.getValueAtPercentile(50d);
+            queueDepths[4][socketCount] = transmitQueueDepths.getValueAtPercentile(99d);
+            queueDepths[5][socketCount] = transmitQueueDepths.getMaxValue();
+            socketCount++;
+        }
+
+        void print()
+        {
+            for (int i = 0; i < startedCount; i++)
+            {
+                System.out.printf("Started monitoring %s:%d%n", startedAddresses[i], startedPorts[i]);
+                startedAddresses[i] = null;
+            }
+            for (int i = 0; i < socketCount; i++)
+            {
+                System.out.printf("%d %s:%d; RX p50/p99/max: %d/%d/%d, TX p50/p99/max: %d/%d/%d%n", epochSeconds,
+                        addresses[i], ports[i], queueDepths[0][i], queueDepths[1][i], queueDepths[2][i],
+                        queueDepths[3][i], queueDepths[4][i], queueDepths[5][i]);
+                addresses[i] = null;
+            }
+            System.out.printf("%d sampling; samples: %d, late: %d, missed: %d, interval ns p50/p99/max: %d/%d/%d%n", epochSeconds,
+                    sampleCount, lateSampleCount, missedSampleCount, intervalP50, intervalP99, intervalMax);
+            startedCount = 0;
+            socketCount = 0;
+        }
+    }
+}
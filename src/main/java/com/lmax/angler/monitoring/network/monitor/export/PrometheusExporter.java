@@ -0,0 +1,391 @@
+package com.lmax.angler.monitoring.network.monitor.export;
+
+import com.lmax.angler.monitoring.network.monitor.socket.SocketMonitoringLifecycleListener;
+import com.lmax.angler.monitoring.network.monitor.socket.tcp.TcpSocketStatisticsHandler;
+import com.lmax.angler.monitoring.network.monitor.socket.udp.UdpSocketStatisticsHandler;
+import com.lmax.angler.monitoring.network.monitor.system.snmp.udp.SnmpUdpStatisticsHandler;
+import com.lmax.angler.monitoring.network.monitor.system.softnet.SoftnetStatsHandler;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.agrona.ExpandableDirectByteBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier.fromInet4Address;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier.fromPortAndInode;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier.overlayInode;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Serves the latest values reported by monitors in the Prometheus text exposition format.
+ *
+ * Pass the exporter to each monitor's poll method (and to socket monitors as their lifecycle listener, so that
+ * closed sockets are no longer exported), then call render periodically from the same thread, e.g.
+ * <pre>
+ *     agent.schedule(exporter::render, 1, TimeUnit.SECONDS);
+ * </pre>
+ *
+ * Sockets are keyed by address, port and inode, as socket monitors identify socket instances, so that sockets without
+ * an inode, e.g. TCP sockets in TIME_WAIT, are exported separately.
+ *
+ * Values are kept in primitive fields and rendered into a reused direct buffer on the polling thread.
+ * A scrape copies the most recently rendered page under a lock held only for the copy,
+ * so scrapes never wait for, or delay, a poll. Neither recording values nor rendering allocates
+ * once every socket has been seen.
+ *
+ * Handler methods and render are not thread-safe, only call them from the polling thread.
+ */
+public final class PrometheusExporter implements
+        UdpSocketStatisticsHandler, TcpSocketStatisticsHandler, SoftnetStatsHandler, SnmpUdpStatisticsHandler,
+        SocketMonitoringLifecycleListener, AutoCloseable
+{
+    private static final byte[] RECEIVE_QUEUE_FAMILY = family("angler_socket_receive_queue_bytes", "gauge",
+            "Bytes queued in the socket receive buffer.");
+    private static final byte[] TRANSMIT_QUEUE_FAMILY = family("angler_socket_transmit_queue_bytes", "gauge",
+            "Bytes queued in the socket transmit buffer.");
+    private static final byte[] DROPS_FAMILY = family("angler_socket_drops_total", "counter",
+            "Datagrams dropped by the socket.");
+    private static final byte[] SOFTNET_PROCESSED_FAMILY = family("angler_softnet_processed_total", "counter",
+            "Network frames processed by softIRQ handling, per CPU.");
+    private static final byte[] SOFTNET_SQUEEZED_FAMILY = family("angler_softnet_time_squeeze_total", "counter",
+            "Times softIRQ handling ran out of budget with work remaining, per CPU.");
+    private static final byte[] SOFTNET_DROPPED_FAMILY = family("angler_softnet_dropped_total", "counter",
+            "Network frames dropped because the backlog queue was full, per CPU.");
+    private static final byte[] UDP_IN_ERRORS_FAMILY = family("angler_udp_in_errors_total", "counter",
+            "UDP datagrams that could not be delivered (InErrors).");
+    private static final byte[] UDP_RECEIVE_BUFFER_ERRORS_FAMILY = family("angler_udp_receive_buffer_errors_total", "counter",
+            "UDP datagrams dropped because a socket receive buffer was full (RcvbufErrors).");
+    private static final byte[] UDP_IN_CHECKSUM_ERRORS_FAMILY = family("angler_udp_in_checksum_errors_total", "counter",
+            "UDP datagrams with a bad checksum (InCsumErrors).");
+    private static final byte[] RECEIVE_QUEUE = ascii("angler_socket_receive_queue_bytes");
+    private static final byte[] TRANSMIT_QUEUE = ascii("angler_socket_transmit_queue_bytes");
+    private static final byte[] DROPS = ascii("angler_socket_drops_total");
+    private static final byte[] SOFTNET_PROCESSED = ascii("angler_softnet_processed_total{cpu=\"");
+    private static final byte[] SOFTNET_SQUEEZED = ascii("angler_softnet_time_squeeze_total{cpu=\"");
+    private static final byte[] SOFTNET_DROPPED = ascii("angler_softnet_dropped_total{cpu=\"");
+    private static final byte[] UDP_IN_ERRORS = ascii("angler_udp_in_errors_total ");
+    private static final byte[] UDP_RECEIVE_BUFFER_ERRORS = ascii("angler_udp_receive_buffer_errors_total ");
+    private static final byte[] UDP_IN_CHECKSUM_ERRORS = ascii("angler_udp_in_checksum_errors_total ");
+    private static final byte[] CPU_LABEL_END = ascii("\"} ");
+    private static final int RECEIVE_QUEUE_DEPTH = 0;
+    private static final int TRANSMIT_QUEUE_DEPTH = 1;
+    private static final int SOCKET_DROPS = 2;
+
+    private final Long2ObjectHashMap<SocketMetrics> udpSockets = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<SocketMetrics> tcpSockets = new Long2ObjectHashMap<>();
+    private final Object publicationLock = new Object();
+    private boolean[] softnetPresent = new boolean[0];
+    private long[] softnetProcessed = new long[0];
+    private long[] softnetSqueezed = new long[0];
+    private long[] softnetDropped = new long[0];
+    private boolean hasSnmpUdpStatistics;
+    private long udpInErrors;
+    private long udpReceiveBufferErrors;
+    private long udpInChecksumErrors;
+
+    private ExpandableDirectByteBuffer renderBuffer = new ExpandableDirectByteBuffer(4096);
+    private ExpandableDirectByteBuffer publishedBuffer = new ExpandableDirectByteBuffer(4096);
+    private int publishedLength;
+    private byte[] responseBytes = new byte[4096];
+    private HttpServer httpServer;
+
+    /**
+     * Serve the exposition page on the path /metrics.
+     *
+     * Scrapes are handled on the HTTP server's dispatcher thread.
+     *
+     * @param bindAddress the address to listen on, e.g. new InetSocketAddress("127.0.0.1", 9404)
+     * @return this exporter
+     * @throws IOException if the server cannot be bound
+     */
+    public PrometheusExporter start(final InetSocketAddress bindAddress) throws IOException
+    {
+        httpServer = HttpServer.create(bindAddress, 0);
+        httpServer.createContext("/metrics", this::handleScrape);
+        httpServer.start();
+        return this;
+    }
+
+    /**
+     * @return the address the server is listening on
+     */
+    public InetSocketAddress getAddress()
+    {
+        return httpServer.getAddress();
+    }
+
+    /**
+     * Render the latest values, and publish them to subsequent scrapes.
+     */
+    public void render()
+    {
+        final ExpandableDirectByteBuffer buffer = renderBuffer;
+        int position = 0;
+        position = renderSocketFamily(buffer, position, RECEIVE_QUEUE_FAMILY, RECEIVE_QUEUE, RECEIVE_QUEUE_DEPTH, true);
+        position = renderSocketFamily(buffer, position, TRANSMIT_QUEUE_FAMILY, TRANSMIT_QUEUE, TRANSMIT_QUEUE_DEPTH, true);
+        position = renderSocketFamily(buffer, position, DROPS_FAMILY, DROPS, SOCKET_DROPS, false);
+        position = renderSoftnetFamily(buffer, position, SOFTNET_PROCESSED_FAMILY, SOFTNET_PROCESSED, softnetProcessed);
+        position = renderSoftnetFamily(buffer, position, SOFTNET_SQUEEZED_FAMILY, SOFTNET_SQUEEZED, softnetSqueezed);
+        position = renderSoftnetFamily(buffer, position, SOFTNET_DROPPED_FAMILY, SOFTNET_DROPPED, softnetDropped);
+        if(hasSnmpUdpStatistics)
+        {
+            position = renderSample(buffer, position, UDP_IN_ERRORS_FAMILY, UDP_IN_ERRORS, udpInErrors);
+            position = renderSample(buffer, position, UDP_RECEIVE_BUFFER_ERRORS_FAMILY, UDP_RECEIVE_BUFFER_ERRORS, udpReceiveBufferErrors);
+            position = renderSample(buffer, position, UDP_IN_CHECKSUM_ERRORS_FAMILY, UDP_IN_CHECKSUM_ERRORS, udpInChecksumErrors);
+        }
+
+        synchronized (publicationLock)
+        {
+            renderBuffer = publishedBuffer;
+            publishedBuffer = buffer;
+            publishedLength = position;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onStatisticsUpdated(
+            final InetAddress inetAddress,
+            final int port,
+            final long socketIdentifier,
+            final long inode,
+            final long receiveQueueDepth,
+            final long transmitQueueDepth,
+            final long drops)
+    {
+        final SocketMetrics socket = socketMetrics(udpSockets, "udp", inetAddress, port, inode);
+        socket.values[RECEIVE_QUEUE_DEPTH] = receiveQueueDepth;
+        socket.values[TRANSMIT_QUEUE_DEPTH] = transmitQueueDepth;
+        socket.values[SOCKET_DROPS] = drops;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onStatisticsUpdated(
+            final InetAddress inetAddress,
+            final int port,
+            final long socketIdentifier,
+            final long inode,
+            final long receiveQueueDepth,
+            final long transmitQueueDepth)
+    {
+        final SocketMetrics socket = socketMetrics(tcpSockets, "tcp", inetAddress, port, inode);
+        socket.values[RECEIVE_QUEUE_DEPTH] = receiveQueueDepth;
+        socket.values[TRANSMIT_QUEUE_DEPTH] = transmitQueueDepth;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void perCpuStatistics(final int cpuId, final long processed, final long squeezed, final long dropped)
+    {
+        if(cpuId >= softnetProcessed.length)
+        {
+            softnetPresent = Arrays.copyOf(softnetPresent, cpuId + 1);
+            softnetProcessed = Arrays.copyOf(softnetProcessed, cpuId + 1);
+            softnetSqueezed = Arrays.copyOf(softnetSqueezed, cpuId + 1);
+            softnetDropped = Arrays.copyOf(softnetDropped, cpuId + 1);
+        }
+        softnetPresent[cpuId] = true;
+        softnetProcessed[cpuId] = processed;
+        softnetSqueezed[cpuId] = squeezed;
+        softnetDropped[cpuId] = dropped;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onStatisticsUpdated(final long inErrors, final long receiveBufferErrors, final long inChecksumErrors)
+    {
+        hasSnmpUdpStatistics = true;
+        udpInErrors = inErrors;
+        udpReceiveBufferErrors = receiveBufferErrors;
+        udpInChecksumErrors = inChecksumErrors;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void socketMonitoringStarted(final InetAddress inetAddress, final int port, final long inode)
+    {
+        // sockets are exported once their statistics are first reported
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void socketMonitoringStopped(final InetAddress inetAddress, final int port, final long inode)
+    {
+        final long socketInstanceIdentifier = socketInstanceIdentifier(inetAddress, port, inode);
+        udpSockets.remove(socketInstanceIdentifier);
+        tcpSockets.remove(socketInstanceIdentifier);
+    }
+
+    /**
+     * Stop serving scrapes.
+     */
+    @Override
+    public void close()
+    {
+        if(httpServer != null)
+        {
+            httpServer.stop(0);
+        }
+    }
+
+    private void handleScrape(final HttpExchange exchange) throws IOException
+    {
+        final int length;
+        synchronized (publicationLock)
+        {
+            length = publishedLength;
+            if(responseBytes.length < length)
+            {
+                responseBytes = new byte[publishedBuffer.capacity()];
+            }
+            publishedBuffer.getBytes(0, responseBytes, 0, length);
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        exchange.sendResponseHeaders(200, length == 0 ? -1 : length);
+        try (OutputStream responseBody = exchange.getResponseBody())
+        {
+            responseBody.write(responseBytes, 0, length);
+        }
+    }
+
+    private int renderSocketFamily(
+            final ExpandableDirectByteBuffer buffer, final int startPosition, final byte[] family,
+            final byte[] metricName, final int valueIndex, final boolean includeTcp)
+    {
+        if(udpSockets.isEmpty() && (!includeTcp || tcpSockets.isEmpty()))
+        {
+            return startPosition;
+        }
+        int position = putBytes(buffer, startPosition, family);
+        position = renderSockets(buffer, position, udpSockets, metricName, valueIndex);
+        if(includeTcp)
+        {
+            position = renderSockets(buffer, position, tcpSockets, metricName, valueIndex);
+        }
+        return position;
+    }
+
+    private static int renderSockets(
+            final ExpandableDirectByteBuffer buffer, final int startPosition, final Long2ObjectHashMap<SocketMetrics> sockets,
+            final byte[] metricName, final int valueIndex)
+    {
+        int position = startPosition;
+        for (final SocketMetrics socket : sockets.values())
+        {
+            position = putBytes(buffer, position, metricName);
+            position = putBytes(buffer, position, socket.labels);
+            position = putValue(buffer, position, socket.values[valueIndex]);
+        }
+        return position;
+    }
+
+    private int renderSoftnetFamily(
+            final ExpandableDirectByteBuffer buffer, final int startPosition, final byte[] family,
+            final byte[] metricNameAndLabel, final long[] values)
+    {
+        if(values.length == 0)
+        {
+            return startPosition;
+        }
+        int position = putBytes(buffer, startPosition, family);
+        for (int cpuId = 0; cpuId < values.length; cpuId++)
+        {
+            if(!softnetPresent[cpuId])
+            {
+                // CPUs that have never been reported, e.g. offline or isolated CPUs, are not exported
+                continue;
+            }
+            position = putBytes(buffer, position, metricNameAndLabel);
+            position += buffer.putIntAscii(position, cpuId);
+            position = putBytes(buffer, position, CPU_LABEL_END);
+            position = putValue(buffer, position, values[cpuId]);
+        }
+        return position;
+    }
+
+    private static int renderSample(
+            final ExpandableDirectByteBuffer buffer, final int startPosition, final byte[] family,
+            final byte[] metricName, final long value)
+    {
+        final int position = putBytes(buffer, startPosition, family);
+        return putValue(buffer, putBytes(buffer, position, metricName), value);
+    }
+
+    private static int putBytes(final ExpandableDirectByteBuffer buffer, final int position, final byte[] bytes)
+    {
+        buffer.putBytes(position, bytes);
+        return position + bytes.length;
+    }
+
+    private static int putValue(final ExpandableDirectByteBuffer buffer, final int startPosition, final long value)
+    {
+        final int position = startPosition + buffer.putLongAscii(startPosition, value);
+        buffer.putByte(position, (byte) '\n');
+        return position + 1;
+    }
+
+    private static SocketMetrics socketMetrics(
+            final Long2ObjectHashMap<SocketMetrics> sockets, final String protocol,
+            final InetAddress inetAddress, final int port, final long inode)
+    {
+        final long socketInstanceIdentifier = socketInstanceIdentifier(inetAddress, port, inode);
+        SocketMetrics socket = sockets.get(socketInstanceIdentifier);
+        if(socket == null)
+        {
+            socket = new SocketMetrics(ascii("{protocol=\"" + protocol + "\",address=\"" + inetAddress.getHostAddress() +
+                    "\",port=\"" + port + "\",inode=\"" + inode + "\"} "));
+            sockets.put(socketInstanceIdentifier, socket);
+        }
+        return socket;
+    }
+
+    private static long socketInstanceIdentifier(final InetAddress inetAddress, final int port, final long inode)
+    {
+        if(inetAddress instanceof Inet4Address)
+        {
+            return overlayInode((long) port << 32 | fromInet4Address(inetAddress), inode);
+        }
+        return fromPortAndInode(port, inode);
+    }
+
+    private static byte[] family(final String name, final String type, final String help)
+    {
+        return ascii("# HELP " + name + " " + help + "\n# TYPE " + name + " " + type + "\n");
+    }
+
+    private static byte[] ascii(final String value)
+    {
+        return value.getBytes(US_ASCII);
+    }
+
+    private static final class SocketMetrics
+    {
+        private final byte[] labels;
+        private final long[] values = new long[3];
+
+        SocketMetrics(final byte[] labels)
+        {
+            this.labels = labels;
+        }
+    }
+}
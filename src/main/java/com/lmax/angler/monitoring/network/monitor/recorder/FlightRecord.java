@@ -0,0 +1,106 @@
+package com.lmax.angler.monitoring.network.monitor.recorder;
+
+import org.agrona.DirectBuffer;
+
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.INODE_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.PORT_OR_CPU_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.SOCKET_IDENTIFIER_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.TIMESTAMP_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.TYPE_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VALUE_0_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VALUE_1_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VALUE_2_OFFSET;
+
+/**
+ * Flyweight over a record in a flight recording; values are read from a copy of the record taken by the reader,
+ * so are not affected by the record being overwritten during the callback.
+ *
+ * Only valid for the duration of the callback that supplied it.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class FlightRecord
+{
+    private DirectBuffer buffer;
+    private int offset;
+    private long sequence;
+
+    void wrap(final DirectBuffer buffer, final int offset, final long sequence)
+    {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.sequence = sequence;
+    }
+
+    /**
+     * @return the position of the record in the recording, starting from zero
+     */
+    public long getSequence()
+    {
+        return sequence;
+    }
+
+    /**
+     * @return the record type, e.g. FlightRecorderFormat.UDP_SOCKET_RECORD
+     */
+    public int getType()
+    {
+        return buffer.getInt(offset + TYPE_OFFSET);
+    }
+
+    /**
+     * @return the socket port for socket records, or the CPU id for softnet records
+     */
+    public int getPortOrCpuId()
+    {
+        return buffer.getInt(offset + PORT_OR_CPU_OFFSET);
+    }
+
+    /**
+     * @return the time the record was written, in nanoseconds since the epoch
+     */
+    public long getTimestampNanos()
+    {
+        return buffer.getLong(offset + TIMESTAMP_OFFSET);
+    }
+
+    /**
+     * @return the socket identifier for socket records
+     */
+    public long getSocketIdentifier()
+    {
+        return buffer.getLong(offset + SOCKET_IDENTIFIER_OFFSET);
+    }
+
+    /**
+     * @return the socket inode for socket records
+     */
+    public long getInode()
+    {
+        return buffer.getLong(offset + INODE_OFFSET);
+    }
+
+    /**
+     * @return receive queue depth, processed or InErrors, depending on the record type
+     */
+    public long getValue0()
+    {
+        return buffer.getLong(offset + VALUE_0_OFFSET);
+    }
+
+    /**
+     * @return transmit queue depth, squeezed or RcvbufErrors, depending on the record type
+     */
+    public long getValue1()
+    {
+        return buffer.getLong(offset + VALUE_1_OFFSET);
+    }
+
+    /**
+     * @return drops, dropped or InCsumErrors, depending on the record type
+     */
+    public long getValue2()
+    {
+        return buffer.getLong(offset + VALUE_2_OFFSET);
+    }
+}
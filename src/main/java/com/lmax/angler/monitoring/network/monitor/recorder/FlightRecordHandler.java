@@ -0,0 +1,14 @@
+package com.lmax.angler.monitoring.network.monitor.recorder;
+
+/**
+ * Callback for records read from a flight recording.
+ */
+@FunctionalInterface
+public interface FlightRecordHandler
+{
+    /**
+     * Callback method.
+     * @param record the record, only valid for the duration of the call
+     */
+    void onRecord(final FlightRecord record);
+}
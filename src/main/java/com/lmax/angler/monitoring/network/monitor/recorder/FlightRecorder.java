@@ -0,0 +1,193 @@
+package com.lmax.angler.monitoring.network.monitor.recorder;
+
+import com.lmax.angler.monitoring.network.monitor.socket.tcp.TcpSocketStatisticsHandler;
+import com.lmax.angler.monitoring.network.monitor.socket.udp.UdpSocketStatisticsHandler;
+import com.lmax.angler.monitoring.network.monitor.system.snmp.udp.SnmpUdpStatisticsHandler;
+import com.lmax.angler.monitoring.network.monitor.system.softnet.SoftnetStatsHandler;
+import org.agrona.IoUtil;
+import org.agrona.UnsafeAccess;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.File;
+import java.net.InetAddress;
+import java.nio.MappedByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.CAPACITY_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.COMMIT_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.INODE_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.MAGIC;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.MAGIC_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.MAX_CAPACITY;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.PORT_OR_CPU_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.RECORD_LENGTH;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.RECORD_LENGTH_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.SNMP_UDP_RECORD;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.SOCKET_IDENTIFIER_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.SOFTNET_RECORD;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.TCP_SOCKET_RECORD;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.TIMESTAMP_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.TYPE_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.UDP_SOCKET_RECORD;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.UNAVAILABLE;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VALUE_0_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VALUE_1_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VALUE_2_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VERSION;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VERSION_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.WRITE_SEQUENCE_OFFSET;
+
+/**
+ * Records the values reported by monitors into a fixed-size, memory-mapped ring buffer file, overwriting the oldest
+ * records once full. The layout is described by FlightRecorderFormat.
+ *
+ * Pass the recorder to a monitor's poll method in place of (or from within) another handler.
+ * Writes go straight to the mapped pages, so the recording survives the JVM crashing
+ * (but not the host crashing, unless force is called); a record is only visible once fully written.
+ *
+ * Recording does not allocate.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class FlightRecorder implements
+        UdpSocketStatisticsHandler, TcpSocketStatisticsHandler, SoftnetStatsHandler, SnmpUdpStatisticsHandler, AutoCloseable
+{
+    private final MappedByteBuffer mappedBuffer;
+    private final UnsafeBuffer buffer;
+    private final long capacity;
+    private final NanoClock epochNanoClock;
+    private long sequence;
+
+    /**
+     * Create a recording file; fails if the file exists, so that an earlier recording is never overwritten.
+     * @param file the recording file
+     * @param capacity the number of records to retain
+     */
+    public FlightRecorder(final File file, final long capacity)
+    {
+        this(file, capacity, systemEpochNanoClock());
+    }
+
+    FlightRecorder(final File file, final long capacity, final NanoClock epochNanoClock)
+    {
+        if(capacity <= 0L || capacity > MAX_CAPACITY)
+        {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        }
+        this.capacity = capacity;
+        this.epochNanoClock = epochNanoClock;
+        this.mappedBuffer = IoUtil.mapNewFile(file, FlightRecorderFormat.fileLength(capacity));
+        this.buffer = new UnsafeBuffer(mappedBuffer);
+
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(RECORD_LENGTH_OFFSET, RECORD_LENGTH);
+        buffer.putLong(CAPACITY_OFFSET, capacity);
+        buffer.putLongOrdered(WRITE_SEQUENCE_OFFSET, 0L);
+        buffer.putLongOrdered(MAGIC_OFFSET, MAGIC);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onStatisticsUpdated(
+            final InetAddress inetAddress,
+            final int port,
+            final long socketIdentifier,
+            final long inode,
+            final long receiveQueueDepth,
+            final long transmitQueueDepth,
+            final long drops)
+    {
+        record(UDP_SOCKET_RECORD, port, socketIdentifier, inode, receiveQueueDepth, transmitQueueDepth, drops);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onStatisticsUpdated(
+            final InetAddress inetAddress,
+            final int port,
+            final long socketIdentifier,
+            final long inode,
+            final long receiveQueueDepth,
+            final long transmitQueueDepth)
+    {
+        record(TCP_SOCKET_RECORD, port, socketIdentifier, inode, receiveQueueDepth, transmitQueueDepth, UNAVAILABLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void perCpuStatistics(final int cpuId, final long processed, final long squeezed, final long dropped)
+    {
+        record(SOFTNET_RECORD, cpuId, 0L, 0L, processed, squeezed, dropped);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onStatisticsUpdated(final long inErrors, final long receiveBufferErrors, final long inChecksumErrors)
+    {
+        record(SNMP_UDP_RECORD, 0, 0L, 0L, inErrors, receiveBufferErrors, inChecksumErrors);
+    }
+
+    /**
+     * @return the number of records written since the file was created
+     */
+    public long getRecordCount()
+    {
+        return sequence;
+    }
+
+    /**
+     * Flush the recording to the storage device, so that it also survives the host crashing.
+     */
+    public void force()
+    {
+        mappedBuffer.force();
+    }
+
+    /**
+     * Flush and unmap the recording file.
+     */
+    @Override
+    public void close()
+    {
+        force();
+        IoUtil.unmap(mappedBuffer);
+    }
+
+    private void record(
+            final int type, final int portOrCpu, final long socketIdentifier, final long inode,
+            final long value0, final long value1, final long value2)
+    {
+        final int offset = FlightRecorderFormat.recordOffset(sequence, capacity);
+        // invalidate the slot before overwriting it, so that a torn record is never read as complete;
+        // the fence stops the following stores becoming visible before the slot is invalidated
+        buffer.putLongOrdered(offset + COMMIT_OFFSET, 0L);
+        UnsafeAccess.UNSAFE.storeFence();
+        buffer.putInt(offset + TYPE_OFFSET, type);
+        buffer.putInt(offset + PORT_OR_CPU_OFFSET, portOrCpu);
+        buffer.putLong(offset + TIMESTAMP_OFFSET, epochNanoClock.nanoTime());
+        buffer.putLong(offset + SOCKET_IDENTIFIER_OFFSET, socketIdentifier);
+        buffer.putLong(offset + INODE_OFFSET, inode);
+        buffer.putLong(offset + VALUE_0_OFFSET, value0);
+        buffer.putLong(offset + VALUE_1_OFFSET, value1);
+        buffer.putLong(offset + VALUE_2_OFFSET, value2);
+        buffer.putLongOrdered(offset + COMMIT_OFFSET, sequence + 1);
+
+        sequence++;
+        buffer.putLongOrdered(WRITE_SEQUENCE_OFFSET, sequence);
+    }
+
+    private static NanoClock systemEpochNanoClock()
+    {
+        final long epochOffsetNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()) - System.nanoTime();
+        return () -> epochOffsetNanos + System.nanoTime();
+    }
+}
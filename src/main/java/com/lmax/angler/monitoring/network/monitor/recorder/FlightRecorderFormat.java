@@ -0,0 +1,89 @@
+package com.lmax.angler.monitoring.network.monitor.recorder;
+
+/**
+ * Layout of a flight recording file, written by FlightRecorder.
+ *
+ * The file is a 64-byte header followed by a ring of fixed-length 64-byte records; values are in native byte order
+ * (little-endian on x86-64 and aarch64), so that they can be written and read with ordered memory accesses.
+ *
+ * Header:
+ * <pre>
+ *   0  long  magic
+ *   8  int   version
+ *  12  int   record length
+ *  16  long  capacity, in records
+ *  24  long  number of records written, the sequence of the next record
+ * </pre>
+ *
+ * Record (the record with sequence n is held in slot n % capacity):
+ * <pre>
+ *   0  int   record type
+ *   4  int   port (socket records) or cpu id (softnet records)
+ *   8  long  timestamp, nanoseconds since the epoch
+ *  16  long  socket identifier (socket records)
+ *  24  long  inode (socket records)
+ *  32  long  receive queue depth, processed or InErrors
+ *  40  long  transmit queue depth, squeezed or RcvbufErrors
+ *  48  long  drops, dropped or InCsumErrors
+ *  56  long  sequence + 1, written last, zero until the record is complete
+ * </pre>
+ */
+public final class FlightRecorderFormat
+{
+    public static final long MAGIC = 0x5246524C474E41L; // "ANGLRFR" when read as little-endian ASCII
+    public static final int VERSION = 1;
+
+    public static final int HEADER_LENGTH = 64;
+    public static final int MAGIC_OFFSET = 0;
+    public static final int VERSION_OFFSET = 8;
+    public static final int RECORD_LENGTH_OFFSET = 12;
+    public static final int CAPACITY_OFFSET = 16;
+    public static final int WRITE_SEQUENCE_OFFSET = 24;
+
+    public static final int RECORD_LENGTH = 64;
+    public static final int TYPE_OFFSET = 0;
+    public static final int PORT_OR_CPU_OFFSET = 4;
+    public static final int TIMESTAMP_OFFSET = 8;
+    public static final int SOCKET_IDENTIFIER_OFFSET = 16;
+    public static final int INODE_OFFSET = 24;
+    public static final int VALUE_0_OFFSET = 32;
+    public static final int VALUE_1_OFFSET = 40;
+    public static final int VALUE_2_OFFSET = 48;
+    public static final int COMMIT_OFFSET = 56;
+
+    public static final int UDP_SOCKET_RECORD = 1;
+    public static final int TCP_SOCKET_RECORD = 2;
+    public static final int SOFTNET_RECORD = 3;
+    public static final int SNMP_UDP_RECORD = 4;
+
+    /**
+     * Value of a column that the record type does not have, e.g. drops for a TCP socket.
+     */
+    public static final long UNAVAILABLE = -1L;
+
+    /**
+     * Largest capacity whose file can be mapped as a single buffer.
+     */
+    public static final long MAX_CAPACITY = (Integer.MAX_VALUE - HEADER_LENGTH) / RECORD_LENGTH;
+
+    private FlightRecorderFormat() {}
+
+    /**
+     * @param capacity the number of records
+     * @return the length of a recording file holding capacity records
+     */
+    public static long fileLength(final long capacity)
+    {
+        return HEADER_LENGTH + capacity * RECORD_LENGTH;
+    }
+
+    /**
+     * @param sequence the sequence of a record
+     * @param capacity the number of records in the file
+     * @return the offset of the record in the file
+     */
+    public static int recordOffset(final long sequence, final long capacity)
+    {
+        return HEADER_LENGTH + (int) (sequence % capacity) * RECORD_LENGTH;
+    }
+}
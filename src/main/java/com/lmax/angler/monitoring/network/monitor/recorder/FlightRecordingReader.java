@@ -0,0 +1,114 @@
+package com.lmax.angler.monitoring.network.monitor.recorder;
+
+import org.agrona.IoUtil;
+import org.agrona.UnsafeAccess;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.File;
+import java.nio.MappedByteBuffer;
+
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.CAPACITY_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.COMMIT_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.HEADER_LENGTH;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.MAGIC;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.MAGIC_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.RECORD_LENGTH;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.RECORD_LENGTH_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VERSION;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VERSION_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.WRITE_SEQUENCE_OFFSET;
+
+/**
+ * Reads a recording written by FlightRecorder, by memory-mapping the file and passing a flyweight over each record
+ * to a handler; no objects are created per record.
+ *
+ * A recording may be read while it is being written, but records overwritten during the read are skipped:
+ * each record is copied, and only passed to the handler if its commit word was unchanged by the time the copy completed.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class FlightRecordingReader implements AutoCloseable
+{
+    private final MappedByteBuffer mappedBuffer;
+    private final UnsafeBuffer buffer;
+    private final FlightRecord record = new FlightRecord();
+    private final UnsafeBuffer recordCopy = new UnsafeBuffer(new byte[RECORD_LENGTH]);
+    private final long capacity;
+
+    /**
+     * Map an existing recording.
+     * @param file the recording file
+     */
+    public FlightRecordingReader(final File file)
+    {
+        mappedBuffer = IoUtil.mapExistingFile(file, "flight recording");
+        buffer = new UnsafeBuffer(mappedBuffer);
+        if(buffer.capacity() < HEADER_LENGTH ||
+                buffer.getLongVolatile(MAGIC_OFFSET) != MAGIC ||
+                buffer.getInt(VERSION_OFFSET) != VERSION ||
+                buffer.getInt(RECORD_LENGTH_OFFSET) != RECORD_LENGTH)
+        {
+            IoUtil.unmap(mappedBuffer);
+            throw new IllegalArgumentException("Not a version " + VERSION + " flight recording: " + file);
+        }
+        capacity = buffer.getLong(CAPACITY_OFFSET);
+        if(capacity <= 0L || FlightRecorderFormat.fileLength(capacity) > buffer.capacity())
+        {
+            IoUtil.unmap(mappedBuffer);
+            throw new IllegalArgumentException("Truncated flight recording: " + file);
+        }
+    }
+
+    /**
+     * @return the number of records the recording retains
+     */
+    public long getCapacity()
+    {
+        return capacity;
+    }
+
+    /**
+     * @return the number of records written to the recording, including those since overwritten
+     */
+    public long getRecordCount()
+    {
+        return buffer.getLongVolatile(WRITE_SEQUENCE_OFFSET);
+    }
+
+    /**
+     * Pass each retained record, oldest first, to the handler.
+     * @param handler the callback for records
+     * @return the number of records read
+     */
+    public long read(final FlightRecordHandler handler)
+    {
+        final long endSequence = getRecordCount();
+        long readCount = 0L;
+        for(long sequence = Math.max(0L, endSequence - capacity); sequence < endSequence; sequence++)
+        {
+            final int offset = FlightRecorderFormat.recordOffset(sequence, capacity);
+            // the commit word holds sequence + 1 once the record is complete, and is cleared before it is overwritten
+            if(buffer.getLongVolatile(offset + COMMIT_OFFSET) == sequence + 1)
+            {
+                buffer.getBytes(offset, recordCopy, 0, RECORD_LENGTH);
+                UnsafeAccess.UNSAFE.loadFence();
+                if(buffer.getLongVolatile(offset + COMMIT_OFFSET) == sequence + 1)
+                {
+                    record.wrap(recordCopy, 0, sequence);
+                    handler.onRecord(record);
+                    readCount++;
+                }
+            }
+        }
+        return readCount;
+    }
+
+    /**
+     * Unmap the recording file.
+     */
+    @Override
+    public void close()
+    {
+        IoUtil.unmap(mappedBuffer);
+    }
+}
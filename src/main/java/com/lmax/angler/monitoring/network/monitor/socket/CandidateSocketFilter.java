@@ -0,0 +1,86 @@
+package com.lmax.angler.monitoring.network.monitor.socket;
+
+import org.agrona.collections.LongHashSet;
+
+import java.util.function.LongPredicate;
+
+/**
+ * Coarse pre-filter for socket identifiers, used to discard rows of /proc data before their remaining columns are decoded.
+ *
+ * May report a socket as a candidate when no request matches it exactly, but never rejects a socket that a request matches.
+ *
+ * Immutable once published; populate before sharing between threads.
+ */
+public final class CandidateSocketFilter implements LongPredicate
+{
+    private static final int MATCH_ALL_PORTS = 0;
+    private static final long IPV4_ADDRESS_MASK = 0xFFFFFFFFL;
+
+    private final long[] ports = new long[65536 / Long.SIZE];
+    private final LongHashSet ipv4Addresses;
+    private final boolean matchAnyAddress;
+
+    /**
+     * Create a filter that matches any address on the candidate ports.
+     * @return the filter
+     */
+    public static CandidateSocketFilter forPortsOnly()
+    {
+        return new CandidateSocketFilter(null);
+    }
+
+    /**
+     * Create a filter that matches candidate ports on candidate IPv4 addresses.
+     * @param expectedAddressCount the expected number of candidate addresses
+     * @return the filter
+     */
+    public static CandidateSocketFilter forIpv4Addresses(final int expectedAddressCount)
+    {
+        return new CandidateSocketFilter(new LongHashSet(Math.max(expectedAddressCount * 2, 8)));
+    }
+
+    private CandidateSocketFilter(final LongHashSet ipv4Addresses)
+    {
+        this.ipv4Addresses = ipv4Addresses;
+        this.matchAnyAddress = ipv4Addresses == null;
+    }
+
+    /**
+     * Add the address and port of a requested socket identifier, ignoring any inode.
+     * @param socketIdentifier an identifier produced by SocketIdentifier
+     */
+    public void addSocketIdentifier(final long socketIdentifier)
+    {
+        addPort(SocketIdentifier.extractPortNumber(socketIdentifier));
+        if(!matchAnyAddress)
+        {
+            ipv4Addresses.add(socketIdentifier & IPV4_ADDRESS_MASK);
+        }
+    }
+
+    /**
+     * Add a requested port, where zero matches all ports.
+     * @param port the port
+     */
+    public void addPort(final int port)
+    {
+        ports[port >>> 6] |= 1L << port;
+    }
+
+    /**
+     * Test whether a socket identifier could match a request.
+     * @param socketIdentifier an identifier produced by SocketIdentifier
+     * @return false if no request can match the socket
+     */
+    @Override
+    public boolean test(final long socketIdentifier)
+    {
+        return (hasPort(SocketIdentifier.extractPortNumber(socketIdentifier)) || hasPort(MATCH_ALL_PORTS)) &&
+                (matchAnyAddress || ipv4Addresses.contains(socketIdentifier & IPV4_ADDRESS_MASK));
+    }
+
+    private boolean hasPort(final int port)
+    {
+        return (ports[port >>> 6] & (1L << port)) != 0L;
+    }
+}
@@ -12,14 +12,15 @@ public final class CandidateSockets
 {
     private static final float AGRONA_DEFAULT_LOAD_FACTOR = 0.67f;
 
-    private final AtomicReference<Long2ObjectHashMap<InetSocketAddress>> candidateSockets =
-            new AtomicReference<>(new Long2ObjectHashMap<>());
+    private final AtomicReference<Snapshot> candidateSockets =
+            new AtomicReference<>(new Snapshot(new Long2ObjectHashMap<>()));
 
     public void beginMonitoringSocketIdentifier(final InetSocketAddress socketAddress, final long socketIdentifier)
     {
         while (true)
         {
-            final Long2ObjectHashMap<InetSocketAddress> candidateSnapshot = candidateSockets.get();
+            final Snapshot snapshot = candidateSockets.get();
+            final Long2ObjectHashMap<InetSocketAddress> candidateSnapshot = snapshot.sockets;
             final Long2ObjectHashMap<InetSocketAddress> updated = new Long2ObjectHashMap<>(candidateSnapshot.size(), AGRONA_DEFAULT_LOAD_FACTOR);
 
             final Long2ObjectHashMap<InetSocketAddress>.KeyIterator keyIterator = candidateSnapshot.keySet().iterator();
@@ -31,7 +32,7 @@ public final class CandidateSockets
 
             updated.put(socketIdentifier, socketAddress);
 
-            if (candidateSockets.compareAndSet(candidateSnapshot, updated))
+            if (candidateSockets.compareAndSet(snapshot, new Snapshot(updated)))
             {
                 break;
             }
@@ -42,7 +43,8 @@ public final class CandidateSockets
     {
         while (true)
         {
-            final Long2ObjectHashMap<InetSocketAddress> candidateSnapshot = candidateSockets.get();
+            final Snapshot snapshot = candidateSockets.get();
+            final Long2ObjectHashMap<InetSocketAddress> candidateSnapshot = snapshot.sockets;
             final Long2ObjectHashMap<InetSocketAddress> updated = new Long2ObjectHashMap<>(candidateSnapshot.size(), AGRONA_DEFAULT_LOAD_FACTOR);
 
             final Long2ObjectHashMap<InetSocketAddress>.KeyIterator keyIterator = candidateSnapshot.keySet().iterator();
@@ -55,7 +57,7 @@ public final class CandidateSockets
                 }
             }
 
-            if (candidateSockets.compareAndSet(candidateSnapshot, updated))
+            if (candidateSockets.compareAndSet(snapshot, new Snapshot(updated)))
             {
                 break;
             }
@@ -64,6 +66,31 @@ public final class CandidateSockets
 
     public Long2ObjectHashMap<InetSocketAddress> getSnapshot()
     {
-        return candidateSockets.get();
+        return candidateSockets.get().sockets;
+    }
+
+    /**
+     * @return a filter matching at least the sockets in the current snapshot
+     */
+    public CandidateSocketFilter getFilter()
+    {
+        return candidateSockets.get().filter;
+    }
+
+    private static final class Snapshot
+    {
+        private final Long2ObjectHashMap<InetSocketAddress> sockets;
+        private final CandidateSocketFilter filter;
+
+        Snapshot(final Long2ObjectHashMap<InetSocketAddress> sockets)
+        {
+            this.sockets = sockets;
+            this.filter = CandidateSocketFilter.forIpv4Addresses(sockets.size());
+            final Long2ObjectHashMap<InetSocketAddress>.KeyIterator keyIterator = sockets.keySet().iterator();
+            while(keyIterator.hasNext())
+            {
+                filter.addSocketIdentifier(keyIterator.nextLong());
+            }
+        }
     }
 }
@@ -1,6 +1,8 @@
 package com.lmax.angler.monitoring.network.monitor.socket;
 
 
+import com.lmax.angler.monitoring.network.monitor.util.SwarDecoder;
+
 import java.net.Inet6Address;
 import java.nio.ByteBuffer;
 import java.util.function.BiConsumer;
@@ -8,14 +10,39 @@ import java.util.function.BiConsumer;
 public final class IPv6SocketKeyEncoder implements BiConsumer<InodeIdentifiedSocketDescriptor, ByteBuffer>
 {
     public static final int KEY_LENGTH = 28;
+    public static final int ADDRESS_LENGTH = 16;
+    public static final int PORT_OFFSET = 16;
+    public static final int INODE_OFFSET = 20;
+    public static final int HEX_ENCODED_ADDRESS_LENGTH = 32;
+    private static final int HEX_ENCODED_WORD_LENGTH = 8;
 
     @Override
     public void accept(final InodeIdentifiedSocketDescriptor descriptor, final ByteBuffer buffer)
     {
         final Inet6Address address = (Inet6Address) descriptor.getSocketAddress().getAddress();
-        // generates garbage :(
+        // generates garbage :( only used when registering sockets, polling uses keys encoded from /proc data
         buffer.put(address.getAddress());
         buffer.putInt(descriptor.getSocketAddress().getPort());
         buffer.putLong(descriptor.getInode());
     }
+
+    /**
+     * Decode a hex-encoded IPv6 address, as written by the kernel in /proc/net/tcp6 and /proc/net/udp6,
+     * into the address portion of an encoded key.
+     * @param src buffer containing the hex-encoded address
+     * @param startPosition the start position of the address in the source buffer
+     * @param encodedKey the key buffer, whose first 16 bytes will receive the address in network byte order
+     * @param decoder the hex decoder, whose error flag is set if the address is invalid
+     */
+    public static void encodeLinuxKernelHexEncodedAddress(
+            final ByteBuffer src, final int startPosition, final ByteBuffer encodedKey, final SwarDecoder decoder)
+    {
+        // kernel prints each 32-bit word of the address in host (little-endian) byte order
+        for(int word = 0; word < ADDRESS_LENGTH / 4; word++)
+        {
+            final int wordStart = startPosition + word * HEX_ENCODED_WORD_LENGTH;
+            final long decodedWord = decoder.decodeHex(src, wordStart, wordStart + HEX_ENCODED_WORD_LENGTH);
+            encodedKey.putInt(word * 4, Integer.reverseBytes((int) decodedWord));
+        }
+    }
 }
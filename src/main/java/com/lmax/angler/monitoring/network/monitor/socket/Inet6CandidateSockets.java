@@ -0,0 +1,189 @@
+package com.lmax.angler.monitoring.network.monitor.socket;
+
+import com.lmax.angler.monitoring.network.monitor.util.EncodedData2ObjectHashMap;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.lmax.angler.monitoring.network.monitor.socket.IPv6SocketKeyEncoder.INODE_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.socket.IPv6SocketKeyEncoder.KEY_LENGTH;
+import static com.lmax.angler.monitoring.network.monitor.socket.IPv6SocketKeyEncoder.PORT_OFFSET;
+
+/**
+ * Thread-safe repository for IPv6 sockets requested for monitoring.
+ *
+ * Requests are keyed by the encoding produced by IPv6SocketKeyEncoder, so that entries can be matched
+ * against keys decoded directly from /proc data without allocation.
+ */
+public final class Inet6CandidateSockets
+{
+    private static final float LOAD_FACTOR = 0.67f;
+    private static final long NO_INODE = 0L;
+    private static final long NULL_KEY_INODE = -1L;
+
+    private final AtomicReference<Snapshot> candidateSockets =
+            new AtomicReference<>(new Snapshot(Collections.emptyList()));
+
+    public void beginMonitoringSocketAddress(final InetSocketAddress socketAddress, final long inode)
+    {
+        ensureIsInet6Address(socketAddress.getAddress());
+        while (true)
+        {
+            final Snapshot candidateSnapshot = candidateSockets.get();
+            final List<InodeIdentifiedSocketDescriptor> updated = new ArrayList<>(candidateSnapshot.requests.size() + 1);
+            for (final InodeIdentifiedSocketDescriptor request : candidateSnapshot.requests)
+            {
+                if(!isSameRequest(request, socketAddress, inode))
+                {
+                    updated.add(request);
+                }
+            }
+            updated.add(descriptor(socketAddress, inode));
+
+            if (candidateSockets.compareAndSet(candidateSnapshot, new Snapshot(updated)))
+            {
+                break;
+            }
+        }
+    }
+
+    public void endMonitoringOfSocketAddress(final InetSocketAddress socketAddress, final long inode)
+    {
+        ensureIsInet6Address(socketAddress.getAddress());
+        while (true)
+        {
+            final Snapshot candidateSnapshot = candidateSockets.get();
+            final List<InodeIdentifiedSocketDescriptor> updated = new ArrayList<>(candidateSnapshot.requests.size());
+            for (final InodeIdentifiedSocketDescriptor request : candidateSnapshot.requests)
+            {
+                if(!isSameRequest(request, socketAddress, inode))
+                {
+                    updated.add(request);
+                }
+            }
+
+            if (candidateSockets.compareAndSet(candidateSnapshot, new Snapshot(updated)))
+            {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Find the request matching a socket, checking in order for a request for the socket address,
+     * for any port on the IP address, for the socket address and inode, and for any port on the IP address and inode.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param encodedSocketKey buffer containing the encoded IPv6 address in its first 16 bytes; port and inode are overwritten
+     * @param port the socket port
+     * @param inode the socket inode
+     * @return the requested socket address, or null if the socket was not requested
+     */
+    public InetSocketAddress findMatchingRequest(final ByteBuffer encodedSocketKey, final int port, final long inode)
+    {
+        final EncodedData2ObjectHashMap<InodeIdentifiedSocketDescriptor, InetSocketAddress> requestsByKey =
+                candidateSockets.get().requestsByKey;
+        if(requestsByKey.isEmpty())
+        {
+            return null;
+        }
+
+        InetSocketAddress socketAddress = lookup(requestsByKey, encodedSocketKey, port, NO_INODE);
+        if(socketAddress == null)
+        {
+            // match-all ports request
+            socketAddress = lookup(requestsByKey, encodedSocketKey, 0, NO_INODE);
+        }
+        if(socketAddress == null)
+        {
+            // inode-specific request
+            socketAddress = lookup(requestsByKey, encodedSocketKey, port, inode);
+        }
+        if(socketAddress == null)
+        {
+            // inode-specific, match-all ports request
+            socketAddress = lookup(requestsByKey, encodedSocketKey, 0, inode);
+        }
+        return socketAddress;
+    }
+
+    /**
+     * @return a filter matching at least the ports of sockets in the current snapshot
+     */
+    public CandidateSocketFilter getFilter()
+    {
+        return candidateSockets.get().filter;
+    }
+
+    private static InetSocketAddress lookup(
+            final EncodedData2ObjectHashMap<InodeIdentifiedSocketDescriptor, InetSocketAddress> requestsByKey,
+            final ByteBuffer encodedSocketKey,
+            final int port,
+            final long inode)
+    {
+        encodedSocketKey.putInt(PORT_OFFSET, port);
+        encodedSocketKey.putLong(INODE_OFFSET, inode);
+        return requestsByKey.getByEncodedKey(encodedSocketKey);
+    }
+
+    private static boolean isSameRequest(
+            final InodeIdentifiedSocketDescriptor request, final InetSocketAddress socketAddress, final long inode)
+    {
+        return request.getInode() == inode && request.getSocketAddress().equals(socketAddress);
+    }
+
+    private static InodeIdentifiedSocketDescriptor descriptor(final InetSocketAddress socketAddress, final long inode)
+    {
+        final InodeIdentifiedSocketDescriptor descriptor = new InodeIdentifiedSocketDescriptor();
+        descriptor.set(socketAddress, inode);
+        return descriptor;
+    }
+
+    private static void ensureIsInet6Address(final InetAddress address)
+    {
+        if(!(address instanceof Inet6Address))
+        {
+            throw new IllegalArgumentException("Can only monitor Inet6Address-based sockets, not: " +
+                    address.getClass().getSimpleName());
+        }
+    }
+
+    private static InodeIdentifiedSocketDescriptor nullKey()
+    {
+        try
+        {
+            return descriptor(new InetSocketAddress(InetAddress.getByAddress(new byte[16]), 0), NULL_KEY_INODE);
+        }
+        catch(final UnknownHostException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Snapshot
+    {
+        private final List<InodeIdentifiedSocketDescriptor> requests;
+        private final EncodedData2ObjectHashMap<InodeIdentifiedSocketDescriptor, InetSocketAddress> requestsByKey;
+        private final CandidateSocketFilter filter = CandidateSocketFilter.forPortsOnly();
+
+        Snapshot(final List<InodeIdentifiedSocketDescriptor> requests)
+        {
+            this.requests = requests;
+            this.requestsByKey = new EncodedData2ObjectHashMap<>(
+                    Math.max(requests.size() * 2, 8), LOAD_FACTOR, KEY_LENGTH, new IPv6SocketKeyEncoder(), nullKey());
+            for (final InodeIdentifiedSocketDescriptor request : requests)
+            {
+                requestsByKey.put(request, request.getSocketAddress());
+                filter.addPort(request.getSocketAddress().getPort());
+            }
+        }
+    }
+}
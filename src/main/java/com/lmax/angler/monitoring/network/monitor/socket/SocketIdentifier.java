@@ -89,6 +89,18 @@ public final class SocketIdentifier
         return port << 32 | Long.reverseBytes(decodedAddress) >>> 32;
     }
 
+    /**
+     * Pack port and inode into a long for an IPv6 socket, whose address cannot be included.
+     * The full 32-bit socket inode is held in the bits used for the address of an IPv4 identifier.
+     * @param port the port number
+     * @param inode the inode
+     * @return the encoded value
+     */
+    public static long fromPortAndInode(final long port, final long inode)
+    {
+        return port << 32 | (inode & 0xFFFFFFFFL);
+    }
+
     /**
      * Pack inode value into socketIdentifier to differentiate between difference sockets listening to the same port.
      * @param socketIdentifier the socketIdentifier
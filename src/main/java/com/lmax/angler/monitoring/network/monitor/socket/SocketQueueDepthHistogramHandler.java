@@ -0,0 +1,27 @@
+package com.lmax.angler.monitoring.network.monitor.socket;
+
+import com.lmax.angler.monitoring.network.monitor.util.LogLinearHistogram;
+
+import java.net.InetAddress;
+
+/**
+ * Handler for per-socket queue depth distributions, reported by SocketQueueDepthHistograms.
+ */
+@FunctionalInterface
+public interface SocketQueueDepthHistogramHandler
+{
+    /**
+     * Callback method.
+     * @param inetAddress the ip address
+     * @param port the socket port
+     * @param socketInstanceIdentifier the socket instance identifier
+     * @param receiveQueueDepths receive queue depths sampled during the interval, only valid for the duration of the call
+     * @param transmitQueueDepths transmit queue depths sampled during the interval, only valid for the duration of the call
+     */
+    void onQueueDepthHistograms(
+            final InetAddress inetAddress,
+            final int port,
+            final long socketInstanceIdentifier,
+            final LogLinearHistogram receiveQueueDepths,
+            final LogLinearHistogram transmitQueueDepths);
+}
@@ -0,0 +1,99 @@
+package com.lmax.angler.monitoring.network.monitor.socket;
+
+import com.lmax.angler.monitoring.network.monitor.util.LogLinearHistogram;
+import org.agrona.collections.Long2ObjectHashMap;
+
+import java.net.InetAddress;
+import java.util.Arrays;
+
+/**
+ * Accumulates the distribution of queue depths of each monitored socket between reports.
+ *
+ * Register with a socket monitor using recordQueueDepthsTo; every sample of a monitored socket is then recorded,
+ * whether or not its values changed since the previous poll.
+ * Recording does not allocate once a socket has been seen.
+ *
+ * Not thread-safe, only call from the thread polling the monitors.
+ */
+public final class SocketQueueDepthHistograms
+{
+    private final Long2ObjectHashMap<SocketHistograms> socketsByIdentifier = new Long2ObjectHashMap<>();
+    private SocketHistograms[] sockets = new SocketHistograms[16];
+    private int socketCount;
+
+    /**
+     * Record a sample of a socket's queue depths.
+     * @param inetAddress the ip address
+     * @param port the socket port
+     * @param socketInstanceIdentifier the socket instance identifier
+     * @param receiveQueueDepth the sampled receive queue depth
+     * @param transmitQueueDepth the sampled transmit queue depth
+     */
+    public void record(
+            final InetAddress inetAddress,
+            final int port,
+            final long socketInstanceIdentifier,
+            final long receiveQueueDepth,
+            final long transmitQueueDepth)
+    {
+        SocketHistograms socket = socketsByIdentifier.get(socketInstanceIdentifier);
+        if(socket == null)
+        {
+            socket = new SocketHistograms(inetAddress, port, socketInstanceIdentifier);
+            socketsByIdentifier.put(socketInstanceIdentifier, socket);
+            if(socketCount == sockets.length)
+            {
+                sockets = Arrays.copyOf(sockets, socketCount * 2);
+            }
+            sockets[socketCount++] = socket;
+        }
+        socket.receiveQueueDepths.record(receiveQueueDepth);
+        socket.transmitQueueDepths.record(transmitQueueDepth);
+    }
+
+    /**
+     * Report the distribution of each socket sampled since the previous report, then reset.
+     *
+     * Sockets that were not sampled since the previous report are no longer tracked.
+     *
+     * @param handler the callback for socket queue depth distributions
+     */
+    public void report(final SocketQueueDepthHistogramHandler handler)
+    {
+        for(int i = socketCount - 1; i >= 0; i--)
+        {
+            final SocketHistograms socket = sockets[i];
+            if(socket.receiveQueueDepths.getCount() == 0L)
+            {
+                socketsByIdentifier.remove(socket.socketInstanceIdentifier);
+                sockets[i] = sockets[--socketCount];
+                sockets[socketCount] = null;
+            }
+        }
+
+        for(int i = 0; i < socketCount; i++)
+        {
+            final SocketHistograms socket = sockets[i];
+            handler.onQueueDepthHistograms(socket.inetAddress, socket.port, socket.socketInstanceIdentifier,
+                    socket.receiveQueueDepths, socket.transmitQueueDepths);
+            socket.receiveQueueDepths.reset();
+            socket.transmitQueueDepths.reset();
+        }
+    }
+
+    private static final class SocketHistograms
+    {
+        private final LogLinearHistogram receiveQueueDepths = new LogLinearHistogram();
+        private final LogLinearHistogram transmitQueueDepths = new LogLinearHistogram();
+        private final InetAddress inetAddress;
+        private final int port;
+        private final long socketInstanceIdentifier;
+
+        SocketHistograms(final InetAddress inetAddress, final int port, final long socketInstanceIdentifier)
+        {
+            this.inetAddress = inetAddress;
+            this.port = port;
+            this.socketInstanceIdentifier = socketInstanceIdentifier;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.lmax.angler.monitoring.network.monitor.socket;
+
+import java.net.InetAddress;
+
+/**
+ * Flyweight view of a monitored socket's row in /proc/net/tcp, /proc/net/tcp6, /proc/net/udp or /proc/net/udp6.
+ *
+ * Columns already decoded by the monitor (inode, queue depths and drops) are returned as decoded; the view is positioned over
+ * the raw row in the monitor's read buffer for the remaining columns, each of which is decoded only when its getter is called.
+ * Only valid for the duration of the callback that supplied it.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class SocketRowView
+{
+    /**
+     * Returned by getters when the column is not present in the row, or could not be decoded.
+     */
+    public static final long UNAVAILABLE = SocketTableRowFields.UNAVAILABLE;
+
+    private SocketTableRowFields fields;
+    private InetAddress inetAddress;
+    private int port;
+    private long socketIdentifier;
+    private long inode;
+    private long receiveQueueDepth;
+    private long transmitQueueDepth;
+    private long drops;
+
+    /**
+     * Position the view over a monitored socket's row.
+     * @param inetAddress the monitored address
+     * @param port the socket port
+     * @param socketIdentifier the socket identifier
+     * @param inode the decoded socket inode
+     * @param receiveQueueDepth the decoded receive queue depth
+     * @param transmitQueueDepth the decoded transmit queue depth
+     * @param drops the decoded drop count, or UNAVAILABLE for TCP sockets
+     * @param fields the row
+     */
+    public void wrap(
+            final InetAddress inetAddress, final int port, final long socketIdentifier, final long inode,
+            final long receiveQueueDepth, final long transmitQueueDepth, final long drops, final SocketTableRowFields fields)
+    {
+        this.inetAddress = inetAddress;
+        this.port = port;
+        this.socketIdentifier = socketIdentifier;
+        this.inode = inode;
+        this.receiveQueueDepth = receiveQueueDepth;
+        this.transmitQueueDepth = transmitQueueDepth;
+        this.drops = drops;
+        this.fields = fields;
+    }
+
+    /**
+     * @return the monitored address
+     */
+    public InetAddress getInetAddress()
+    {
+        return inetAddress;
+    }
+
+    /**
+     * @return the socket port
+     */
+    public int getPort()
+    {
+        return port;
+    }
+
+    /**
+     * @return the socket identifier, as passed to the equivalent statistics handler
+     */
+    public long getSocketIdentifier()
+    {
+        return socketIdentifier;
+    }
+
+    /**
+     * @return the socket inode
+     */
+    public long getInode()
+    {
+        return inode;
+    }
+
+    /**
+     * @return the receive queue depth in bytes
+     */
+    public long getReceiveQueueDepth()
+    {
+        return receiveQueueDepth;
+    }
+
+    /**
+     * @return the transmit queue depth in bytes
+     */
+    public long getTransmitQueueDepth()
+    {
+        return transmitQueueDepth;
+    }
+
+    /**
+     * @return the kernel socket state
+     */
+    public long getState()
+    {
+        return fields.hex(SocketTableRowFields.STATE);
+    }
+
+    /**
+     * @return the number of unrecovered retransmit timeouts (always zero for UDP)
+     */
+    public long getRetransmits()
+    {
+        return fields.hex(SocketTableRowFields.RETRANSMITS);
+    }
+
+    /**
+     * @return the effective uid of the socket owner
+     */
+    public long getUid()
+    {
+        return fields.decimal(SocketTableRowFields.UID);
+    }
+
+    /**
+     * @return the socket reference count
+     */
+    public long getReferenceCount()
+    {
+        return fields.decimal(SocketTableRowFields.REFERENCE_COUNT);
+    }
+
+    /**
+     * @return the socket drop count, or UNAVAILABLE for TCP sockets
+     */
+    public long getDrops()
+    {
+        return drops;
+    }
+}
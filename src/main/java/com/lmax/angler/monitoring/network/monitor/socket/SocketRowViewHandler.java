@@ -0,0 +1,15 @@
+package com.lmax.angler.monitoring.network.monitor.socket;
+
+/**
+ * Handler for socket statistics from /proc/net/tcp, /proc/net/tcp6, /proc/net/udp or /proc/net/udp6,
+ * receiving a view over the raw row instead of decoded values.
+ */
+@FunctionalInterface
+public interface SocketRowViewHandler
+{
+    /**
+     * Callback method.
+     * @param row view over the socket's row, only valid for the duration of the call
+     */
+    void onStatisticsUpdated(final SocketRowView row);
+}
@@ -0,0 +1,234 @@
+package com.lmax.angler.monitoring.network.monitor.socket;
+
+import com.lmax.angler.monitoring.network.monitor.util.SwarDecoder;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Flyweight over a row of /proc/net/tcp, /proc/net/tcp6, /proc/net/udp or /proc/net/udp6.
+ *
+ * The row is split on both ' ' and ':', so that addresses, ports and queue depths are separate fields:
+ * field 1 is the local address, field 2 the local port, field 6 the transmit queue depth, and so on.
+ * Fields are located on first access, and each value is decoded only when requested. Rows already located by
+ * a SocketTableRowLayout take the positions of its columns, and only the fields following them are scanned for.
+ * Only valid until the underlying buffer is next reloaded.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class SocketTableRowFields
+{
+    /**
+     * Returned when the field is not present in the row, or could not be decoded.
+     */
+    public static final long UNAVAILABLE = Long.MIN_VALUE;
+
+    public static final int LOCAL_ADDRESS = 1;
+    public static final int LOCAL_PORT = 2;
+    public static final int REMOTE_ADDRESS = 3;
+    public static final int REMOTE_PORT = 4;
+    public static final int STATE = 5;
+    public static final int TRANSMIT_QUEUE = 6;
+    public static final int RECEIVE_QUEUE = 7;
+    public static final int TIMER_ACTIVE = 8;
+    public static final int TIMER_EXPIRY = 9;
+    public static final int RETRANSMITS = 10;
+    public static final int UID = 11;
+    public static final int TIMEOUT = 12;
+    public static final int INODE = 13;
+    public static final int REFERENCE_COUNT = 14;
+    public static final int POINTER = 15;
+
+    private static final int MAX_FIELD_COUNT = 21;
+    private static final int PORT_LENGTH = 4;
+    private static final int STATE_LENGTH = 2;
+    private static final int QUEUE_LENGTH = 8;
+    private static final int ADDRESS_WORD_LENGTH = 8;
+
+    private final int[] fieldStarts = new int[MAX_FIELD_COUNT];
+    private final int[] fieldEnds = new int[MAX_FIELD_COUNT];
+    private final SwarDecoder decoder = new SwarDecoder();
+    private ByteBuffer src;
+    private int rowStart;
+    private int rowEnd;
+    private SocketTableRowLayout layout;
+    private int fieldCount = -1;
+    private int scanPosition;
+
+    /**
+     * Position the flyweight over a row.
+     * @param src data source
+     * @param rowStart the start position of the row
+     * @param rowEnd the end position of the row
+     */
+    public void wrap(final ByteBuffer src, final int rowStart, final int rowEnd)
+    {
+        wrap(src, rowStart, rowEnd, null);
+    }
+
+    /**
+     * Position the flyweight over a row whose columns have been located.
+     * @param src data source
+     * @param rowStart the start position of the row
+     * @param rowEnd the end position of the row
+     * @param layout the located columns of the row, which must not be reused until the flyweight is next wrapped, may be null
+     */
+    public void wrap(final ByteBuffer src, final int rowStart, final int rowEnd, final SocketTableRowLayout layout)
+    {
+        this.src = src;
+        this.rowStart = rowStart;
+        this.rowEnd = rowEnd;
+        this.layout = layout;
+        this.fieldCount = -1;
+    }
+
+    /**
+     * @param field the field index
+     * @return the length of the field in bytes, or -1 if it is not present
+     */
+    public int length(final int field)
+    {
+        return field(field) ? fieldEnds[field] - fieldStarts[field] : -1;
+    }
+
+    /**
+     * @param field the field index
+     * @return the field decoded as a hexadecimal value, or UNAVAILABLE
+     */
+    public long hex(final int field)
+    {
+        if(!field(field))
+        {
+            return UNAVAILABLE;
+        }
+        decoder.clearError();
+        final long value = decoder.decodeHex(src, fieldStarts[field], fieldEnds[field]);
+        return decoder.hasError() ? UNAVAILABLE : value;
+    }
+
+    /**
+     * Decode an address field, printed by the kernel as 32-bit words in host (little-endian) byte order,
+     * into network byte order, e.g. for InetAddress.getByAddress.
+     * @param field the field index
+     * @param dst the destination, at least 16 bytes long for IPv6 addresses
+     * @return the number of bytes decoded, 4 for an IPv4 address and 16 for an IPv6 address, or 0 if not available
+     */
+    public int addressBytes(final int field, final byte[] dst)
+    {
+        final int length = length(field);
+        if(length <= 0 || length % ADDRESS_WORD_LENGTH != 0 || length / 2 > dst.length)
+        {
+            return 0;
+        }
+        decoder.clearError();
+        for (int word = 0; word < length / ADDRESS_WORD_LENGTH; word++)
+        {
+            final int wordStart = fieldStarts[field] + word * ADDRESS_WORD_LENGTH;
+            final long value = decoder.decodeHex(src, wordStart, wordStart + ADDRESS_WORD_LENGTH);
+            for (int i = 0; i < 4; i++)
+            {
+                dst[word * 4 + i] = (byte) (value >>> (8 * i));
+            }
+        }
+        return decoder.hasError() ? 0 : length / 2;
+    }
+
+    /**
+     * @param field the field index
+     * @return the field decoded as a signed decimal value, or UNAVAILABLE
+     */
+    public long decimal(final int field)
+    {
+        if(!field(field))
+        {
+            return UNAVAILABLE;
+        }
+        final int start = fieldStarts[field];
+        final boolean negative = src.get(start) == '-';
+        decoder.clearError();
+        final long value = decoder.decodeAscii(src, negative ? start + 1 : start, fieldEnds[field]);
+        if(decoder.hasError())
+        {
+            return UNAVAILABLE;
+        }
+        return negative ? -value : value;
+    }
+
+    private boolean field(final int field)
+    {
+        if(fieldCount == -1)
+        {
+            if(layout != null)
+            {
+                setFixedWidthFields();
+            }
+            else
+            {
+                fieldCount = 0;
+                scanPosition = rowStart;
+            }
+        }
+        if(field >= fieldCount && scanPosition < rowEnd)
+        {
+            locateRemainingFields();
+        }
+        return field < fieldCount;
+    }
+
+    private void setFixedWidthFields()
+    {
+        final int localAddressStart = layout.getLocalAddressStart();
+        final int remoteAddressStart = layout.getRemoteAddressStart();
+        final int addressLength = layout.getAddressAndPortLength() - PORT_LENGTH - 1;
+        int position = rowStart;
+        while(src.get(position) == ' ')
+        {
+            position++;
+        }
+        set(0, position, localAddressStart - 2);
+        set(LOCAL_ADDRESS, localAddressStart, localAddressStart + addressLength);
+        set(LOCAL_PORT, localAddressStart + addressLength + 1, remoteAddressStart - 1);
+        set(REMOTE_ADDRESS, remoteAddressStart, remoteAddressStart + addressLength);
+        set(REMOTE_PORT, remoteAddressStart + addressLength + 1, layout.getStateStart() - 1);
+        set(STATE, layout.getStateStart(), layout.getStateStart() + STATE_LENGTH);
+        set(TRANSMIT_QUEUE, layout.getTransmitQueueStart(), layout.getTransmitQueueStart() + QUEUE_LENGTH);
+        set(RECEIVE_QUEUE, layout.getReceiveQueueStart(), layout.getReceiveQueueEnd());
+        set(TIMER_ACTIVE, layout.getTimerActiveStart(), layout.getTimerActiveStart() + STATE_LENGTH);
+        set(TIMER_EXPIRY, layout.getTimerExpiryStart(), layout.getTimerExpiryStart() + QUEUE_LENGTH);
+        set(RETRANSMITS, layout.getRetransmitsStart(), layout.getRetransmitsEnd());
+        fieldCount = UID;
+        scanPosition = layout.getRetransmitsEnd();
+        for(int token = 0; token < layout.getTrailingTokenCount(); token++)
+        {
+            set(fieldCount++, layout.getTrailingTokenStart(token), layout.getTrailingTokenEnd(token));
+            scanPosition = layout.getTrailingTokenEnd(token);
+        }
+    }
+
+    private void set(final int field, final int start, final int end)
+    {
+        fieldStarts[field] = start;
+        fieldEnds[field] = end;
+    }
+
+    private void locateRemainingFields()
+    {
+        int position = scanPosition;
+        while(position < rowEnd && fieldCount < MAX_FIELD_COUNT)
+        {
+            final byte current = src.get(position);
+            if(current == ' ' || current == ':')
+            {
+                position++;
+                continue;
+            }
+            fieldStarts[fieldCount] = position;
+            while(position < rowEnd && src.get(position) != ' ' && src.get(position) != ':')
+            {
+                position++;
+            }
+            fieldEnds[fieldCount] = position;
+            fieldCount++;
+        }
+        scanPosition = rowEnd;
+    }
+}
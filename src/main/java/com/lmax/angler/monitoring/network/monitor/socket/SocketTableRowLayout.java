@@ -0,0 +1,220 @@
+package com.lmax.angler.monitoring.network.monitor.socket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Locates the columns of a row from /proc/net/tcp, /proc/net/tcp6, /proc/net/udp or /proc/net/udp6.
+ *
+ * The kernel writes every column up to and including retrnsmt at a fixed width,
+ * so once the address width is known their positions can be computed rather than scanned for.
+ * Columns following retrnsmt (uid, timeout, inode, ...) are variable-width, and are located by a short token scan.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class SocketTableRowLayout
+{
+    public static final int UID = 0;
+    public static final int TIMEOUT = 1;
+    public static final int INODE = 2;
+    public static final int REF = 3;
+    public static final int POINTER = 4;
+    public static final int DROPS = 5;
+
+    private static final int IPV4_HEX_ENCODED_ADDRESS_LENGTH = 8;
+    private static final int PORT_LENGTH = 4;
+    private static final int QUEUE_LENGTH = 8;
+
+    private final int[] trailingTokenStarts;
+    private final int[] trailingTokenEnds;
+    private int localAddressStart;
+    private int addressAndPortLength;
+
+    /**
+     * Constructor.
+     * @param trailingTokenCount the number of variable-width columns following retrnsmt to locate
+     */
+    public SocketTableRowLayout(final int trailingTokenCount)
+    {
+        this.trailingTokenStarts = new int[trailingTokenCount];
+        this.trailingTokenEnds = new int[trailingTokenCount];
+    }
+
+    /**
+     * @param src data source
+     * @param startPosition the start position of the row
+     * @param endPosition the end position of the row
+     * @return whether the row is the column header row
+     */
+    public static boolean isHeaderRow(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        final int position = skipSpaces(src, startPosition, endPosition);
+        return position + 1 < endPosition && src.get(position) == 's' && src.get(position + 1) == 'l';
+    }
+
+    /**
+     * Locate the columns of a data row.
+     * @param src data source
+     * @param startPosition the start position of the row
+     * @param endPosition the end position of the row
+     * @return true if the row matched the expected layout, false if it must be tokenised instead
+     */
+    public boolean locate(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        int position = skipSpaces(src, startPosition, endPosition);
+        while(position < endPosition && src.get(position) != ':')
+        {
+            position++;
+        }
+        localAddressStart = position + 2;
+
+        final int addressLength;
+        if(isAt(src, localAddressStart + IPV4_HEX_ENCODED_ADDRESS_LENGTH, endPosition, ':'))
+        {
+            addressLength = IPV4_HEX_ENCODED_ADDRESS_LENGTH;
+        }
+        else if(isAt(src, localAddressStart + IPv6SocketKeyEncoder.HEX_ENCODED_ADDRESS_LENGTH, endPosition, ':'))
+        {
+            addressLength = IPv6SocketKeyEncoder.HEX_ENCODED_ADDRESS_LENGTH;
+        }
+        else
+        {
+            return false;
+        }
+        addressAndPortLength = addressLength + 1 + PORT_LENGTH;
+
+        if(!(isAt(src, localAddressStart - 1, endPosition, ' ') &&
+                isAt(src, getRemoteAddressStart() - 1, endPosition, ' ') &&
+                isAt(src, getRemoteAddressStart() + addressLength, endPosition, ':') &&
+                isAt(src, getStateStart() - 1, endPosition, ' ') &&
+                isAt(src, getTransmitQueueStart() - 1, endPosition, ' ') &&
+                isAt(src, getReceiveQueueStart() - 1, endPosition, ':') &&
+                isAt(src, getTimerActiveStart() - 1, endPosition, ' ') &&
+                isAt(src, getTimerExpiryStart() - 1, endPosition, ':') &&
+                isAt(src, getRetransmitsStart() - 1, endPosition, ' ') &&
+                isAt(src, getRetransmitsEnd(), endPosition, ' ')))
+        {
+            return false;
+        }
+
+        return locateTrailingTokens(src, getRetransmitsEnd(), endPosition);
+    }
+
+    public int getLocalAddressStart()
+    {
+        return localAddressStart;
+    }
+
+    public int getRemoteAddressStart()
+    {
+        return localAddressStart + addressAndPortLength + 1;
+    }
+
+    /**
+     * @return the length of an address:port column
+     */
+    public int getAddressAndPortLength()
+    {
+        return addressAndPortLength;
+    }
+
+    public int getStateStart()
+    {
+        return localAddressStart + 2 * (addressAndPortLength + 1);
+    }
+
+    public int getTransmitQueueStart()
+    {
+        return getStateStart() + 3;
+    }
+
+    public int getReceiveQueueStart()
+    {
+        return getTransmitQueueStart() + QUEUE_LENGTH + 1;
+    }
+
+    public int getReceiveQueueEnd()
+    {
+        return getReceiveQueueStart() + QUEUE_LENGTH;
+    }
+
+    public int getTimerActiveStart()
+    {
+        return getReceiveQueueEnd() + 1;
+    }
+
+    public int getTimerExpiryStart()
+    {
+        return getTimerActiveStart() + 3;
+    }
+
+    public int getRetransmitsStart()
+    {
+        return getTimerExpiryStart() + QUEUE_LENGTH + 1;
+    }
+
+    public int getRetransmitsEnd()
+    {
+        return getRetransmitsStart() + QUEUE_LENGTH;
+    }
+
+    /**
+     * @return the number of variable-width columns following retrnsmt that are located
+     */
+    public int getTrailingTokenCount()
+    {
+        return trailingTokenStarts.length;
+    }
+
+    /**
+     * @param token index of a variable-width column following retrnsmt, e.g. INODE
+     * @return the start position of the column
+     */
+    public int getTrailingTokenStart(final int token)
+    {
+        return trailingTokenStarts[token];
+    }
+
+    /**
+     * @param token index of a variable-width column following retrnsmt, e.g. INODE
+     * @return the end position of the column
+     */
+    public int getTrailingTokenEnd(final int token)
+    {
+        return trailingTokenEnds[token];
+    }
+
+    private boolean locateTrailingTokens(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        int position = startPosition;
+        for(int i = 0; i < trailingTokenStarts.length; i++)
+        {
+            position = skipSpaces(src, position, endPosition);
+            if(position == endPosition)
+            {
+                return false;
+            }
+            trailingTokenStarts[i] = position;
+            while(position < endPosition && src.get(position) != ' ')
+            {
+                position++;
+            }
+            trailingTokenEnds[i] = position;
+        }
+        return true;
+    }
+
+    private static boolean isAt(final ByteBuffer src, final int position, final int endPosition, final char expected)
+    {
+        return position < endPosition && src.get(position) == expected;
+    }
+
+    private static int skipSpaces(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        int position = startPosition;
+        while(position < endPosition && src.get(position) == ' ')
+        {
+            position++;
+        }
+        return position;
+    }
+}
@@ -0,0 +1,301 @@
+package com.lmax.angler.monitoring.network.monitor.socket.tcp;
+
+import com.lmax.angler.monitoring.network.monitor.socket.Inet6CandidateSockets;
+import com.lmax.angler.monitoring.network.monitor.socket.MonitoredSockets;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketMonitoringLifecycleListener;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketQueueDepthHistograms;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketRowView;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketRowViewHandler;
+import com.lmax.angler.monitoring.network.monitor.util.FileLoader;
+import com.lmax.angler.monitoring.network.monitor.util.Parsers;
+import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Monitor for reporting changes in /proc/net/tcp6.
+ *
+ * The socketIdentifier reported for IPv6 sockets packs only the port and inode, since the address does not fit.
+ * Rows without an inode (e.g. sockets in TIME_WAIT or SYN_RECV, which are not owned by a process) cannot be told apart
+ * by that identifier, so are not reported.
+ */
+public final class Tcp6SocketMonitor
+{
+    private final MonitoredSockets<TcpBufferStats> monitoredSockets;
+    private final Inet6CandidateSockets candidateSockets = new Inet6CandidateSockets();
+    private final TcpColumnHandler tokenHandler = new TcpColumnHandler(
+            this::handleEntry, socketIdentifier -> candidateSockets.getFilter().test(socketIdentifier));
+    private final TokenHandler lineParser = Parsers.rowParser(tokenHandler, tokenHandler);
+    private final SocketRowView rowView = new SocketRowView();
+
+    private final FileLoader fileLoader;
+
+    private TcpSocketStatisticsHandler statisticsHandler;
+    private TcpSocketDetailsHandler detailsHandler;
+    private SocketRowViewHandler rowViewHandler;
+    private SocketQueueDepthHistograms queueDepthHistograms;
+    private long updateCount = 0;
+
+    public Tcp6SocketMonitor(final SocketMonitoringLifecycleListener lifecycleListener)
+    {
+        this(lifecycleListener, Paths.get("/proc/net/tcp6"));
+    }
+
+    Tcp6SocketMonitor(final SocketMonitoringLifecycleListener lifecycleListener, final Path pathToProcNetTcp6)
+    {
+        fileLoader = new FileLoader(pathToProcNetTcp6, 65536);
+        monitoredSockets = new MonitoredSockets<>(lifecycleListener);
+    }
+
+    /**
+     * Read from monitored file, report any changed values for monitored socket statistics.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param handler the callback for socket statistics
+     */
+    public void poll(final TcpSocketStatisticsHandler handler)
+    {
+        this.statisticsHandler = handler;
+        try
+        {
+            readAndParse();
+        }
+        finally
+        {
+            this.statisticsHandler = null;
+        }
+    }
+
+    /**
+     * Read from monitored file, report any changed values for monitored socket statistics,
+     * including the remaining columns of each reported row.
+     *
+     * Sockets are also reported when their state or retransmit count changes.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param handler the callback for socket statistics
+     */
+    public void poll(final TcpSocketDetailsHandler handler)
+    {
+        this.detailsHandler = handler;
+        try
+        {
+            readAndParse();
+        }
+        finally
+        {
+            this.detailsHandler = null;
+        }
+    }
+
+    /**
+     * Read from monitored file, report any changed values for monitored socket statistics
+     * as a view over the socket's row, decoding only the columns that the handler reads.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param handler the callback for socket statistics
+     */
+    public void poll(final SocketRowViewHandler handler)
+    {
+        this.rowViewHandler = handler;
+        try
+        {
+            readAndParse();
+        }
+        finally
+        {
+            this.rowViewHandler = null;
+        }
+    }
+
+    /**
+     * Record the queue depths of every monitored socket on each subsequent poll.
+     *
+     * Not thread-safe, only call from the polling thread.
+     *
+     * @param histograms the accumulator, or null to stop recording
+     */
+    public void recordQueueDepthsTo(final SocketQueueDepthHistograms histograms)
+    {
+        this.queueDepthHistograms = histograms;
+    }
+
+    /**
+     * Register interest in a socket.
+     *
+     * Thread-safe, can be called from multiple threads concurrently.
+     *
+     * @param socketAddress the socket address
+     */
+    public void beginMonitoringOf(final InetSocketAddress socketAddress)
+    {
+        candidateSockets.beginMonitoringSocketAddress(socketAddress, 0L);
+    }
+
+    /**
+     * De-register interest in a socket.
+     *
+     * Thread-safe, can be called from multiple threads concurrently.
+     *
+     * @param socketAddress the socket address
+     */
+    public void endMonitoringOf(final InetSocketAddress socketAddress)
+    {
+        candidateSockets.endMonitoringOfSocketAddress(socketAddress, 0L);
+    }
+
+    /**
+     * Register interest in sockets listening to the specified address on any port.
+     *
+     * Thread-safe, can be called from multiple threads concurrently.
+     *
+     * @param inetAddress the IP address
+     */
+    public void beginMonitoringOf(final InetAddress inetAddress)
+    {
+        candidateSockets.beginMonitoringSocketAddress(new InetSocketAddress(inetAddress, 0), 0L);
+    }
+
+    /**
+     * De-register interest in an IP address.
+     *
+     * Thread-safe, can be called from multiple threads concurrently.
+     *
+     * @param inetAddress the IP address
+     */
+    public void endMonitoringOf(final InetAddress inetAddress)
+    {
+        candidateSockets.endMonitoringOfSocketAddress(new InetSocketAddress(inetAddress, 0), 0L);
+    }
+
+    /**
+     * Register interest in a socket.
+     *
+     * Thread-safe, can be called from multiple threads concurrently.
+     *
+     * @param socketAddress the socket address
+     * @param inode the socket inode
+     */
+    public void beginMonitoringOf(final InetSocketAddress socketAddress, final int inode)
+    {
+        candidateSockets.beginMonitoringSocketAddress(socketAddress, inode);
+    }
+
+    /**
+     * De-register interest in a socket.
+     *
+     * Thread-safe, can be called from multiple threads concurrently.
+     *
+     * @param socketAddress the socket address
+     * @param inode the socket inode
+     */
+    public void endMonitoringOf(final InetSocketAddress socketAddress, final int inode)
+    {
+        candidateSockets.endMonitoringOfSocketAddress(socketAddress, inode);
+    }
+
+    /**
+     * Register interest in sockets listening to the specified address on any port.
+     *
+     * Thread-safe, can be called from multiple threads concurrently.
+     *
+     * @param inetAddress the IP address
+     * @param inode the socket inode
+     */
+    public void beginMonitoringOf(final InetAddress inetAddress, final int inode)
+    {
+        candidateSockets.beginMonitoringSocketAddress(new InetSocketAddress(inetAddress, 0), inode);
+    }
+
+    /**
+     * De-register interest in an IP address.
+     *
+     * Thread-safe, can be called from multiple threads concurrently.
+     *
+     * @param inetAddress the IP address
+     * @param inode the socket inode
+     */
+    public void endMonitoringOf(final InetAddress inetAddress, final int inode)
+    {
+        candidateSockets.endMonitoringOfSocketAddress(new InetSocketAddress(inetAddress, 0), inode);
+    }
+
+    private void readAndParse()
+    {
+        fileLoader.load();
+        final ByteBuffer buffer = fileLoader.getBuffer();
+
+        lineParser.reset();
+        lineParser.handleToken(buffer, buffer.position(), buffer.limit());
+
+        monitoredSockets.purgeEntriesOlderThan(updateCount);
+
+        updateCount++;
+    }
+
+    private void handleEntry(final TcpStatsEntry entry)
+    {
+        final int port = SocketIdentifier.extractPortNumber(entry.getSocketIdentifier());
+        final long inode = entry.getInode();
+        if(inode == 0L)
+        {
+            return;
+        }
+        final InetSocketAddress socketAddress = candidateSockets.findMatchingRequest(entry.getInet6SocketKey(), port, inode);
+
+        if(socketAddress != null)
+        {
+            // port and inode uniquely identify the socket, the IPv6 address does not fit in a long identifier
+            final long socketIdentifier = SocketIdentifier.fromPortAndInode(port, inode);
+            if(!monitoredSockets.contains(socketIdentifier))
+            {
+                monitoredSockets.put(socketIdentifier, new TcpBufferStats(socketAddress.getAddress(), port, inode));
+            }
+            final TcpBufferStats lastUpdate = monitoredSockets.get(socketIdentifier);
+            lastUpdate.updateFrom(entry);
+            lastUpdate.updateCount(updateCount);
+            if(queueDepthHistograms != null)
+            {
+                queueDepthHistograms.record(lastUpdate.getInetAddress(), port, socketIdentifier,
+                        entry.getReceiveQueueDepth(), entry.getTransmitQueueDepth());
+            }
+            if(detailsHandler != null)
+            {
+                lastUpdate.updateDetailsFrom(entry.getDetails());
+            }
+            if(lastUpdate.hasChanged())
+            {
+                notifyHandler(lastUpdate.getInetAddress(), port, socketIdentifier, inode, entry);
+            }
+        }
+    }
+
+    private void notifyHandler(
+            final InetAddress inetAddress, final int port, final long socketIdentifier, final long inode, final TcpStatsEntry entry)
+    {
+        if(rowViewHandler != null)
+        {
+            rowView.wrap(inetAddress, port, socketIdentifier, inode, entry.getReceiveQueueDepth(),
+                    entry.getTransmitQueueDepth(), SocketRowView.UNAVAILABLE, entry.getRowFields());
+            rowViewHandler.onStatisticsUpdated(rowView);
+        }
+        else if(detailsHandler != null)
+        {
+            detailsHandler.onStatisticsUpdated(inetAddress, port, socketIdentifier, inode,
+                    entry.getReceiveQueueDepth(), entry.getTransmitQueueDepth(), entry.getDetails());
+        }
+        else
+        {
+            statisticsHandler.onStatisticsUpdated(inetAddress, port, socketIdentifier, inode,
+                    entry.getReceiveQueueDepth(), entry.getTransmitQueueDepth());
+        }
+    }
+}
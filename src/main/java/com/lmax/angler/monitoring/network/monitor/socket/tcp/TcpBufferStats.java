@@ -12,6 +12,8 @@ final class TcpBufferStats implements DescribableSocket
     private final long inode;
     private long receiveQueueDepth = -1;
     private long transmitQueueDepth = -1;
+    private long state = -1;
+    private long retransmits = -1;
     private boolean changed;
     private long updateCount = -1;
 
@@ -30,6 +32,15 @@ final class TcpBufferStats implements DescribableSocket
         this.transmitQueueDepth = entry.getTransmitQueueDepth();
     }
 
+    void updateDetailsFrom(final TcpSocketDetails details)
+    {
+        final long state = details.getState();
+        final long retransmits = details.getRetransmits();
+        changed |= (this.state != state) || (this.retransmits != retransmits);
+        this.state = state;
+        this.retransmits = retransmits;
+    }
+
     boolean hasChanged()
     {
         return changed;
@@ -1,31 +1,48 @@
 package com.lmax.angler.monitoring.network.monitor.socket.tcp;
 
+import com.lmax.angler.monitoring.network.monitor.socket.IPv6SocketKeyEncoder;
 import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
-import com.lmax.angler.monitoring.network.monitor.util.AsciiBytesToLongDecoder;
-import com.lmax.angler.monitoring.network.monitor.util.HexToLongDecoder;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowLayout;
+import com.lmax.angler.monitoring.network.monitor.util.RowHandler;
+import com.lmax.angler.monitoring.network.monitor.util.SwarDecoder;
 import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
 
 import java.nio.ByteBuffer;
 import java.util.function.Consumer;
+import java.util.function.LongPredicate;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
- * TokenHandler for entries in /proc/net/udp.
+ * Handler for entries in /proc/net/tcp and /proc/net/tcp6.
+ *
+ * Rows are decoded from fixed column offsets where possible, falling back to per-column tokens otherwise.
+ * Rows for sockets rejected by the candidate filter are skipped as soon as the socket address is decoded.
  */
-final class TcpColumnHandler implements TokenHandler
+final class TcpColumnHandler implements RowHandler, TokenHandler
 {
     private static final int TCP_SOCKET_IDENTIFIER_COLUMN =
             Integer.getInteger("angler.tcp.socketIdentifierColumn", 1);
     private static final short HEADER_ROW_FIRST_COLUMN_VALUE = ByteBuffer.wrap("sl".getBytes(UTF_8)).getShort();
+    private static final int IPV4_SOCKET_ADDRESS_LENGTH = 13;
     private final Consumer<TcpStatsEntry> bufferStatsEntryConsumer;
+    private final LongPredicate candidateSocketFilter;
     private final TcpStatsEntry entry = new TcpStatsEntry();
+    private final SwarDecoder decoder = new SwarDecoder();
+    private final SocketTableRowLayout layout = new SocketTableRowLayout(SocketTableRowLayout.INODE + 1);
     private int currentColumn = 0;
     private boolean headerRow;
+    private boolean skipRow;
+    private ByteBuffer rowSource;
+    private int rowStart;
+    private int rowEnd;
 
-    public TcpColumnHandler(final Consumer<TcpStatsEntry> bufferStatsEntryConsumer)
+    public TcpColumnHandler(
+            final Consumer<TcpStatsEntry> bufferStatsEntryConsumer,
+            final LongPredicate candidateSocketFilter)
     {
         this.bufferStatsEntryConsumer = bufferStatsEntryConsumer;
+        this.candidateSocketFilter = candidateSocketFilter;
     }
 
     /**
@@ -34,38 +51,34 @@ final class TcpColumnHandler implements TokenHandler
     @Override
     public void handleToken(final ByteBuffer src, final int startPosition, final int endPosition)
     {
+        if(currentColumn == 0)
+        {
+            rowSource = src;
+            rowStart = startPosition;
+        }
+        rowEnd = endPosition;
+
         if(src.getShort(startPosition) == HEADER_ROW_FIRST_COLUMN_VALUE)
         {
             // header row
             headerRow = true;
         }
 
-        if(!headerRow)
+        if(!headerRow && !skipRow)
         {
             if (currentColumn == TCP_SOCKET_IDENTIFIER_COLUMN)
             {
-                // do local address
-                //00000000:4E50
-                final long socketIpv4Address = HexToLongDecoder.UPPER_CASE.decodeHex(src, startPosition, startPosition + 8);
-                final long socketPortNumber = HexToLongDecoder.UPPER_CASE.decodeHex(src, startPosition + 9, endPosition);
-                entry.setSocketIdentifier(SocketIdentifier.fromLinuxKernelHexEncodedAddressAndPort(socketIpv4Address, socketPortNumber));
-
+                handleSocketAddress(src, startPosition, endPosition);
+                skipRow = !isCandidate();
             }
             else if (currentColumn == 4)
             {
-                // do tx/rx queue
-                // hex
-                //00000000:00000000
-                final long transmitQueueDepth = HexToLongDecoder.UPPER_CASE.decodeHex(src, startPosition, startPosition + 8);
-                final long receiveQueueDepth = HexToLongDecoder.UPPER_CASE.decodeHex(src, startPosition + 9, endPosition);
-                entry.setTransmitQueueDepth(transmitQueueDepth);
-                entry.setReceiveQueueDepth(receiveQueueDepth);
-
+                handleQueueDepths(src, startPosition, endPosition);
             }
             else if (currentColumn == 9)
             {
                 // do inode
-                final long inode = AsciiBytesToLongDecoder.decodeAscii(src, startPosition, endPosition);
+                final long inode = decoder.decodeAscii(src, startPosition, endPosition);
                 entry.setInode(inode);
 
             }
@@ -74,14 +87,57 @@ final class TcpColumnHandler implements TokenHandler
         currentColumn++;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean handleRow(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        if(SocketTableRowLayout.isHeaderRow(src, startPosition, endPosition))
+        {
+            return true;
+        }
+
+        if((TCP_SOCKET_IDENTIFIER_COLUMN != 1 && TCP_SOCKET_IDENTIFIER_COLUMN != 2) ||
+                !layout.locate(src, startPosition, endPosition))
+        {
+            return false;
+        }
+
+        final int socketAddressStart = TCP_SOCKET_IDENTIFIER_COLUMN == 1 ?
+                layout.getLocalAddressStart() : layout.getRemoteAddressStart();
+        handleSocketAddress(src, socketAddressStart, socketAddressStart + layout.getAddressAndPortLength());
+        if(!isCandidate())
+        {
+            decoder.clearError();
+            entry.reset();
+            return true;
+        }
+        handleQueueDepths(src, layout.getTransmitQueueStart(), layout.getReceiveQueueEnd());
+        entry.setInode(decoder.decodeAscii(src,
+                layout.getTrailingTokenStart(SocketTableRowLayout.INODE), layout.getTrailingTokenEnd(SocketTableRowLayout.INODE)));
+
+        if(!decoder.hasError())
+        {
+            entry.getRowFields().wrap(src, startPosition, endPosition, layout);
+            bufferStatsEntryConsumer.accept(entry);
+        }
+        decoder.clearError();
+        entry.reset();
+        return true;
+    }
+
     @Override
     public void complete()
     {
-        if(!headerRow && currentColumn != 0)
+        if(!headerRow && !skipRow && currentColumn != 0 && !decoder.hasError())
         {
+            entry.getRowFields().wrap(rowSource, rowStart, rowEnd);
             bufferStatsEntryConsumer.accept(entry);
         }
+        decoder.clearError();
         headerRow = false;
+        skipRow = false;
         currentColumn = 0;
         entry.reset();
     }
@@ -91,4 +147,41 @@ final class TcpColumnHandler implements TokenHandler
     {
         currentColumn = 0;
     }
+
+    private void handleSocketAddress(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        if(endPosition - startPosition == IPV4_SOCKET_ADDRESS_LENGTH)
+        {
+            // do local address
+            //00000000:4E50
+            final long socketIpv4Address = decoder.decodeHex(src, startPosition, startPosition + 8);
+            final long socketPortNumber = decoder.decodeHex(src, startPosition + 9, endPosition);
+            entry.setSocketIdentifier(SocketIdentifier.fromLinuxKernelHexEncodedAddressAndPort(socketIpv4Address, socketPortNumber));
+        }
+        else
+        {
+            // do local IPv6 address
+            //00000000000000000000000000000000:4E50
+            IPv6SocketKeyEncoder.encodeLinuxKernelHexEncodedAddress(src, startPosition, entry.getInet6SocketKey(), decoder);
+            final long socketPortNumber = decoder.decodeHex(
+                    src, startPosition + IPv6SocketKeyEncoder.HEX_ENCODED_ADDRESS_LENGTH + 1, endPosition);
+            entry.setSocketIdentifier(SocketIdentifier.fromPortAndInode(socketPortNumber, 0L));
+        }
+    }
+
+    private boolean isCandidate()
+    {
+        return !decoder.hasError() && candidateSocketFilter.test(entry.getSocketIdentifier());
+    }
+
+    private void handleQueueDepths(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        // do tx/rx queue
+        // hex
+        //00000000:00000000
+        final long transmitQueueDepth = decoder.decodeHex(src, startPosition, startPosition + 8);
+        final long receiveQueueDepth = decoder.decodeHex(src, startPosition + 9, endPosition);
+        entry.setTransmitQueueDepth(transmitQueueDepth);
+        entry.setReceiveQueueDepth(receiveQueueDepth);
+    }
 }
@@ -0,0 +1,187 @@
+package com.lmax.angler.monitoring.network.monitor.socket.tcp;
+
+import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields;
+
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields.REFERENCE_COUNT;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields.REMOTE_ADDRESS;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields.REMOTE_PORT;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields.RETRANSMITS;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields.STATE;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields.TIMER_ACTIVE;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields.TIMER_EXPIRY;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields.UID;
+
+/**
+ * Flyweight over a row of /proc/net/tcp or /proc/net/tcp6, giving access to the columns not reported by
+ * TcpSocketStatisticsHandler.
+ *
+ * Columns are located on first access, and each value is decoded only when its getter is called.
+ * Only valid for the duration of the callback that supplied it.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class TcpSocketDetails
+{
+    /**
+     * Returned by getters when the column is not present in the row, or could not be decoded.
+     */
+    public static final long UNAVAILABLE = SocketTableRowFields.UNAVAILABLE;
+
+    private static final int PROBES = SocketTableRowFields.TIMEOUT;
+    private static final int RETRANSMIT_TIMEOUT = 16;
+    private static final int ACK_TIMEOUT = 17;
+    private static final int QUICK_ACK = 18;
+    private static final int CONGESTION_WINDOW = 19;
+    private static final int SLOW_START_THRESHOLD = 20;
+    private static final int IPV4_HEX_ENCODED_ADDRESS_LENGTH = 8;
+
+    private final SocketTableRowFields fields;
+
+    TcpSocketDetails(final SocketTableRowFields fields)
+    {
+        this.fields = fields;
+    }
+
+    /**
+     * SocketIdentifier only packs IPv4 addresses; use getRemoteAddress for the peer address of IPv6 rows.
+     * @return the remote socket identifier, as produced by SocketIdentifier, for IPv4 rows only, otherwise UNAVAILABLE
+     */
+    public long getRemoteSocketIdentifier()
+    {
+        if(fields.length(REMOTE_ADDRESS) == IPV4_HEX_ENCODED_ADDRESS_LENGTH)
+        {
+            final long address = hex(REMOTE_ADDRESS);
+            final long port = hex(REMOTE_PORT);
+            if(address != UNAVAILABLE && port != UNAVAILABLE)
+            {
+                return SocketIdentifier.fromLinuxKernelHexEncodedAddressAndPort(address, port);
+            }
+        }
+        return UNAVAILABLE;
+    }
+
+    /**
+     * Copy the remote address of an IPv4 or IPv6 row, without allocating.
+     * @param dst the destination, in network byte order, e.g. for InetAddress.getByAddress; at least 16 bytes long for IPv6 rows
+     * @return the number of bytes copied, 4 for IPv4 rows and 16 for IPv6 rows, or 0 if not available
+     */
+    public int getRemoteAddress(final byte[] dst)
+    {
+        return fields.addressBytes(REMOTE_ADDRESS, dst);
+    }
+
+    /**
+     * @return the remote port
+     */
+    public long getRemotePort()
+    {
+        return hex(REMOTE_PORT);
+    }
+
+    /**
+     * @return the kernel TCP state, e.g. 1 for ESTABLISHED, 10 for LISTEN
+     */
+    public long getState()
+    {
+        return hex(STATE);
+    }
+
+    /**
+     * @return the active timer: 0 none, 1 retransmit, 2 keep-alive, 3 TIME_WAIT, 4 zero window probe
+     */
+    public long getTimerActive()
+    {
+        return hex(TIMER_ACTIVE);
+    }
+
+    /**
+     * @return jiffies until the active timer expires
+     */
+    public long getTimerExpiry()
+    {
+        return hex(TIMER_EXPIRY);
+    }
+
+    /**
+     * @return the number of unrecovered retransmit timeouts
+     */
+    public long getRetransmits()
+    {
+        return hex(RETRANSMITS);
+    }
+
+    /**
+     * @return the effective uid of the socket owner
+     */
+    public long getUid()
+    {
+        return decimal(UID);
+    }
+
+    /**
+     * @return the number of unanswered zero window or keep-alive probes (the timeout column)
+     */
+    public long getUnansweredProbes()
+    {
+        return decimal(PROBES);
+    }
+
+    /**
+     * @return the socket reference count
+     */
+    public long getReferenceCount()
+    {
+        return decimal(REFERENCE_COUNT);
+    }
+
+    /**
+     * @return the retransmit timeout, in clock ticks
+     */
+    public long getRetransmitTimeout()
+    {
+        return decimal(RETRANSMIT_TIMEOUT);
+    }
+
+    /**
+     * @return the delayed acknowledgement timeout, in clock ticks
+     */
+    public long getAckTimeout()
+    {
+        return decimal(ACK_TIMEOUT);
+    }
+
+    /**
+     * @return the quick-ack count shifted left by one, ORed with the ping-pong flag
+     */
+    public long getQuickAck()
+    {
+        return decimal(QUICK_ACK);
+    }
+
+    /**
+     * @return the congestion window, in segments
+     */
+    public long getCongestionWindow()
+    {
+        return decimal(CONGESTION_WINDOW);
+    }
+
+    /**
+     * @return the slow start threshold, -1 while in initial slow start (for listening sockets, the fast open queue length)
+     */
+    public long getSlowStartThreshold()
+    {
+        return decimal(SLOW_START_THRESHOLD);
+    }
+
+    private long hex(final int field)
+    {
+        return fields.hex(field);
+    }
+
+    private long decimal(final int field)
+    {
+        return fields.decimal(field);
+    }
+}
@@ -0,0 +1,33 @@
+package com.lmax.angler.monitoring.network.monitor.socket.tcp;
+
+import java.net.InetAddress;
+
+/**
+ * Handler for socket statistics from /proc/net/tcp or /proc/net/tcp6, including the remaining columns of each row.
+ *
+ * Notified when a monitored socket's queue depths, state or retransmit count change.
+ * The remote address of IPv6 sockets is only available from TcpSocketDetails.getRemoteAddress,
+ * since socket identifiers only pack IPv4 addresses.
+ */
+@FunctionalInterface
+public interface TcpSocketDetailsHandler
+{
+    /**
+     * Callback method.
+     * @param inetAddress the ip address
+     * @param port the socket port
+     * @param socketIdentifier the socket identifier
+     * @param inode the socket inode
+     * @param receiveQueueDepth the sampled receive queue depth
+     * @param transmitQueueDepth the sampled transmit queue depth
+     * @param details the remaining columns, only valid for the duration of the callback
+     */
+    void onStatisticsUpdated(
+            final InetAddress inetAddress,
+            final int port,
+            final long socketIdentifier,
+            final long inode,
+            final long receiveQueueDepth,
+            final long transmitQueueDepth,
+            final TcpSocketDetails details);
+}
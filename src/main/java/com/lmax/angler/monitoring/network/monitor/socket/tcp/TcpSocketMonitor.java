@@ -4,6 +4,9 @@ import com.lmax.angler.monitoring.network.monitor.socket.CandidateSockets;
 import com.lmax.angler.monitoring.network.monitor.socket.MonitoredSockets;
 import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
 import com.lmax.angler.monitoring.network.monitor.socket.SocketMonitoringLifecycleListener;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketQueueDepthHistograms;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketRowView;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketRowViewHandler;
 import com.lmax.angler.monitoring.network.monitor.util.FileLoader;
 import com.lmax.angler.monitoring.network.monitor.util.Parsers;
 import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
@@ -26,12 +29,17 @@ public final class TcpSocketMonitor
 {
     private final MonitoredSockets<TcpBufferStats> monitoredSockets;
     private final CandidateSockets candidateSockets = new CandidateSockets();
-    private final TcpColumnHandler tokenHandler = new TcpColumnHandler(this::handleEntry);
-    private final TokenHandler lineParser = Parsers.rowColumnParser(tokenHandler);
+    private final TcpColumnHandler tokenHandler = new TcpColumnHandler(
+            this::handleEntry, socketIdentifier -> candidateSockets.getFilter().test(socketIdentifier));
+    private final TokenHandler lineParser = Parsers.rowParser(tokenHandler, tokenHandler);
+    private final SocketRowView rowView = new SocketRowView();
 
     private final FileLoader fileLoader;
 
     private TcpSocketStatisticsHandler statisticsHandler;
+    private TcpSocketDetailsHandler detailsHandler;
+    private SocketRowViewHandler rowViewHandler;
+    private SocketQueueDepthHistograms queueDepthHistograms;
     private long updateCount = 0;
 
     public TcpSocketMonitor(final SocketMonitoringLifecycleListener lifecycleListener)
@@ -57,20 +65,68 @@ public final class TcpSocketMonitor
         this.statisticsHandler = handler;
         try
         {
-            fileLoader.load();
-            final ByteBuffer buffer = fileLoader.getBuffer();
-
-            lineParser.reset();
-            lineParser.handleToken(buffer, buffer.position(), buffer.limit());
+            readAndParse();
         }
         finally
         {
             this.statisticsHandler = null;
         }
+    }
 
-        monitoredSockets.purgeEntriesOlderThan(updateCount);
+    /**
+     * Read from monitored file, report any changed values for monitored socket statistics,
+     * including the remaining columns of each reported row.
+     *
+     * Sockets are also reported when their state or retransmit count changes.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param handler the callback for socket statistics
+     */
+    public void poll(final TcpSocketDetailsHandler handler)
+    {
+        this.detailsHandler = handler;
+        try
+        {
+            readAndParse();
+        }
+        finally
+        {
+            this.detailsHandler = null;
+        }
+    }
 
-        updateCount++;
+    /**
+     * Read from monitored file, report any changed values for monitored socket statistics
+     * as a view over the socket's row, decoding only the columns that the handler reads.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param handler the callback for socket statistics
+     */
+    public void poll(final SocketRowViewHandler handler)
+    {
+        this.rowViewHandler = handler;
+        try
+        {
+            readAndParse();
+        }
+        finally
+        {
+            this.rowViewHandler = null;
+        }
+    }
+
+    /**
+     * Record the queue depths of every monitored socket on each subsequent poll.
+     *
+     * Not thread-safe, only call from the polling thread.
+     *
+     * @param histograms the accumulator, or null to stop recording
+     */
+    public void recordQueueDepthsTo(final SocketQueueDepthHistograms histograms)
+    {
+        this.queueDepthHistograms = histograms;
     }
 
     /**
@@ -176,6 +232,19 @@ public final class TcpSocketMonitor
     }
 
 
+    private void readAndParse()
+    {
+        fileLoader.load();
+        final ByteBuffer buffer = fileLoader.getBuffer();
+
+        lineParser.reset();
+        lineParser.handleToken(buffer, buffer.position(), buffer.limit());
+
+        monitoredSockets.purgeEntriesOlderThan(updateCount);
+
+        updateCount++;
+    }
+
     private void handleEntry(final TcpStatsEntry entry)
     {
         final long socketIdentifier = entry.getSocketIdentifier();
@@ -217,16 +286,40 @@ public final class TcpSocketMonitor
             final TcpBufferStats lastUpdate = monitoredSockets.get(entry.getSocketInstanceIndentifier());
             lastUpdate.updateFrom(entry);
             lastUpdate.updateCount(updateCount);
+            if(queueDepthHistograms != null)
+            {
+                queueDepthHistograms.record(lastUpdate.getInetAddress(), port, entry.getSocketInstanceIndentifier(),
+                        entry.getReceiveQueueDepth(), entry.getTransmitQueueDepth());
+            }
+            if(detailsHandler != null)
+            {
+                lastUpdate.updateDetailsFrom(entry.getDetails());
+            }
             if(lastUpdate.hasChanged())
             {
-                statisticsHandler.onStatisticsUpdated(
-                        lastUpdate.getInetAddress(),
-                        port,
-                        entry.getSocketIdentifier(),
-                        entry.getInode(),
-                        entry.getReceiveQueueDepth(),
-                        entry.getTransmitQueueDepth());
+                notifyHandler(lastUpdate.getInetAddress(), port, entry.getSocketIdentifier(), entry.getInode(), entry);
             }
         }
     }
-}
\ No newline at end of file
+
+    private void notifyHandler(
+            final InetAddress inetAddress, final int port, final long socketIdentifier, final long inode, final TcpStatsEntry entry)
+    {
+        if(rowViewHandler != null)
+        {
+            rowView.wrap(inetAddress, port, socketIdentifier, inode, entry.getReceiveQueueDepth(),
+                    entry.getTransmitQueueDepth(), SocketRowView.UNAVAILABLE, entry.getRowFields());
+            rowViewHandler.onStatisticsUpdated(rowView);
+        }
+        else if(detailsHandler != null)
+        {
+            detailsHandler.onStatisticsUpdated(inetAddress, port, socketIdentifier, inode,
+                    entry.getReceiveQueueDepth(), entry.getTransmitQueueDepth(), entry.getDetails());
+        }
+        else
+        {
+            statisticsHandler.onStatisticsUpdated(inetAddress, port, socketIdentifier, inode,
+                    entry.getReceiveQueueDepth(), entry.getTransmitQueueDepth());
+        }
+    }
+}
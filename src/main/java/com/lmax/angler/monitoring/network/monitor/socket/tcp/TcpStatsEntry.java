@@ -1,12 +1,19 @@
 package com.lmax.angler.monitoring.network.monitor.socket.tcp;
 
+import com.lmax.angler.monitoring.network.monitor.socket.IPv6SocketKeyEncoder;
 import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields;
+
+import java.nio.ByteBuffer;
 
 /**
  * Value object.
  */
 final class TcpStatsEntry
 {
+    private final ByteBuffer inet6SocketKey = ByteBuffer.allocate(IPv6SocketKeyEncoder.KEY_LENGTH);
+    private final SocketTableRowFields rowFields = new SocketTableRowFields();
+    private final TcpSocketDetails details = new TcpSocketDetails(rowFields);
     private long socketIdentifier;
     private long receiveQueueDepth;
     private long transmitQueueDepth;
@@ -22,6 +29,21 @@ final class TcpStatsEntry
         return SocketIdentifier.overlayInode(socketIdentifier, inode);
     }
 
+    ByteBuffer getInet6SocketKey()
+    {
+        return inet6SocketKey;
+    }
+
+    SocketTableRowFields getRowFields()
+    {
+        return rowFields;
+    }
+
+    TcpSocketDetails getDetails()
+    {
+        return details;
+    }
+
     void setSocketIdentifier(final long socketIdentifier)
     {
         this.socketIdentifier = socketIdentifier;
@@ -0,0 +1,29 @@
+package com.lmax.angler.monitoring.network.monitor.socket.udp;
+
+import java.net.InetAddress;
+
+/**
+ * Handler for changes in the drop count of sockets from /proc/net/udp between polls.
+ */
+@FunctionalInterface
+public interface UdpSocketDropRateHandler
+{
+    /**
+     * Callback method.
+     * @param inetAddress the ip address
+     * @param port the socket port
+     * @param socketIdentifier the socket identifier
+     * @param inode the socket inode
+     * @param intervalNanos nanoseconds since the drop count was last read
+     * @param drops drops during the interval
+     * @param dropsPerSecond drops per second during the interval
+     */
+    void onDropRateUpdated(
+            final InetAddress inetAddress,
+            final int port,
+            final long socketIdentifier,
+            final long inode,
+            final long intervalNanos,
+            final long drops,
+            final double dropsPerSecond);
+}
@@ -0,0 +1,178 @@
+package com.lmax.angler.monitoring.network.monitor.socket.udp;
+
+import com.lmax.angler.monitoring.network.monitor.socket.SocketMonitoringLifecycleListener;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.SystemNanoClock;
+
+import java.net.InetAddress;
+
+import static com.lmax.angler.monitoring.network.monitor.util.CounterDeltas.delta32;
+import static com.lmax.angler.monitoring.network.monitor.util.CounterDeltas.perSecond;
+
+/**
+ * Converts the drop counts reported by a UdpSocketMonitor or Udp6SocketMonitor into per-interval deltas and per-second rates.
+ *
+ * The kernel's per-socket drop count is a 32-bit counter, so deltas allow for wraparound.
+ * A socket is reported whenever its drop count changed since the previous poll, and once more with a zero delta
+ * when it stops changing, so that drops-per-second returns to zero.
+ * The first reading of each socket is used as a baseline, and is not reported.
+ *
+ * Pass as (or notify from) the monitor's lifecycle listener, so that sockets are forgotten once no longer monitored.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class UdpSocketDropRates implements SocketMonitoringLifecycleListener
+{
+    private final Long2ObjectHashMap<SocketDrops> socketDropsByInode = new Long2ObjectHashMap<>();
+    private final UdpSocketStatisticsHandler statisticsHandler = this::onStatistics;
+    private final NanoClock nanoClock;
+
+    private UdpSocketDropRateHandler rateHandler;
+    private long pollNanos;
+    private long pollCount;
+
+    public UdpSocketDropRates()
+    {
+        this(new SystemNanoClock());
+    }
+
+    public UdpSocketDropRates(final NanoClock nanoClock)
+    {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Poll the monitor, and report the change in each monitored socket's drop count since the previous poll.
+     *
+     * @param monitor the monitor to poll
+     * @param rateHandler the handler for changes
+     */
+    public void poll(final UdpSocketMonitor monitor, final UdpSocketDropRateHandler rateHandler)
+    {
+        beginPoll(rateHandler);
+        try
+        {
+            monitor.poll(statisticsHandler);
+            reportUnchangedSockets();
+        }
+        finally
+        {
+            this.rateHandler = null;
+        }
+    }
+
+    /**
+     * Poll the monitor, and report the change in each monitored socket's drop count since the previous poll.
+     *
+     * @param monitor the monitor to poll
+     * @param rateHandler the handler for changes
+     */
+    public void poll(final Udp6SocketMonitor monitor, final UdpSocketDropRateHandler rateHandler)
+    {
+        beginPoll(rateHandler);
+        try
+        {
+            monitor.poll(statisticsHandler);
+            reportUnchangedSockets();
+        }
+        finally
+        {
+            this.rateHandler = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void socketMonitoringStarted(final InetAddress inetAddress, final int port, final long inode)
+    {
+        // a socket's baseline is taken when its statistics are first reported
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void socketMonitoringStopped(final InetAddress inetAddress, final int port, final long inode)
+    {
+        socketDropsByInode.remove(inode);
+    }
+
+    private void beginPoll(final UdpSocketDropRateHandler rateHandler)
+    {
+        this.rateHandler = rateHandler;
+        pollNanos = nanoClock.nanoTime();
+        pollCount++;
+    }
+
+    private void reportUnchangedSockets()
+    {
+        for (final SocketDrops socketDrops : socketDropsByInode.values())
+        {
+            if(socketDrops.pollCount != pollCount)
+            {
+                if(socketDrops.changing)
+                {
+                    rateHandler.onDropRateUpdated(socketDrops.inetAddress, socketDrops.port, socketDrops.socketIdentifier,
+                            socketDrops.inode, pollNanos - socketDrops.timestampNanos, 0L, 0d);
+                    socketDrops.changing = false;
+                }
+                socketDrops.timestampNanos = pollNanos;
+                socketDrops.pollCount = pollCount;
+            }
+        }
+    }
+
+    private void onStatistics(
+            final InetAddress inetAddress,
+            final int port,
+            final long socketIdentifier,
+            final long inode,
+            final long receiveQueueDepth,
+            final long transmitQueueDepth,
+            final long drops)
+    {
+        SocketDrops socketDrops = socketDropsByInode.get(inode);
+        if(socketDrops == null)
+        {
+            socketDrops = new SocketDrops(inetAddress, port, socketIdentifier, inode);
+            socketDropsByInode.put(inode, socketDrops);
+        }
+        else
+        {
+            final long intervalNanos = pollNanos - socketDrops.timestampNanos;
+            final long dropsDelta = delta32(socketDrops.drops, drops);
+            if(dropsDelta != 0L || socketDrops.changing)
+            {
+                rateHandler.onDropRateUpdated(inetAddress, port, socketIdentifier, inode,
+                        intervalNanos, dropsDelta, perSecond(dropsDelta, intervalNanos));
+            }
+            socketDrops.changing = dropsDelta != 0L;
+        }
+        socketDrops.drops = drops;
+        socketDrops.timestampNanos = pollNanos;
+        socketDrops.pollCount = pollCount;
+    }
+
+    private static final class SocketDrops
+    {
+        private final InetAddress inetAddress;
+        private final int port;
+        private final long socketIdentifier;
+        private final long inode;
+        private long drops;
+        private long timestampNanos;
+        private long pollCount;
+        private boolean changing;
+
+        SocketDrops(final InetAddress inetAddress, final int port, final long socketIdentifier, final long inode)
+        {
+            this.inetAddress = inetAddress;
+            this.port = port;
+            this.socketIdentifier = socketIdentifier;
+            this.inode = inode;
+        }
+    }
+}
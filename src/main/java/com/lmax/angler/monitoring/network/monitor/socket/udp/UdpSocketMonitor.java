@@ -4,6 +4,9 @@ import com.lmax.angler.monitoring.network.monitor.socket.CandidateSockets;
 import com.lmax.angler.monitoring.network.monitor.socket.MonitoredSockets;
 import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
 import com.lmax.angler.monitoring.network.monitor.socket.SocketMonitoringLifecycleListener;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketQueueDepthHistograms;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketRowView;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketRowViewHandler;
 import com.lmax.angler.monitoring.network.monitor.util.FileLoader;
 import com.lmax.angler.monitoring.network.monitor.util.Parsers;
 import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
@@ -28,12 +31,16 @@ public final class UdpSocketMonitor
 {
     private final CandidateSockets candidateSockets = new CandidateSockets();
     private final MonitoredSockets<UdpBufferStats> monitoredSockets;
-    private final UdpColumnHandler tokenHandler = new UdpColumnHandler(this::handleEntry);
-    private final TokenHandler lineParser = Parsers.rowColumnParser(tokenHandler);
+    private final UdpColumnHandler tokenHandler = new UdpColumnHandler(
+            this::handleEntry, socketIdentifier -> candidateSockets.getFilter().test(socketIdentifier));
+    private final TokenHandler lineParser = Parsers.rowParser(tokenHandler, tokenHandler);
+    private final SocketRowView rowView = new SocketRowView();
 
     private final FileLoader fileLoader;
 
     private UdpSocketStatisticsHandler statisticsHandler;
+    private SocketRowViewHandler rowViewHandler;
+    private SocketQueueDepthHistograms queueDepthHistograms;
     private long updateCount = 0;
 
     public UdpSocketMonitor(final SocketMonitoringLifecycleListener lifecycleListener)
@@ -59,20 +66,45 @@ public final class UdpSocketMonitor
         this.statisticsHandler = handler;
         try
         {
-            fileLoader.load();
-            final ByteBuffer buffer = fileLoader.getBuffer();
-
-            lineParser.reset();
-            lineParser.handleToken(buffer, buffer.position(), buffer.limit());
+            readAndParse();
         }
         finally
         {
             this.statisticsHandler = null;
         }
+    }
 
-        monitoredSockets.purgeEntriesOlderThan(updateCount);
+    /**
+     * Read from monitored file, report any changed values for monitored socket statistics
+     * as a view over the socket's row, decoding only the columns that the handler reads.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param handler the callback for socket statistics
+     */
+    public void poll(final SocketRowViewHandler handler)
+    {
+        this.rowViewHandler = handler;
+        try
+        {
+            readAndParse();
+        }
+        finally
+        {
+            this.rowViewHandler = null;
+        }
+    }
 
-        updateCount++;
+    /**
+     * Record the queue depths of every monitored socket on each subsequent poll.
+     *
+     * Not thread-safe, only call from the polling thread.
+     *
+     * @param histograms the accumulator, or null to stop recording
+     */
+    public void recordQueueDepthsTo(final SocketQueueDepthHistograms histograms)
+    {
+        this.queueDepthHistograms = histograms;
     }
 
     /**
@@ -177,6 +209,19 @@ public final class UdpSocketMonitor
         candidateSockets.endMonitoringOfSocketIdentifier(fromInet4AddressAndInode(inetAddress, inode));
     }
 
+    private void readAndParse()
+    {
+        fileLoader.load();
+        final ByteBuffer buffer = fileLoader.getBuffer();
+
+        lineParser.reset();
+        lineParser.handleToken(buffer, buffer.position(), buffer.limit());
+
+        monitoredSockets.purgeEntriesOlderThan(updateCount);
+
+        updateCount++;
+    }
+
     private void handleEntry(final UdpStatsEntry entry)
     {
         final long socketIdentifier = entry.getSocketIdentifier();
@@ -217,18 +262,31 @@ public final class UdpSocketMonitor
             final UdpBufferStats lastUpdate = monitoredSockets.get(socketInstanceIdentifier);
             lastUpdate.updateFrom(entry);
             lastUpdate.updateCount(updateCount);
+            if(queueDepthHistograms != null)
+            {
+                queueDepthHistograms.record(lastUpdate.getInetAddress(), port, socketInstanceIdentifier,
+                        entry.getReceiveQueueDepth(), entry.getTransmitQueueDepth());
+            }
             if(lastUpdate.hasChanged())
             {
-                statisticsHandler.onStatisticsUpdated(
-                        lastUpdate.getInetAddress(),
-                        port,
-                        entry.getSocketIdentifier(),
-                        entry.getInode(),
-                        entry.getReceiveQueueDepth(),
-                        entry.getTransmitQueueDepth(),
-                        entry.getDrops());
+                notifyHandler(lastUpdate.getInetAddress(), port, entry.getSocketIdentifier(), entry.getInode(), entry);
             }
         }
     }
 
-}
\ No newline at end of file
+    private void notifyHandler(
+            final InetAddress inetAddress, final int port, final long socketIdentifier, final long inode, final UdpStatsEntry entry)
+    {
+        if(rowViewHandler != null)
+        {
+            rowView.wrap(inetAddress, port, socketIdentifier, inode, entry.getReceiveQueueDepth(),
+                    entry.getTransmitQueueDepth(), entry.getDrops(), entry.getRowFields());
+            rowViewHandler.onStatisticsUpdated(rowView);
+        }
+        else
+        {
+            statisticsHandler.onStatisticsUpdated(inetAddress, port, socketIdentifier, inode,
+                    entry.getReceiveQueueDepth(), entry.getTransmitQueueDepth(), entry.getDrops());
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.lmax.angler.monitoring.network.monitor.socket.udp;
 
+import com.lmax.angler.monitoring.network.monitor.socket.IPv6SocketKeyEncoder;
 import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields;
+
+import java.nio.ByteBuffer;
 
 /**
  * Value object.
  */
 final class UdpStatsEntry
 {
+    private final ByteBuffer inet6SocketKey = ByteBuffer.allocate(IPv6SocketKeyEncoder.KEY_LENGTH);
+    private final SocketTableRowFields rowFields = new SocketTableRowFields();
     private long socketIdentifier;
     private long receiveQueueDepth;
     private long transmitQueueDepth;
@@ -23,6 +29,16 @@ final class UdpStatsEntry
         return SocketIdentifier.overlayInode(socketIdentifier, inode);
     }
 
+    ByteBuffer getInet6SocketKey()
+    {
+        return inet6SocketKey;
+    }
+
+    SocketTableRowFields getRowFields()
+    {
+        return rowFields;
+    }
+
     void setSocketIdentifier(final long socketIdentifier)
     {
         this.socketIdentifier = socketIdentifier;
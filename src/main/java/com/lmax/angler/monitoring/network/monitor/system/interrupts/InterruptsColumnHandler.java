@@ -0,0 +1,148 @@
+package com.lmax.angler.monitoring.network.monitor.system.interrupts;
+
+import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.lmax.angler.monitoring.network.monitor.util.AsciiBytesToLongDecoder.decodeAscii;
+
+/**
+ * TokenHandler for data in /proc/interrupts.
+ *
+ * The header row names a column for each online CPU (CPU0 CPU1 CPU3 ...). Each numbered interrupt row is
+ * the interrupt number followed by a colon, a count for each of those CPUs, then a description:
+ * the interrupt chip, hardware interrupt number and trigger, and the names of the devices using the interrupt.
+ * Rows of architecture-specific interrupts (NMI, LOC, ...) are skipped.
+ */
+final class InterruptsColumnHandler implements TokenHandler
+{
+    private static final int HEADER_PREFIX_LENGTH = 3;
+
+    private final RowConsumer rowConsumer;
+    private int[] cpuIds = new int[0];
+    private long[] counts = new long[0];
+    private int cpuColumnCount;
+    private int currentColumn = 0;
+    private boolean headerRow;
+    private boolean skipRow;
+    private int irq;
+    private int descriptionStart = -1;
+    private int descriptionEnd = -1;
+
+    InterruptsColumnHandler(final RowConsumer rowConsumer)
+    {
+        this.rowConsumer = rowConsumer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleToken(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        if(currentColumn == 0)
+        {
+            headerRow = src.get(startPosition) == 'C';
+            if(headerRow)
+            {
+                cpuColumnCount = 0;
+                addCpuColumn(src, startPosition, endPosition);
+            }
+            else
+            {
+                skipRow = !isInterruptNumber(src, startPosition, endPosition);
+                if(!skipRow)
+                {
+                    irq = (int) decodeAscii(src, startPosition, endPosition - 1);
+                }
+            }
+        }
+        else if(headerRow)
+        {
+            addCpuColumn(src, startPosition, endPosition);
+        }
+        else if(!skipRow)
+        {
+            if(currentColumn <= cpuColumnCount)
+            {
+                counts[currentColumn - 1] = decodeAscii(src, startPosition, endPosition);
+            }
+            else
+            {
+                if(descriptionStart == -1)
+                {
+                    descriptionStart = startPosition;
+                }
+                descriptionEnd = endPosition;
+            }
+        }
+        currentColumn++;
+    }
+
+    @Override
+    public void complete()
+    {
+        if(!headerRow && !skipRow && currentColumn > cpuColumnCount)
+        {
+            rowConsumer.onRow(irq, cpuIds, counts, cpuColumnCount, descriptionStart, descriptionEnd);
+        }
+        currentColumn = 0;
+        headerRow = false;
+        skipRow = false;
+        descriptionStart = -1;
+        descriptionEnd = -1;
+    }
+
+    @Override
+    public void reset()
+    {
+        complete();
+        cpuColumnCount = 0;
+    }
+
+    private void addCpuColumn(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        if(cpuColumnCount == cpuIds.length)
+        {
+            cpuIds = Arrays.copyOf(cpuIds, Math.max(8, cpuIds.length * 2));
+            counts = Arrays.copyOf(counts, cpuIds.length);
+        }
+        cpuIds[cpuColumnCount++] = (int) decodeAscii(src, startPosition + HEADER_PREFIX_LENGTH, endPosition);
+    }
+
+    private static boolean isInterruptNumber(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        if(endPosition - startPosition < 2 || src.get(endPosition - 1) != ':')
+        {
+            return false;
+        }
+        for (int position = startPosition; position < endPosition - 1; position++)
+        {
+            final byte digit = src.get(position);
+            if(digit < '0' || digit > '9')
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Receives each numbered interrupt row.
+     */
+    @FunctionalInterface
+    interface RowConsumer
+    {
+        /**
+         * @param irq the interrupt number
+         * @param cpuIds the CPU id of each count
+         * @param counts the interrupt count of each CPU
+         * @param cpuCount the number of valid entries in cpuIds and counts
+         * @param descriptionStart the start position of the description in the source buffer, or -1 if there is none
+         * @param descriptionEnd the end position of the description in the source buffer
+         */
+        void onRow(final int irq, final int[] cpuIds, final long[] counts, final int cpuCount,
+                   final int descriptionStart, final int descriptionEnd);
+    }
+}
@@ -0,0 +1,16 @@
+package com.lmax.angler.monitoring.network.monitor.system.interrupts;
+
+/**
+ * Callback for interrupts handled by each CPU between polls, from /proc/interrupts.
+ */
+@FunctionalInterface
+public interface InterruptsHandler
+{
+    /**
+     * Callback method.
+     * @param irq the interrupt number
+     * @param cpuId the CPU that handled the interrupts
+     * @param interrupts the number of interrupts handled by the CPU since the previous poll
+     */
+    void onInterrupts(final int irq, final int cpuId, final long interrupts);
+}
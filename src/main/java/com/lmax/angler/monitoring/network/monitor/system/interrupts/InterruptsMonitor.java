@@ -0,0 +1,273 @@
+package com.lmax.angler.monitoring.network.monitor.system.interrupts;
+
+import com.lmax.angler.monitoring.network.monitor.util.FileLoader;
+import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
+import org.agrona.collections.Int2ObjectHashMap;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.regex.Pattern;
+
+import static com.lmax.angler.monitoring.network.monitor.util.CounterDeltas.delta32;
+import static com.lmax.angler.monitoring.network.monitor.util.Parsers.rowColumnParser;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Monitor for reporting how the interrupts of selected devices, e.g. NIC queues, are distributed across CPUs,
+ * from /proc/interrupts. Affinity drift, such as after a NIC reset, shows up as interrupts landing on unexpected CPUs.
+ *
+ * An interrupt is selected if the device pattern is found in its description (chip, hardware interrupt and device names,
+ * e.g. "PCI-MSI 524288-edge mlx5_comp0@pci:0000:01:00.0"). Descriptions are only matched when an interrupt is first seen,
+ * or when its description changes. Counts of selected interrupts are held in a flat matrix of one row per interrupt and one
+ * column per CPU id. Rows are reused once their interrupt is deselected or no longer listed.
+ *
+ * On each poll, the number of interrupts each CPU handled since the previous poll is reported, for every CPU that handled any.
+ * The first reading of an interrupt, or of a CPU that comes online, is used as a baseline, and is not reported.
+ * Interrupts no longer listed are forgotten, so an interrupt that reappears, e.g. after a NIC reset, starts from a new baseline.
+ * A count that moves by half of the 32-bit counter range or more between polls, e.g. one that goes down without wrapping,
+ * is taken as a counter reset, and re-baselines the whole interrupt without reporting it.
+ */
+public final class InterruptsMonitor
+{
+    private static final int ESTIMATED_LINE_LENGTH_PER_CPU = 11;
+    private static final int ESTIMATED_LINE_COUNT = 128;
+    private static final long NO_BASELINE = -1L;
+    private static final long MAX_PLAUSIBLE_DELTA = 1L << 31;
+
+    private final Int2ObjectHashMap<InterruptState> interruptsByIrq = new Int2ObjectHashMap<>();
+    private final TokenHandler lineParser = rowColumnParser(new InterruptsColumnHandler(this::handleRow));
+    private final Pattern devicePattern;
+    private final FileLoader fileLoader;
+
+    private long[] counts = new long[0];
+    private int[] freeRows = new int[0];
+    private int freeRowCount;
+    private int cpuIdLimit;
+    private int rowCount;
+    private int pollCount;
+    private InterruptsHandler interruptsHandler;
+    private ByteBuffer buffer;
+
+    /**
+     * Constructor.
+     * @param devicePattern regular expression to find in the descriptions of interrupts to monitor, e.g. "mlx5_comp|ixgbe"
+     */
+    public InterruptsMonitor(final String devicePattern)
+    {
+        this(Pattern.compile(devicePattern), Paths.get("/proc/interrupts"));
+    }
+
+    InterruptsMonitor(final Pattern devicePattern, final Path pathToProcInterrupts)
+    {
+        this.devicePattern = devicePattern;
+        this.fileLoader = new FileLoader(pathToProcInterrupts,
+                ESTIMATED_LINE_COUNT * ESTIMATED_LINE_LENGTH_PER_CPU * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Read from monitored file, report the interrupts handled by each CPU for each selected interrupt since the previous poll.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param interruptsHandler the handler for interrupt counts
+     */
+    public void poll(final InterruptsHandler interruptsHandler)
+    {
+        this.interruptsHandler = interruptsHandler;
+        try
+        {
+            fileLoader.load();
+            buffer = fileLoader.getBuffer();
+
+            pollCount++;
+            lineParser.reset();
+            lineParser.handleToken(buffer, buffer.position(), buffer.limit());
+            purgeUnseenInterrupts();
+        }
+        finally
+        {
+            this.interruptsHandler = null;
+            this.buffer = null;
+        }
+    }
+
+    /**
+     * @param irq the interrupt number
+     * @return whether the interrupt was listed and matched the device pattern at the last poll
+     */
+    public boolean isSelected(final int irq)
+    {
+        final InterruptState state = interruptsByIrq.get(irq);
+        return state != null && state.row != InterruptState.NOT_SELECTED;
+    }
+
+    /**
+     * @param irq the interrupt number
+     * @return the description of the interrupt at the last poll, or null if it was not listed
+     */
+    public String getDescription(final int irq)
+    {
+        final InterruptState state = interruptsByIrq.get(irq);
+        return state == null ? null : state.description;
+    }
+
+    int getMatrixRowCount()
+    {
+        return rowCount;
+    }
+
+    private void handleRow(
+            final int irq, final int[] cpuIds, final long[] rowCounts, final int cpuCount,
+            final int descriptionStart, final int descriptionEnd)
+    {
+        final int descriptionHash = hash(descriptionStart, descriptionEnd);
+        InterruptState state = interruptsByIrq.get(irq);
+        if(state == null)
+        {
+            state = new InterruptState();
+            interruptsByIrq.put(irq, state);
+            select(state, descriptionStart, descriptionEnd, descriptionHash);
+        }
+        else if(state.descriptionHash != descriptionHash)
+        {
+            select(state, descriptionStart, descriptionEnd, descriptionHash);
+        }
+        state.lastSeenPoll = pollCount;
+
+        if(state.row == InterruptState.NOT_SELECTED)
+        {
+            return;
+        }
+
+        ensureCpuCapacity(cpuIds[cpuCount - 1] + 1);
+        final int rowOffset = state.row * cpuIdLimit;
+        final boolean reset = isReset(rowOffset, cpuIds, rowCounts, cpuCount);
+        for (int i = 0; i < cpuCount; i++)
+        {
+            final int cpuId = cpuIds[i];
+            final long count = rowCounts[i];
+            final long previous = counts[rowOffset + cpuId];
+            if(!reset && previous != NO_BASELINE)
+            {
+                final long interrupts = delta32(previous, count);
+                if(interrupts != 0L)
+                {
+                    interruptsHandler.onInterrupts(irq, cpuId, interrupts);
+                }
+            }
+            counts[rowOffset + cpuId] = count;
+        }
+    }
+
+    private boolean isReset(final int rowOffset, final int[] cpuIds, final long[] rowCounts, final int cpuCount)
+    {
+        for (int i = 0; i < cpuCount; i++)
+        {
+            final long previous = counts[rowOffset + cpuIds[i]];
+            if(previous != NO_BASELINE && delta32(previous, rowCounts[i]) >= MAX_PLAUSIBLE_DELTA)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void purgeUnseenInterrupts()
+    {
+        final Iterator<InterruptState> iterator = interruptsByIrq.values().iterator();
+        while (iterator.hasNext())
+        {
+            final InterruptState state = iterator.next();
+            if(state.lastSeenPoll != pollCount)
+            {
+                freeRow(state);
+                iterator.remove();
+            }
+        }
+    }
+
+    private void select(final InterruptState state, final int descriptionStart, final int descriptionEnd, final int descriptionHash)
+    {
+        state.description = descriptionStart == -1 ? "" : text(descriptionStart, descriptionEnd);
+        state.descriptionHash = descriptionHash;
+        freeRow(state);
+        if(devicePattern.matcher(state.description).find())
+        {
+            state.row = allocateRow();
+        }
+    }
+
+    private int allocateRow()
+    {
+        final int row;
+        if(freeRowCount != 0)
+        {
+            row = freeRows[--freeRowCount];
+        }
+        else
+        {
+            row = rowCount++;
+            counts = Arrays.copyOf(counts, rowCount * cpuIdLimit);
+            freeRows = Arrays.copyOf(freeRows, rowCount);
+        }
+        Arrays.fill(counts, row * cpuIdLimit, (row + 1) * cpuIdLimit, NO_BASELINE);
+        return row;
+    }
+
+    private void freeRow(final InterruptState state)
+    {
+        if(state.row != InterruptState.NOT_SELECTED)
+        {
+            freeRows[freeRowCount++] = state.row;
+            state.row = InterruptState.NOT_SELECTED;
+        }
+    }
+
+    private void ensureCpuCapacity(final int requiredCpuIdLimit)
+    {
+        if(requiredCpuIdLimit > cpuIdLimit)
+        {
+            final long[] resized = new long[rowCount * requiredCpuIdLimit];
+            Arrays.fill(resized, NO_BASELINE);
+            for (int row = 0; row < rowCount; row++)
+            {
+                System.arraycopy(counts, row * cpuIdLimit, resized, row * requiredCpuIdLimit, cpuIdLimit);
+            }
+            counts = resized;
+            cpuIdLimit = requiredCpuIdLimit;
+        }
+    }
+
+    private int hash(final int startPosition, final int endPosition)
+    {
+        int hash = 0;
+        for (int position = startPosition; position < endPosition; position++)
+        {
+            hash = 31 * hash + buffer.get(position);
+        }
+        return hash;
+    }
+
+    private String text(final int startPosition, final int endPosition)
+    {
+        final byte[] bytes = new byte[endPosition - startPosition];
+        for (int i = 0; i < bytes.length; i++)
+        {
+            bytes[i] = buffer.get(startPosition + i);
+        }
+        return new String(bytes, US_ASCII);
+    }
+
+    private static final class InterruptState
+    {
+        private static final int NOT_SELECTED = -1;
+
+        private int row = NOT_SELECTED;
+        private int descriptionHash;
+        private String description;
+        private int lastSeenPoll;
+    }
+}
@@ -0,0 +1,92 @@
+package com.lmax.angler.monitoring.network.monitor.system.netdev;
+
+import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
+
+import java.nio.ByteBuffer;
+
+import static com.lmax.angler.monitoring.network.monitor.util.AsciiBytesToLongDecoder.decodeAscii;
+
+/**
+ * TokenHandler for data in /proc/net/dev.
+ *
+ * Each data row is an interface name followed by a colon, then eight receive and eight transmit counters.
+ * Older kernels omit the space after the colon when the first counter is wide, so the name and
+ * first counter may share a token. The two header rows have no colon, and are skipped.
+ */
+final class InterfaceStatsColumnHandler implements TokenHandler
+{
+    static final int COLUMN_COUNT = 16;
+
+    private final RowConsumer rowConsumer;
+    private final long[] values = new long[COLUMN_COUNT];
+    private int currentColumn = 0;
+    private int valueCount = 0;
+    private boolean skipRow;
+    private int nameStart;
+    private int nameEnd;
+
+    InterfaceStatsColumnHandler(final RowConsumer rowConsumer)
+    {
+        this.rowConsumer = rowConsumer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleToken(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        if(currentColumn == 0)
+        {
+            int colon = startPosition;
+            while(colon < endPosition && src.get(colon) != ':')
+            {
+                colon++;
+            }
+            skipRow = colon == endPosition;
+            nameStart = startPosition;
+            nameEnd = colon;
+            if(!skipRow && colon + 1 < endPosition)
+            {
+                values[valueCount++] = decodeAscii(src, colon + 1, endPosition);
+            }
+        }
+        else if(!skipRow && valueCount < COLUMN_COUNT)
+        {
+            values[valueCount++] = decodeAscii(src, startPosition, endPosition);
+        }
+        currentColumn++;
+    }
+
+    @Override
+    public void complete()
+    {
+        if(!skipRow && valueCount == COLUMN_COUNT)
+        {
+            rowConsumer.onRow(nameStart, nameEnd, values);
+        }
+        reset();
+    }
+
+    @Override
+    public void reset()
+    {
+        currentColumn = 0;
+        valueCount = 0;
+        skipRow = false;
+    }
+
+    /**
+     * Receives each complete data row.
+     */
+    @FunctionalInterface
+    interface RowConsumer
+    {
+        /**
+         * @param nameStart the start position of the interface name in the source buffer
+         * @param nameEnd the end position of the interface name in the source buffer
+         * @param values the sixteen counters of the row
+         */
+        void onRow(final int nameStart, final int nameEnd, final long[] values);
+    }
+}
@@ -0,0 +1,35 @@
+package com.lmax.angler.monitoring.network.monitor.system.netdev;
+
+/**
+ * Callback for the change in per-interface counters from /proc/net/dev between polls.
+ */
+@FunctionalInterface
+public interface InterfaceStatsHandler
+{
+    /**
+     * Callback method.
+     * @param interfaceId the id of the interface, see InterfaceStatsMonitor.getInterfaceName
+     * @param receivedBytes bytes received
+     * @param receivedPackets packets received
+     * @param receiveErrors receive errors detected by the driver
+     * @param receiveDropped received packets dropped, including those missed by the NIC (rx_dropped + rx_missed_errors)
+     * @param receiveFifoErrors receive FIFO overruns (rx_fifo_errors)
+     * @param transmittedBytes bytes transmitted
+     * @param transmittedPackets packets transmitted
+     * @param transmitErrors transmit errors detected by the driver
+     * @param transmitDropped packets dropped on transmit
+     * @param transmitFifoErrors transmit FIFO errors (tx_fifo_errors)
+     */
+    void onInterfaceStatistics(
+            final int interfaceId,
+            final long receivedBytes,
+            final long receivedPackets,
+            final long receiveErrors,
+            final long receiveDropped,
+            final long receiveFifoErrors,
+            final long transmittedBytes,
+            final long transmittedPackets,
+            final long transmitErrors,
+            final long transmitDropped,
+            final long transmitFifoErrors);
+}
@@ -0,0 +1,199 @@
+package com.lmax.angler.monitoring.network.monitor.system.netdev;
+
+import com.lmax.angler.monitoring.network.monitor.util.EncodedData2ObjectHashMap;
+import com.lmax.angler.monitoring.network.monitor.util.FileLoader;
+import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static com.lmax.angler.monitoring.network.monitor.util.CounterDeltas.delta64;
+import static com.lmax.angler.monitoring.network.monitor.util.Parsers.rowColumnParser;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Monitor for reporting per-interface NIC counters from /proc/net/dev, showing whether the NIC or driver
+ * itself is dropping packets.
+ *
+ * Interface names are interned into dense int ids when first seen. On each poll, the change in every interface's
+ * counters since the previous poll is reported; the first reading of an interface is used as a baseline, and is not reported.
+ * Interfaces no longer listed, e.g. removed veth pairs, are forgotten and their ids reused, so an interface that
+ * reappears starts from a new baseline.
+ */
+public final class InterfaceStatsMonitor
+{
+    // IFNAMSIZ, including the terminating NUL
+    private static final int MAX_NAME_LENGTH = 16;
+    private static final int RX_BYTES = 0;
+    private static final int RX_PACKETS = 1;
+    private static final int RX_ERRORS = 2;
+    private static final int RX_DROPPED = 3;
+    private static final int RX_FIFO = 4;
+    private static final int TX_BYTES = 8;
+    private static final int TX_PACKETS = 9;
+    private static final int TX_ERRORS = 10;
+    private static final int TX_DROPPED = 11;
+    private static final int TX_FIFO = 12;
+
+    private final EncodedData2ObjectHashMap<String, InterfaceCounters> interfacesByName = new EncodedData2ObjectHashMap<>(
+            16, 0.5f, MAX_NAME_LENGTH, InterfaceStatsMonitor::encodeName, "");
+    private final ByteBuffer nameKey = ByteBuffer.allocate(MAX_NAME_LENGTH);
+    private final TokenHandler lineParser = rowColumnParser(new InterfaceStatsColumnHandler(this::handleRow));
+    private final FileLoader fileLoader;
+
+    private InterfaceCounters[] interfaces = new InterfaceCounters[0];
+    private int[] freeInterfaceIds = new int[0];
+    private int freeInterfaceIdCount;
+    private long pollCount;
+    private InterfaceStatsHandler interfaceStatsHandler;
+    private ByteBuffer buffer;
+
+    public InterfaceStatsMonitor()
+    {
+        this(Paths.get("/proc/net/dev"));
+    }
+
+    InterfaceStatsMonitor(final Path pathToProcNetDev)
+    {
+        fileLoader = new FileLoader(pathToProcNetDev, 4096);
+    }
+
+    /**
+     * Read from monitored file, report the change in each interface's counters since the previous poll.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param interfaceStatsHandler the handler for interface statistics
+     */
+    public void poll(final InterfaceStatsHandler interfaceStatsHandler)
+    {
+        this.interfaceStatsHandler = interfaceStatsHandler;
+        try
+        {
+            fileLoader.load();
+            buffer = fileLoader.getBuffer();
+
+            pollCount++;
+            lineParser.reset();
+            lineParser.handleToken(buffer, buffer.position(), buffer.limit());
+            purgeUnseenInterfaces();
+        }
+        finally
+        {
+            this.interfaceStatsHandler = null;
+            this.buffer = null;
+        }
+    }
+
+    /**
+     * @return the number of interface ids allocated so far; ids are in the range [0, count)
+     */
+    public int getInterfaceCount()
+    {
+        return interfaces.length;
+    }
+
+    /**
+     * @param interfaceId the id of the interface
+     * @return the name of the interface, or null if no interface listed at the last poll has the id
+     */
+    public String getInterfaceName(final int interfaceId)
+    {
+        final InterfaceCounters counters = interfaces[interfaceId];
+        return counters == null ? null : counters.name;
+    }
+
+    private void handleRow(final int nameStart, final int nameEnd, final long[] values)
+    {
+        final int nameLength = nameEnd - nameStart;
+        if(nameLength == 0 || nameLength > MAX_NAME_LENGTH)
+        {
+            return;
+        }
+        for (int i = 0; i < MAX_NAME_LENGTH; i++)
+        {
+            nameKey.put(i, i < nameLength ? buffer.get(nameStart + i) : 0);
+        }
+
+        InterfaceCounters counters = interfacesByName.getByEncodedKey(nameKey);
+        if(counters == null)
+        {
+            final byte[] name = new byte[nameLength];
+            for (int i = 0; i < nameLength; i++)
+            {
+                name[i] = buffer.get(nameStart + i);
+            }
+            counters = new InterfaceCounters(allocateInterfaceId(), new String(name, US_ASCII));
+            interfaces[counters.interfaceId] = counters;
+            interfacesByName.put(counters.name, counters);
+        }
+        else
+        {
+            final long[] previous = counters.previousValues;
+            interfaceStatsHandler.onInterfaceStatistics(counters.interfaceId,
+                    delta64(previous[RX_BYTES], values[RX_BYTES]),
+                    delta64(previous[RX_PACKETS], values[RX_PACKETS]),
+                    delta64(previous[RX_ERRORS], values[RX_ERRORS]),
+                    delta64(previous[RX_DROPPED], values[RX_DROPPED]),
+                    delta64(previous[RX_FIFO], values[RX_FIFO]),
+                    delta64(previous[TX_BYTES], values[TX_BYTES]),
+                    delta64(previous[TX_PACKETS], values[TX_PACKETS]),
+                    delta64(previous[TX_ERRORS], values[TX_ERRORS]),
+                    delta64(previous[TX_DROPPED], values[TX_DROPPED]),
+                    delta64(previous[TX_FIFO], values[TX_FIFO]));
+        }
+        System.arraycopy(values, 0, counters.previousValues, 0, InterfaceStatsColumnHandler.COLUMN_COUNT);
+        counters.lastSeenPoll = pollCount;
+    }
+
+    private int allocateInterfaceId()
+    {
+        if(freeInterfaceIdCount != 0)
+        {
+            return freeInterfaceIds[--freeInterfaceIdCount];
+        }
+        final int interfaceId = interfaces.length;
+        interfaces = Arrays.copyOf(interfaces, interfaceId + 1);
+        freeInterfaceIds = Arrays.copyOf(freeInterfaceIds, interfaceId + 1);
+        return interfaceId;
+    }
+
+    private void purgeUnseenInterfaces()
+    {
+        for (int interfaceId = 0; interfaceId < interfaces.length; interfaceId++)
+        {
+            final InterfaceCounters counters = interfaces[interfaceId];
+            if(counters != null && counters.lastSeenPoll != pollCount)
+            {
+                interfacesByName.remove(counters.name);
+                interfaces[interfaceId] = null;
+                freeInterfaceIds[freeInterfaceIdCount++] = interfaceId;
+            }
+        }
+    }
+
+    private static void encodeName(final String name, final ByteBuffer keyBuffer)
+    {
+        keyBuffer.put(name.getBytes(US_ASCII));
+        while(keyBuffer.position() < MAX_NAME_LENGTH)
+        {
+            keyBuffer.put((byte) 0);
+        }
+    }
+
+    private static final class InterfaceCounters
+    {
+        private final int interfaceId;
+        private final String name;
+        private final long[] previousValues = new long[InterfaceStatsColumnHandler.COLUMN_COUNT];
+        private long lastSeenPoll;
+
+        InterfaceCounters(final int interfaceId, final String name)
+        {
+            this.interfaceId = interfaceId;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.lmax.angler.monitoring.network.monitor.system.snmp;
+
+/**
+ * Callback for changed counters from /proc/net/netstat.
+ */
+@FunctionalInterface
+public interface NetstatCounterHandler
+{
+    /**
+     * Callback method.
+     * @param counterId the id returned when the counter was registered
+     * @param value the counter value
+     */
+    void onCounterUpdated(final int counterId, final long value);
+}
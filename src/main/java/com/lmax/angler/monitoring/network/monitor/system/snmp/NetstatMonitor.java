@@ -0,0 +1,89 @@
+package com.lmax.angler.monitoring.network.monitor.system.snmp;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Monitor for reporting changes in /proc/net/netstat, which holds the Linux-specific TcpExt and IpExt counters
+ * that explain most TCP latency incidents, e.g.
+ * <pre>
+ *     final int listenOverflows = monitor.register("TcpExt", "ListenOverflows");
+ *     final int backlogDrops = monitor.register("TcpExt", "TCPBacklogDrop");
+ * </pre>
+ *
+ * The file has the same layout as /proc/net/snmp, so columns are located by header name in the same way,
+ * see SnmpCountersMonitor. A registered counter is reported when it is first read, and whenever it changes.
+ * Counters not present in the running kernel are never reported.
+ */
+public final class NetstatMonitor
+{
+    private final SnmpCountersHandler countersHandler = this::onCounters;
+    private final SnmpCountersMonitor countersMonitor;
+    private long[] previousValues = new long[0];
+    private NetstatCounterHandler counterHandler;
+
+    public NetstatMonitor()
+    {
+        this(Paths.get("/proc/net/netstat"));
+    }
+
+    NetstatMonitor(final Path pathToProcNetNetstat)
+    {
+        countersMonitor = new SnmpCountersMonitor(pathToProcNetNetstat);
+    }
+
+    /**
+     * Register interest in a counter. Registering the same counter twice returns the same id.
+     *
+     * Not thread-safe, only call from the polling thread, or before polling begins.
+     *
+     * @param section the section name, e.g. "TcpExt"
+     * @param name the column name, e.g. "ListenDrops"
+     * @return the id of the counter, as passed to NetstatCounterHandler
+     */
+    public int register(final String section, final String name)
+    {
+        final int counterId = countersMonitor.register(section, name);
+        if(counterId >= previousValues.length)
+        {
+            final int previousLength = previousValues.length;
+            previousValues = Arrays.copyOf(previousValues, counterId + 1);
+            Arrays.fill(previousValues, previousLength, counterId + 1, SnmpCounters.UNAVAILABLE);
+        }
+        return counterId;
+    }
+
+    /**
+     * Read from monitored file, report any changed values of registered counters.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param counterHandler the handler for changed counters
+     */
+    public void poll(final NetstatCounterHandler counterHandler)
+    {
+        this.counterHandler = counterHandler;
+        try
+        {
+            countersMonitor.poll(countersHandler);
+        }
+        finally
+        {
+            this.counterHandler = null;
+        }
+    }
+
+    private void onCounters(final SnmpCounters counters)
+    {
+        for (int counterId = 0; counterId < counters.getCounterCount(); counterId++)
+        {
+            final long value = counters.getValue(counterId);
+            if(counters.isAvailable(counterId) && value != previousValues[counterId])
+            {
+                previousValues[counterId] = value;
+                counterHandler.onCounterUpdated(counterId, value);
+            }
+        }
+    }
+}
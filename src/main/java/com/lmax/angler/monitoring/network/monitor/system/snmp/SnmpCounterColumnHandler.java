@@ -0,0 +1,106 @@
+package com.lmax.angler.monitoring.network.monitor.system.snmp;
+
+import com.lmax.angler.monitoring.network.monitor.util.RowHandler;
+import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
+
+import java.nio.ByteBuffer;
+
+import static com.lmax.angler.monitoring.network.monitor.util.AsciiBytesToLongDecoder.decodeAscii;
+
+/**
+ * Handler for files in the format of /proc/net/snmp.
+ *
+ * Rows of sections without registered counters, and header rows while counters are not being located, are skipped
+ * without being tokenised. Of the remaining value rows, only the columns of registered counters are decoded.
+ */
+final class SnmpCounterColumnHandler implements RowHandler, TokenHandler
+{
+    private static final int NOT_FOUND = -1;
+
+    private final SnmpCounters counters;
+    private boolean mapping;
+    private int currentColumn = 0;
+    private int currentSection = NOT_FOUND;
+    private boolean currentRowIsHeader;
+
+    SnmpCounterColumnHandler(final SnmpCounters counters)
+    {
+        this.counters = counters;
+    }
+
+    void setMapping(final boolean mapping)
+    {
+        this.mapping = mapping;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean handleRow(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        int sectionEnd = startPosition;
+        while(sectionEnd < endPosition && src.get(sectionEnd) != ' ')
+        {
+            sectionEnd++;
+        }
+        currentSection = sectionEnd == startPosition ? NOT_FOUND : counters.findSection(src, startPosition, sectionEnd);
+        if(currentSection == NOT_FOUND || sectionEnd + 1 >= endPosition)
+        {
+            return true;
+        }
+        final byte first = src.get(sectionEnd + 1);
+        currentRowIsHeader = first != '-' && (first < '0' || first > '9');
+        // declined rows are tokenised, starting from the section name
+        return currentRowIsHeader && !mapping;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleToken(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        if(currentColumn != 0)
+        {
+            if(currentRowIsHeader)
+            {
+                if(mapping)
+                {
+                    counters.mapColumn(currentSection, currentColumn, src, startPosition, endPosition);
+                }
+            }
+            else
+            {
+                final int counterId = counters.counterAt(currentSection, currentColumn);
+                if(counterId != NOT_FOUND)
+                {
+                    counters.setValue(counterId, decodeSigned(src, startPosition, endPosition));
+                }
+            }
+        }
+        currentColumn++;
+    }
+
+    @Override
+    public void complete()
+    {
+        currentColumn = 0;
+        currentSection = NOT_FOUND;
+    }
+
+    @Override
+    public void reset()
+    {
+        complete();
+    }
+
+    private static long decodeSigned(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        if(src.get(startPosition) == '-')
+        {
+            return -decodeAscii(src, startPosition + 1, endPosition);
+        }
+        return decodeAscii(src, startPosition, endPosition);
+    }
+}
@@ -0,0 +1,210 @@
+package com.lmax.angler.monitoring.network.monitor.system.snmp;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Registered counters from a file in the format of /proc/net/snmp, where each section is a header row of
+ * column names followed by a row of values, both prefixed by the section name, e.g.
+ * <pre>
+ *     Tcp: RtoAlgorithm RtoMin RtoMax MaxConn ActiveOpens ...
+ *     Tcp: 1 200 120000 -1 829567 ...
+ * </pre>
+ *
+ * Counters are located by section and column name when the header rows are first read,
+ * so columns added or reordered by a kernel upgrade need no code changes.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class SnmpCounters
+{
+    /**
+     * Returned for a counter whose section or column is not present in the file.
+     */
+    public static final long UNAVAILABLE = Long.MIN_VALUE;
+
+    private static final int NOT_FOUND = -1;
+
+    private byte[][] sectionTokens = new byte[0][];
+    private int[][] counterByColumn = new int[0][];
+    private int[] counterSections = new int[0];
+    private String[] counterNames = new String[0];
+    private byte[][] counterNameBytes = new byte[0][];
+    private long[] values = new long[0];
+    private boolean[] available = new boolean[0];
+    private boolean mappingRequired;
+
+    /**
+     * Register interest in a counter. Registering the same counter twice returns the same id.
+     * @param section the section name, e.g. "Tcp"
+     * @param name the column name, e.g. "RetransSegs"
+     * @return the id of the counter
+     */
+    public int register(final String section, final String name)
+    {
+        final int sectionId = registerSection(section);
+        for (int counterId = 0; counterId < counterNames.length; counterId++)
+        {
+            if(counterSections[counterId] == sectionId && counterNames[counterId].equals(name))
+            {
+                return counterId;
+            }
+        }
+
+        final int counterId = counterNames.length;
+        counterSections = Arrays.copyOf(counterSections, counterId + 1);
+        counterNames = Arrays.copyOf(counterNames, counterId + 1);
+        counterNameBytes = Arrays.copyOf(counterNameBytes, counterId + 1);
+        values = Arrays.copyOf(values, counterId + 1);
+        available = Arrays.copyOf(available, counterId + 1);
+        counterSections[counterId] = sectionId;
+        counterNames[counterId] = name;
+        counterNameBytes[counterId] = name.getBytes(US_ASCII);
+        values[counterId] = UNAVAILABLE;
+        mappingRequired = true;
+        return counterId;
+    }
+
+    /**
+     * @return the number of registered counters
+     */
+    public int getCounterCount()
+    {
+        return counterNames.length;
+    }
+
+    /**
+     * @param counterId the id of the counter
+     * @return the section name of the counter
+     */
+    public String getSection(final int counterId)
+    {
+        final byte[] sectionToken = sectionTokens[counterSections[counterId]];
+        return new String(sectionToken, 0, sectionToken.length - 1, US_ASCII);
+    }
+
+    /**
+     * @param counterId the id of the counter
+     * @return the column name of the counter
+     */
+    public String getName(final int counterId)
+    {
+        return counterNames[counterId];
+    }
+
+    /**
+     * @param counterId the id of the counter
+     * @return whether the counter was present in the last read
+     */
+    public boolean isAvailable(final int counterId)
+    {
+        return available[counterId];
+    }
+
+    /**
+     * @param counterId the id of the counter
+     * @return the value of the counter at the last read, or UNAVAILABLE
+     */
+    public long getValue(final int counterId)
+    {
+        return values[counterId];
+    }
+
+    boolean isMappingRequired()
+    {
+        return mappingRequired;
+    }
+
+    void beginMapping()
+    {
+        for (int sectionId = 0; sectionId < counterByColumn.length; sectionId++)
+        {
+            Arrays.fill(counterByColumn[sectionId], NOT_FOUND);
+        }
+        Arrays.fill(available, false);
+        Arrays.fill(values, UNAVAILABLE);
+    }
+
+    void endMapping()
+    {
+        mappingRequired = false;
+    }
+
+    int findSection(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        for (int sectionId = 0; sectionId < sectionTokens.length; sectionId++)
+        {
+            if(matches(sectionTokens[sectionId], src, startPosition, endPosition))
+            {
+                return sectionId;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    void mapColumn(final int sectionId, final int column, final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        for (int counterId = 0; counterId < counterNames.length; counterId++)
+        {
+            if(counterSections[counterId] == sectionId && matches(counterNameBytes[counterId], src, startPosition, endPosition))
+            {
+                if(column >= counterByColumn[sectionId].length)
+                {
+                    final int previousLength = counterByColumn[sectionId].length;
+                    counterByColumn[sectionId] = Arrays.copyOf(counterByColumn[sectionId], column + 1);
+                    Arrays.fill(counterByColumn[sectionId], previousLength, column + 1, NOT_FOUND);
+                }
+                counterByColumn[sectionId][column] = counterId;
+                available[counterId] = true;
+            }
+        }
+    }
+
+    int counterAt(final int sectionId, final int column)
+    {
+        final int[] counters = counterByColumn[sectionId];
+        return column < counters.length ? counters[column] : NOT_FOUND;
+    }
+
+    void setValue(final int counterId, final long value)
+    {
+        values[counterId] = value;
+    }
+
+    private int registerSection(final String section)
+    {
+        final byte[] sectionToken = (section + ":").getBytes(US_ASCII);
+        for (int sectionId = 0; sectionId < sectionTokens.length; sectionId++)
+        {
+            if(Arrays.equals(sectionTokens[sectionId], sectionToken))
+            {
+                return sectionId;
+            }
+        }
+
+        final int sectionId = sectionTokens.length;
+        sectionTokens = Arrays.copyOf(sectionTokens, sectionId + 1);
+        counterByColumn = Arrays.copyOf(counterByColumn, sectionId + 1);
+        sectionTokens[sectionId] = sectionToken;
+        counterByColumn[sectionId] = new int[0];
+        return sectionId;
+    }
+
+    private static boolean matches(final byte[] expected, final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        if(endPosition - startPosition != expected.length)
+        {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++)
+        {
+            if(src.get(startPosition + i) != expected[i])
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,14 @@
+package com.lmax.angler.monitoring.network.monitor.system.snmp;
+
+/**
+ * Callback for registered counters from /proc/net/snmp.
+ */
+@FunctionalInterface
+public interface SnmpCountersHandler
+{
+    /**
+     * Callback method.
+     * @param counters the registered counters, valid only for the duration of the callback
+     */
+    void onCountersUpdated(final SnmpCounters counters);
+}
@@ -0,0 +1,78 @@
+package com.lmax.angler.monitoring.network.monitor.system.snmp;
+
+import com.lmax.angler.monitoring.network.monitor.util.FileLoader;
+import com.lmax.angler.monitoring.network.monitor.util.Parsers;
+import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Monitor for reporting any counters in /proc/net/snmp, e.g.
+ * <pre>
+ *     final int retransmits = monitor.register("Tcp", "RetransSegs");
+ *     final int reassemblyFailures = monitor.register("Ip", "ReasmFails");
+ * </pre>
+ *
+ * All registered counters are decoded from a single read of the file, and reported on every poll.
+ */
+public final class SnmpCountersMonitor
+{
+    private final SnmpCounters counters = new SnmpCounters();
+    private final SnmpCounterColumnHandler columnHandler = new SnmpCounterColumnHandler(counters);
+    private final TokenHandler lineParser = Parsers.rowParser(columnHandler, columnHandler);
+    private final FileLoader fileLoader;
+
+    public SnmpCountersMonitor()
+    {
+        this(Paths.get("/proc/net/snmp"));
+    }
+
+    SnmpCountersMonitor(final Path pathToProcNetSnmp)
+    {
+        fileLoader = new FileLoader(pathToProcNetSnmp, 4096);
+    }
+
+    /**
+     * Register interest in a counter. Registering the same counter twice returns the same id.
+     *
+     * Not thread-safe, only call from the polling thread, or before polling begins.
+     *
+     * @param section the section name, e.g. "Tcp"
+     * @param name the column name, e.g. "RetransSegs"
+     * @return the id of the counter, for use with SnmpCounters
+     */
+    public int register(final String section, final String name)
+    {
+        return counters.register(section, name);
+    }
+
+    /**
+     * Read from monitored file, and report the registered counters.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param handler the handler for the counters
+     */
+    public void poll(final SnmpCountersHandler handler)
+    {
+        fileLoader.load();
+        final ByteBuffer buffer = fileLoader.getBuffer();
+
+        final boolean mapping = counters.isMappingRequired();
+        if(mapping)
+        {
+            counters.beginMapping();
+        }
+        columnHandler.setMapping(mapping);
+        lineParser.reset();
+        lineParser.handleToken(buffer, buffer.position(), buffer.limit());
+        if(mapping)
+        {
+            counters.endMapping();
+        }
+
+        handler.onCountersUpdated(counters);
+    }
+}
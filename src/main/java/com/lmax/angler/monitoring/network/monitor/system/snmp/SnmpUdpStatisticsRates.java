@@ -0,0 +1,88 @@
+package com.lmax.angler.monitoring.network.monitor.system.snmp;
+
+import com.lmax.angler.monitoring.network.monitor.system.snmp.udp.SnmpUdpStatisticsHandler;
+import com.lmax.angler.monitoring.network.monitor.system.snmp.udp.SnmpUdpStatisticsRateHandler;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.SystemNanoClock;
+
+import static com.lmax.angler.monitoring.network.monitor.util.CounterDeltas.delta64;
+import static com.lmax.angler.monitoring.network.monitor.util.CounterDeltas.perSecond;
+
+/**
+ * Converts the UDP counters reported by a SystemNetworkManagementMonitor into per-interval deltas and per-second rates.
+ *
+ * The counters are reported whenever they changed since the previous poll, and once more with zero deltas
+ * when they stop changing, so that e.g. receive-buffer-errors-per-second returns to zero.
+ * The first reading is used as a baseline, and is not reported.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class SnmpUdpStatisticsRates
+{
+    private final SnmpUdpStatisticsHandler countersHandler = this::onCounters;
+    private final NanoClock nanoClock;
+
+    private SnmpUdpStatisticsRateHandler rateHandler;
+    private long pollNanos;
+    private boolean hasBaseline;
+    private boolean changing;
+    private long inErrors;
+    private long receiveBufferErrors;
+    private long inChecksumErrors;
+    private long timestampNanos;
+
+    public SnmpUdpStatisticsRates()
+    {
+        this(new SystemNanoClock());
+    }
+
+    public SnmpUdpStatisticsRates(final NanoClock nanoClock)
+    {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Poll the monitor, and report the change in UDP counters since the previous poll.
+     *
+     * @param monitor the monitor to poll
+     * @param rateHandler the handler for changes
+     */
+    public void poll(final SystemNetworkManagementMonitor monitor, final SnmpUdpStatisticsRateHandler rateHandler)
+    {
+        this.rateHandler = rateHandler;
+        pollNanos = nanoClock.nanoTime();
+        try
+        {
+            monitor.poll(countersHandler);
+        }
+        finally
+        {
+            this.rateHandler = null;
+        }
+    }
+
+    private void onCounters(final long inErrors, final long receiveBufferErrors, final long inChecksumErrors)
+    {
+        if(hasBaseline)
+        {
+            final long intervalNanos = pollNanos - timestampNanos;
+            final long inErrorsDelta = delta64(this.inErrors, inErrors);
+            final long receiveBufferErrorsDelta = delta64(this.receiveBufferErrors, receiveBufferErrors);
+            final long inChecksumErrorsDelta = delta64(this.inChecksumErrors, inChecksumErrors);
+            final boolean changed = (inErrorsDelta | receiveBufferErrorsDelta | inChecksumErrorsDelta) != 0L;
+            if(changed || changing)
+            {
+                rateHandler.onRatesUpdated(intervalNanos,
+                        inErrorsDelta, perSecond(inErrorsDelta, intervalNanos),
+                        receiveBufferErrorsDelta, perSecond(receiveBufferErrorsDelta, intervalNanos),
+                        inChecksumErrorsDelta, perSecond(inChecksumErrorsDelta, intervalNanos));
+            }
+            changing = changed;
+        }
+        hasBaseline = true;
+        this.inErrors = inErrors;
+        this.receiveBufferErrors = receiveBufferErrors;
+        this.inChecksumErrors = inChecksumErrors;
+        this.timestampNanos = pollNanos;
+    }
+}
@@ -1,23 +1,22 @@
 package com.lmax.angler.monitoring.network.monitor.system.snmp;
 
-import com.lmax.angler.monitoring.network.monitor.system.snmp.udp.SnmpUdpStatisticsColumnHandler;
 import com.lmax.angler.monitoring.network.monitor.system.snmp.udp.SnmpUdpStatisticsHandler;
-import com.lmax.angler.monitoring.network.monitor.util.FileLoader;
-import com.lmax.angler.monitoring.network.monitor.util.Parsers;
-import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
 
-import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 /**
  * Monitor for reporting changes in /proc/net/snmp.
+ *
+ * UDP columns are located by name, see SnmpCountersMonitor; a column missing from older kernels is reported as zero.
  */
 public final class SystemNetworkManagementMonitor
 {
-    private final TokenHandler lineParser =
-            Parsers.rowColumnParser(new SnmpUdpStatisticsColumnHandler(this::onUpdate));
-    private final FileLoader fileLoader;
+    private final SnmpCountersHandler countersHandler = this::onUpdate;
+    private final SnmpCountersMonitor countersMonitor;
+    private final int inErrors;
+    private final int receiveBufferErrors;
+    private final int checksumErrors;
     private SnmpUdpStatisticsHandler statisticsHandler;
 
     public SystemNetworkManagementMonitor()
@@ -27,7 +26,10 @@ public final class SystemNetworkManagementMonitor
 
     SystemNetworkManagementMonitor(final Path pathToProcNetSnmp)
     {
-        fileLoader = new FileLoader(pathToProcNetSnmp, 4096);
+        countersMonitor = new SnmpCountersMonitor(pathToProcNetSnmp);
+        inErrors = countersMonitor.register("Udp", "InErrors");
+        receiveBufferErrors = countersMonitor.register("Udp", "RcvbufErrors");
+        checksumErrors = countersMonitor.register("Udp", "InCsumErrors");
     }
 
     /**
@@ -42,11 +44,7 @@ public final class SystemNetworkManagementMonitor
         this.statisticsHandler = snmpUdpStatisticsHandler;
         try
         {
-            fileLoader.load();
-            final ByteBuffer buffer = fileLoader.getBuffer();
-
-            lineParser.reset();
-            lineParser.handleToken(buffer, buffer.position(), buffer.limit());
+            countersMonitor.poll(countersHandler);
         }
         finally
         {
@@ -54,8 +52,17 @@ public final class SystemNetworkManagementMonitor
         }
     }
 
-    private void onUpdate(final long inErrors, final long receiveBufferErrors, final long checksumErrors)
+    private void onUpdate(final SnmpCounters counters)
+    {
+        if(counters.isAvailable(inErrors))
+        {
+            this.statisticsHandler.onStatisticsUpdated(
+                    valueOrZero(counters, inErrors), valueOrZero(counters, receiveBufferErrors), valueOrZero(counters, checksumErrors));
+        }
+    }
+
+    private static long valueOrZero(final SnmpCounters counters, final int counterId)
     {
-        this.statisticsHandler.onStatisticsUpdated(inErrors, receiveBufferErrors, checksumErrors);
+        return counters.isAvailable(counterId) ? counters.getValue(counterId) : 0L;
     }
-}
\ No newline at end of file
+}
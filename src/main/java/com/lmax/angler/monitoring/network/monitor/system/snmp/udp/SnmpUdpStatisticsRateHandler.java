@@ -0,0 +1,27 @@
+package com.lmax.angler.monitoring.network.monitor.system.snmp.udp;
+
+/**
+ * Callback for changes in the UDP-specific counters of /proc/net/snmp between polls.
+ */
+@FunctionalInterface
+public interface SnmpUdpStatisticsRateHandler
+{
+    /**
+     * Callback method.
+     * @param intervalNanos nanoseconds since the counters were last read
+     * @param inErrors InErrors during the interval
+     * @param inErrorsPerSecond InErrors per second during the interval
+     * @param receiveBufferErrors RecvbufErrors during the interval
+     * @param receiveBufferErrorsPerSecond RecvbufErrors per second during the interval
+     * @param inChecksumErrors InCsumErrors during the interval
+     * @param inChecksumErrorsPerSecond InCsumErrors per second during the interval
+     */
+    void onRatesUpdated(
+            final long intervalNanos,
+            final long inErrors,
+            final double inErrorsPerSecond,
+            final long receiveBufferErrors,
+            final double receiveBufferErrorsPerSecond,
+            final long inChecksumErrors,
+            final double inChecksumErrorsPerSecond);
+}
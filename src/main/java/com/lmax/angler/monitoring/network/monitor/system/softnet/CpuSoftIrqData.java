@@ -5,21 +5,15 @@ package com.lmax.angler.monitoring.network.monitor.system.softnet;
  */
 final class CpuSoftIrqData
 {
-    private final int cpuId;
+    static final int UNKNOWN_CPU_ID = -1;
+
+    private int cpuId = UNKNOWN_CPU_ID;
     private long totalPackets;
     private long droppedPackets;
     private long timeSqueeze;
-    private boolean changed;
-
-    CpuSoftIrqData(final int cpuId)
-    {
-        this.cpuId = cpuId;
-    }
-
-    void copyFrom(final CpuSoftIrqData source)
-    {
-        update(source.getTotalPackets(), source.getDroppedPackets(), source.getTimeSqueeze());
-    }
+    private long receivedRps;
+    private long flowLimitCount;
+    private long backlogLength;
 
     int getCpuId()
     {
@@ -41,6 +35,26 @@ final class CpuSoftIrqData
         return timeSqueeze;
     }
 
+    long getReceivedRps()
+    {
+        return receivedRps;
+    }
+
+    long getFlowLimitCount()
+    {
+        return flowLimitCount;
+    }
+
+    long getBacklogLength()
+    {
+        return backlogLength;
+    }
+
+    void setCpuId(final int cpuId)
+    {
+        this.cpuId = cpuId;
+    }
+
     void setTotalPackets(final long totalPackets)
     {
         this.totalPackets = totalPackets;
@@ -56,40 +70,29 @@ final class CpuSoftIrqData
         this.timeSqueeze = timeSqueeze;
     }
 
-    boolean isChanged()
+    void setReceivedRps(final long receivedRps)
     {
-        return changed;
+        this.receivedRps = receivedRps;
     }
 
-    void reset()
+    void setFlowLimitCount(final long flowLimitCount)
     {
-        totalPackets = 0;
-        droppedPackets = 0;
-        timeSqueeze = 0;
+        this.flowLimitCount = flowLimitCount;
     }
 
-    private void update(final long totalPackets,
-                        final long droppedPackets,
-                        final long timeSqueeze)
+    void setBacklogLength(final long backlogLength)
     {
-        changed = false;
-        if(totalPackets != this.totalPackets)
-        {
-            this.totalPackets = totalPackets;
-            changed = true;
-        }
-
-        if(droppedPackets != this.droppedPackets)
-        {
-            this.droppedPackets = droppedPackets;
-            changed = true;
-        }
-
-        if(timeSqueeze != this.timeSqueeze)
-        {
-            this.timeSqueeze = timeSqueeze;
-            changed = true;
-        }
+        this.backlogLength = backlogLength;
     }
 
+    void reset()
+    {
+        cpuId = UNKNOWN_CPU_ID;
+        totalPackets = 0;
+        droppedPackets = 0;
+        timeSqueeze = 0;
+        receivedRps = 0;
+        flowLimitCount = 0;
+        backlogLength = 0;
+    }
 }
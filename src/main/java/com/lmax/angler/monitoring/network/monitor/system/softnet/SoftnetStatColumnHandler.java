@@ -9,11 +9,15 @@ import static com.lmax.angler.monitoring.network.monitor.util.HexToLongDecoder.L
 
 /**
  * TokenHandler for data in /proc/net/softnet_stat.
+ *
+ * Columns are written by the kernel as %08x; columns 3 to 8 are no longer maintained.
+ * The backlog length and CPU index columns are only present on kernels from 5.10 onwards,
+ * and the per-queue backlog lengths that follow them on newer kernels are ignored.
  */
 final class SoftnetStatColumnHandler implements TokenHandler
 {
     private final Consumer<CpuSoftIrqData> cpuSoftIrqDataConsumer;
-    private final CpuSoftIrqData entry = new CpuSoftIrqData(-1);
+    private final CpuSoftIrqData entry = new CpuSoftIrqData();
     private int currentColumn = 0;
 
     public SoftnetStatColumnHandler(final Consumer<CpuSoftIrqData> cpuSoftIrqDataConsumer)
@@ -47,6 +51,22 @@ final class SoftnetStatColumnHandler implements TokenHandler
                 final long squeeze = LOWER_CASE.decodeHex(src, startPosition, endPosition);
                 entry.setTimeSqueeze(squeeze);
                 break;
+            case 9:
+                // received_rps
+                entry.setReceivedRps(LOWER_CASE.decodeHex(src, startPosition, endPosition));
+                break;
+            case 10:
+                // flow_limit_count
+                entry.setFlowLimitCount(LOWER_CASE.decodeHex(src, startPosition, endPosition));
+                break;
+            case 11:
+                // softnet_backlog_len
+                entry.setBacklogLength(LOWER_CASE.decodeHex(src, startPosition, endPosition));
+                break;
+            case 12:
+                // index of the online CPU; offline CPUs have no row
+                entry.setCpuId((int) LOWER_CASE.decodeHex(src, startPosition, endPosition));
+                break;
             default:
                 break;
         }
@@ -65,5 +85,6 @@ final class SoftnetStatColumnHandler implements TokenHandler
     public void reset()
     {
         currentColumn = 0;
+        entry.reset();
     }
 }
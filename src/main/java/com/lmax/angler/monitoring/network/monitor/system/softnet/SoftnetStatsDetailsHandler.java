@@ -0,0 +1,27 @@
+package com.lmax.angler.monitoring.network.monitor.system.softnet;
+
+/**
+ * Callback for all statistics from /proc/net/softnet_stat.
+ */
+@FunctionalInterface
+public interface SoftnetStatsDetailsHandler
+{
+    /**
+     * Callback method.
+     * @param cpuId zero-based CPU that these statistics refer to
+     * @param processed softIRQ events processed
+     * @param squeezed squeeze events
+     * @param dropped dropped events
+     * @param receivedRps times this CPU was woken by an inter-processor interrupt to process packets steered to it by RPS
+     * @param flowLimitCount packets dropped by the RPS flow limit
+     * @param backlogLength packets queued in the CPU's backlog, or zero where the kernel does not report it
+     */
+    void perCpuStatistics(
+            final int cpuId,
+            final long processed,
+            final long squeezed,
+            final long dropped,
+            final long receivedRps,
+            final long flowLimitCount,
+            final long backlogLength);
+}
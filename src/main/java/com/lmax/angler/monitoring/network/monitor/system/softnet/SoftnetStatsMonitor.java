@@ -2,7 +2,6 @@ package com.lmax.angler.monitoring.network.monitor.system.softnet;
 
 import com.lmax.angler.monitoring.network.monitor.util.FileLoader;
 import com.lmax.angler.monitoring.network.monitor.util.TokenHandler;
-import org.agrona.collections.Int2ObjectHashMap;
 
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
@@ -14,17 +13,24 @@ import static java.lang.Runtime.getRuntime;
 /**
  * Monitor for reporting changes in /proc/net/softnet_stat, which can indicate that the kernel thread
  * responsible for processing incoming network softIRQs is unable to keep up with the ingress rate.
+ *
+ * The kernel omits offline CPUs from the file, so statistics are keyed by the CPU index column where the kernel
+ * provides it (5.10 onwards). On older kernels the row number is used, which only matches the CPU id
+ * while every CPU is online.
+ *
+ * Statistics are held in flat arrays indexed by CPU id, see SoftnetStatsVector.
  */
 public final class SoftnetStatsMonitor
 {
     private static final int ESTIMATED_LINE_LENGTH = 120;
 
-    private final Int2ObjectHashMap<CpuSoftIrqData> cpuSoftIrqDataMap = new Int2ObjectHashMap<>();
+    private final SoftnetStatsVector statistics = new SoftnetStatsVector(getRuntime().availableProcessors());
     private final TokenHandler lineParser = rowColumnParser(new SoftnetStatColumnHandler(this::handleEntry));
     private final FileLoader fileLoader;
 
     private SoftnetStatsHandler softnetStatsHandler;
-    private int cpuId;
+    private SoftnetStatsDetailsHandler softnetStatsDetailsHandler;
+    private int rowIndex;
 
     public SoftnetStatsMonitor()
     {
@@ -39,6 +45,8 @@ public final class SoftnetStatsMonitor
     /**
      * Read from monitored file, report any changed values to the supplied handler.
      *
+     * A CPU is reported when it is first seen, and when its processed, squeezed or dropped count changes.
+     *
      * Not thread-safe, only call from a single thread.
      *
      * @param softnetStatsHandler the handler for changed statistics
@@ -48,12 +56,7 @@ public final class SoftnetStatsMonitor
         this.softnetStatsHandler = softnetStatsHandler;
         try
         {
-            fileLoader.load();
-            final ByteBuffer buffer = fileLoader.getBuffer();
-
-            cpuId = 0;
-            lineParser.reset();
-            lineParser.handleToken(buffer, buffer.position(), buffer.limit());
+            readAndParse();
         }
         finally
         {
@@ -61,22 +64,73 @@ public final class SoftnetStatsMonitor
         }
     }
 
+    /**
+     * Read from monitored file, report all statistics of any CPU whose statistics changed to the supplied handler.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param softnetStatsDetailsHandler the handler for changed statistics
+     */
+    public void poll(final SoftnetStatsDetailsHandler softnetStatsDetailsHandler)
+    {
+        this.softnetStatsDetailsHandler = softnetStatsDetailsHandler;
+        try
+        {
+            readAndParse();
+        }
+        finally
+        {
+            this.softnetStatsDetailsHandler = null;
+        }
+    }
+
+    /**
+     * Read from monitored file, and pass the statistics of every CPU to the supplied handler in a single callback.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param softnetStatsVectorHandler the handler for all statistics
+     */
+    public void poll(final SoftnetStatsVectorHandler softnetStatsVectorHandler)
+    {
+        readAndParse();
+        softnetStatsVectorHandler.onStatistics(statistics);
+    }
+
+    private void readAndParse()
+    {
+        fileLoader.load();
+        final ByteBuffer buffer = fileLoader.getBuffer();
+
+        rowIndex = 0;
+        statistics.beginUpdate();
+        lineParser.reset();
+        lineParser.handleToken(buffer, buffer.position(), buffer.limit());
+    }
+
     private void handleEntry(final CpuSoftIrqData cpuSoftIrqData)
     {
-        final int currentCpuId = this.cpuId++;
-        if(!cpuSoftIrqDataMap.containsKey(currentCpuId))
+        final int currentRowIndex = this.rowIndex++;
+        final int cpuId = cpuSoftIrqData.getCpuId() == CpuSoftIrqData.UNKNOWN_CPU_ID ?
+                currentRowIndex : cpuSoftIrqData.getCpuId();
+        final int changes = statistics.update(cpuId, cpuSoftIrqData);
+        if(changes == SoftnetStatsVector.UNCHANGED)
         {
-            cpuSoftIrqDataMap.put(currentCpuId, new CpuSoftIrqData(currentCpuId));
+            return;
         }
 
-        final CpuSoftIrqData existing = cpuSoftIrqDataMap.get(currentCpuId);
-        existing.copyFrom(cpuSoftIrqData);
-        if(existing.isChanged())
+        if(softnetStatsDetailsHandler != null)
+        {
+            softnetStatsDetailsHandler.perCpuStatistics(
+                    cpuId, statistics.getProcessed(cpuId),
+                    statistics.getSqueezed(cpuId), statistics.getDropped(cpuId),
+                    statistics.getReceivedRps(cpuId), statistics.getFlowLimitCount(cpuId), statistics.getBacklogLength(cpuId));
+        }
+        else if(softnetStatsHandler != null && (changes & SoftnetStatsVector.COUNTERS_CHANGED) != 0)
         {
             softnetStatsHandler.perCpuStatistics(
-                    existing.getCpuId(), existing.getTotalPackets(),
-                    existing.getTimeSqueeze(), existing.getDroppedPackets());
+                    cpuId, statistics.getProcessed(cpuId),
+                    statistics.getSqueezed(cpuId), statistics.getDropped(cpuId));
         }
-
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.lmax.angler.monitoring.network.monitor.system.softnet;
+
+/**
+ * Callback for changes in /proc/net/softnet_stat counters between polls.
+ */
+@FunctionalInterface
+public interface SoftnetStatsRateHandler
+{
+    /**
+     * Callback method.
+     * @param cpuId zero-based CPU that these statistics refer to
+     * @param intervalNanos nanoseconds since the counters were last read
+     * @param processed softIRQ events processed during the interval
+     * @param processedPerSecond softIRQ events processed per second during the interval
+     * @param squeezed squeeze events during the interval
+     * @param squeezedPerSecond squeeze events per second during the interval
+     * @param dropped dropped events during the interval
+     * @param droppedPerSecond dropped events per second during the interval
+     */
+    void perCpuRates(
+            final int cpuId,
+            final long intervalNanos,
+            final long processed,
+            final double processedPerSecond,
+            final long squeezed,
+            final double squeezedPerSecond,
+            final long dropped,
+            final double droppedPerSecond);
+}
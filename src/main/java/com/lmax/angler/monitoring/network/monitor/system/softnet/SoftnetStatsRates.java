@@ -0,0 +1,117 @@
+package com.lmax.angler.monitoring.network.monitor.system.softnet;
+
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.SystemNanoClock;
+
+import static com.lmax.angler.monitoring.network.monitor.util.CounterDeltas.delta32;
+import static com.lmax.angler.monitoring.network.monitor.util.CounterDeltas.perSecond;
+
+/**
+ * Converts the counters reported by a SoftnetStatsMonitor into per-interval deltas and per-second rates.
+ *
+ * The softnet_stat columns are 32-bit counters, so deltas allow for wraparound.
+ * A CPU is reported whenever its counters changed since the previous poll, and once more with zero deltas
+ * when they stop changing, so that e.g. dropped-per-second returns to zero.
+ * The first reading of each CPU is used as a baseline, and is not reported.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class SoftnetStatsRates
+{
+    private final Int2ObjectHashMap<CpuCounters> cpuCountersMap = new Int2ObjectHashMap<>();
+    private final SoftnetStatsHandler countersHandler = this::onCounters;
+    private final NanoClock nanoClock;
+
+    private SoftnetStatsRateHandler rateHandler;
+    private long pollNanos;
+    private long pollCount;
+
+    public SoftnetStatsRates()
+    {
+        this(new SystemNanoClock());
+    }
+
+    public SoftnetStatsRates(final NanoClock nanoClock)
+    {
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Poll the monitor, and report the change in each CPU's counters since the previous poll.
+     *
+     * @param monitor the monitor to poll
+     * @param rateHandler the handler for changes
+     */
+    public void poll(final SoftnetStatsMonitor monitor, final SoftnetStatsRateHandler rateHandler)
+    {
+        this.rateHandler = rateHandler;
+        pollNanos = nanoClock.nanoTime();
+        pollCount++;
+        try
+        {
+            monitor.poll(countersHandler);
+
+            for (final CpuCounters counters : cpuCountersMap.values())
+            {
+                if(counters.pollCount != pollCount)
+                {
+                    if(counters.changing)
+                    {
+                        rateHandler.perCpuRates(counters.cpuId, pollNanos - counters.timestampNanos, 0L, 0d, 0L, 0d, 0L, 0d);
+                        counters.changing = false;
+                    }
+                    counters.timestampNanos = pollNanos;
+                    counters.pollCount = pollCount;
+                }
+            }
+        }
+        finally
+        {
+            this.rateHandler = null;
+        }
+    }
+
+    private void onCounters(final int cpuId, final long processed, final long squeezed, final long dropped)
+    {
+        CpuCounters counters = cpuCountersMap.get(cpuId);
+        if(counters == null)
+        {
+            counters = new CpuCounters(cpuId);
+            cpuCountersMap.put(cpuId, counters);
+        }
+        else
+        {
+            final long intervalNanos = pollNanos - counters.timestampNanos;
+            final long processedDelta = delta32(counters.processed, processed);
+            final long squeezedDelta = delta32(counters.squeezed, squeezed);
+            final long droppedDelta = delta32(counters.dropped, dropped);
+            rateHandler.perCpuRates(cpuId, intervalNanos,
+                    processedDelta, perSecond(processedDelta, intervalNanos),
+                    squeezedDelta, perSecond(squeezedDelta, intervalNanos),
+                    droppedDelta, perSecond(droppedDelta, intervalNanos));
+            counters.changing = (processedDelta | squeezedDelta | droppedDelta) != 0L;
+        }
+        counters.processed = processed;
+        counters.squeezed = squeezed;
+        counters.dropped = dropped;
+        counters.timestampNanos = pollNanos;
+        counters.pollCount = pollCount;
+    }
+
+    private static final class CpuCounters
+    {
+        private final int cpuId;
+        private long processed;
+        private long squeezed;
+        private long dropped;
+        private long timestampNanos;
+        private long pollCount;
+        private boolean changing;
+
+        CpuCounters(final int cpuId)
+        {
+            this.cpuId = cpuId;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.lmax.angler.monitoring.network.monitor.system.softnet;
+
+import java.util.Arrays;
+
+/**
+ * Statistics from /proc/net/softnet_stat for every CPU, held in flat arrays indexed by CPU id.
+ *
+ * CPUs that were offline at the last poll have no row in the file; isPresent reports false for them,
+ * and their values are those last read.
+ * Only valid for the duration of the callback that supplied it.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class SoftnetStatsVector
+{
+    static final int UNCHANGED = 0;
+    static final int COUNTERS_CHANGED = 1;
+    static final int DETAILS_CHANGED = 2;
+
+    private long[] processed;
+    private long[] squeezed;
+    private long[] dropped;
+    private long[] receivedRps;
+    private long[] flowLimitCount;
+    private long[] backlogLength;
+    private boolean[] present;
+    private boolean[] seen;
+    private int cpuIdLimit;
+
+    SoftnetStatsVector(final int initialCapacity)
+    {
+        processed = new long[initialCapacity];
+        squeezed = new long[initialCapacity];
+        dropped = new long[initialCapacity];
+        receivedRps = new long[initialCapacity];
+        flowLimitCount = new long[initialCapacity];
+        backlogLength = new long[initialCapacity];
+        present = new boolean[initialCapacity];
+        seen = new boolean[initialCapacity];
+    }
+
+    /**
+     * @return one greater than the highest CPU id reported, i.e. the bound for a loop over CPU ids
+     */
+    public int getCpuIdLimit()
+    {
+        return cpuIdLimit;
+    }
+
+    /**
+     * @param cpuId the CPU id
+     * @return whether the CPU had a row in the file at the last poll
+     */
+    public boolean isPresent(final int cpuId)
+    {
+        return cpuId < cpuIdLimit && present[cpuId];
+    }
+
+    /**
+     * @param cpuId the CPU id
+     * @return softIRQ events processed
+     */
+    public long getProcessed(final int cpuId)
+    {
+        return processed[cpuId];
+    }
+
+    /**
+     * @param cpuId the CPU id
+     * @return squeeze events
+     */
+    public long getSqueezed(final int cpuId)
+    {
+        return squeezed[cpuId];
+    }
+
+    /**
+     * @param cpuId the CPU id
+     * @return dropped events
+     */
+    public long getDropped(final int cpuId)
+    {
+        return dropped[cpuId];
+    }
+
+    /**
+     * @param cpuId the CPU id
+     * @return times the CPU was woken to process packets steered to it by RPS
+     */
+    public long getReceivedRps(final int cpuId)
+    {
+        return receivedRps[cpuId];
+    }
+
+    /**
+     * @param cpuId the CPU id
+     * @return packets dropped by the RPS flow limit
+     */
+    public long getFlowLimitCount(final int cpuId)
+    {
+        return flowLimitCount[cpuId];
+    }
+
+    /**
+     * @param cpuId the CPU id
+     * @return packets queued in the CPU's backlog
+     */
+    public long getBacklogLength(final int cpuId)
+    {
+        return backlogLength[cpuId];
+    }
+
+    void beginUpdate()
+    {
+        Arrays.fill(present, 0, cpuIdLimit, false);
+    }
+
+    /**
+     * @return COUNTERS_CHANGED if processed, squeezed or dropped changed, ORed with DETAILS_CHANGED if any other column
+     * changed, or both if the CPU has not been seen before
+     */
+    int update(final int cpuId, final CpuSoftIrqData source)
+    {
+        if(cpuId >= present.length)
+        {
+            grow(Math.max(cpuId + 1, present.length * 2));
+        }
+        cpuIdLimit = Math.max(cpuIdLimit, cpuId + 1);
+        present[cpuId] = true;
+
+        int changes = UNCHANGED;
+        if(!seen[cpuId] ||
+                processed[cpuId] != source.getTotalPackets() ||
+                squeezed[cpuId] != source.getTimeSqueeze() ||
+                dropped[cpuId] != source.getDroppedPackets())
+        {
+            changes |= COUNTERS_CHANGED;
+        }
+        if(!seen[cpuId] ||
+                receivedRps[cpuId] != source.getReceivedRps() ||
+                flowLimitCount[cpuId] != source.getFlowLimitCount() ||
+                backlogLength[cpuId] != source.getBacklogLength())
+        {
+            changes |= DETAILS_CHANGED;
+        }
+        seen[cpuId] = true;
+
+        processed[cpuId] = source.getTotalPackets();
+        squeezed[cpuId] = source.getTimeSqueeze();
+        dropped[cpuId] = source.getDroppedPackets();
+        receivedRps[cpuId] = source.getReceivedRps();
+        flowLimitCount[cpuId] = source.getFlowLimitCount();
+        backlogLength[cpuId] = source.getBacklogLength();
+        return changes;
+    }
+
+    private void grow(final int capacity)
+    {
+        processed = Arrays.copyOf(processed, capacity);
+        squeezed = Arrays.copyOf(squeezed, capacity);
+        dropped = Arrays.copyOf(dropped, capacity);
+        receivedRps = Arrays.copyOf(receivedRps, capacity);
+        flowLimitCount = Arrays.copyOf(flowLimitCount, capacity);
+        backlogLength = Arrays.copyOf(backlogLength, capacity);
+        present = Arrays.copyOf(present, capacity);
+        seen = Arrays.copyOf(seen, capacity);
+    }
+}
@@ -0,0 +1,14 @@
+package com.lmax.angler.monitoring.network.monitor.system.softnet;
+
+/**
+ * Callback for the statistics of every CPU from /proc/net/softnet_stat at once.
+ */
+@FunctionalInterface
+public interface SoftnetStatsVectorHandler
+{
+    /**
+     * Callback method.
+     * @param statistics per-CPU statistics, valid only for the duration of the callback
+     */
+    void onStatistics(final SoftnetStatsVector statistics);
+}
@@ -0,0 +1,15 @@
+package com.lmax.angler.monitoring.network.monitor.system.sysfs;
+
+/**
+ * Callback for changed counters read from sysfs.
+ */
+@FunctionalInterface
+public interface SysfsCounterHandler
+{
+    /**
+     * Callback method.
+     * @param counterId the id returned when the counter file was registered
+     * @param value the counter value
+     */
+    void onCounterUpdated(final int counterId, final long value);
+}
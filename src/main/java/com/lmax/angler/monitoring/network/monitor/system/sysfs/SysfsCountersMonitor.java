@@ -0,0 +1,230 @@
+package com.lmax.angler.monitoring.network.monitor.system.sysfs;
+
+import com.lmax.angler.monitoring.network.monitor.util.SwarDecoder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Monitor for reporting changes in single-value counter files, such as those in /sys/class/net/&lt;if&gt;/statistics,
+ * which hold NIC counters (e.g. rx_missed_errors, rx_over_errors) not reported in /proc/net/dev,
+ * and driver-specific files under /sys/class/net/&lt;if&gt;/device.
+ *
+ * Each file is opened when first polled, and its channel is kept open. A poll re-reads every file with a single
+ * positional read into one shared buffer, so neither opens, closes nor allocates once every file is open.
+ * Files must contain an unsigned decimal value, optionally followed by a newline.
+ *
+ * A counter is reported when it is first read, and whenever it changes. If a file can no longer be read, e.g. after its
+ * interface is removed or its driver reloaded, the file is reopened on each poll until it can be read again; meanwhile
+ * the counter is reported once as UNAVAILABLE, and the remaining counters are still read. A file that does not exist yet
+ * when registered, e.g. while its interface is down or being renamed, is treated the same way.
+ * Values greater than Long.MAX_VALUE, and files that do not hold a decimal value, are also reported as UNAVAILABLE;
+ * the latter are reopened on the next poll, in case their descriptor is stale.
+ */
+public final class SysfsCountersMonitor implements AutoCloseable
+{
+    /**
+     * Reported when a counter file cannot be read, does not hold a decimal value, or its value does not fit in a long.
+     */
+    public static final long UNAVAILABLE = Long.MIN_VALUE;
+
+    private static final long NOT_READ = -1L;
+    private static final int BUFFER_LENGTH = 64;
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_LENGTH);
+    private final SwarDecoder decoder = new SwarDecoder();
+    private final Path sysClassNet;
+    private Path[] paths = new Path[0];
+    private FileChannel[] fileChannels = new FileChannel[0];
+    private long[] values = new long[0];
+
+    public SysfsCountersMonitor()
+    {
+        this(Paths.get("/sys/class/net"));
+    }
+
+    SysfsCountersMonitor(final Path sysClassNet)
+    {
+        this.sysClassNet = sysClassNet;
+    }
+
+    /**
+     * Register interest in one of an interface's standard statistics files.
+     *
+     * Not thread-safe, only call from the polling thread, or before polling begins.
+     *
+     * @param interfaceName the interface name, e.g. "eth0"
+     * @param statistic the file name in the interface's statistics directory, e.g. "rx_missed_errors"
+     * @return the id of the counter, as passed to SysfsCounterHandler
+     */
+    public int registerInterfaceStatistic(final String interfaceName, final String statistic)
+    {
+        return register(sysClassNet.resolve(interfaceName).resolve("statistics").resolve(statistic));
+    }
+
+    /**
+     * Register interest in any single-value counter file.
+     *
+     * Not thread-safe, only call from the polling thread, or before polling begins.
+     *
+     * @param path the counter file
+     * @return the id of the counter, as passed to SysfsCounterHandler
+     */
+    public int register(final Path path)
+    {
+        final int counterId = paths.length;
+        paths = Arrays.copyOf(paths, counterId + 1);
+        fileChannels = Arrays.copyOf(fileChannels, counterId + 1);
+        values = Arrays.copyOf(values, counterId + 1);
+        paths[counterId] = path;
+        values[counterId] = NOT_READ;
+        return counterId;
+    }
+
+    /**
+     * @param counterId the id of the counter
+     * @return the file the counter is read from
+     */
+    public Path getPath(final int counterId)
+    {
+        return paths[counterId];
+    }
+
+    /**
+     * Read every registered file, report any changed values.
+     *
+     * Not thread-safe, only call from a single thread.
+     *
+     * @param counterHandler the handler for changed counters
+     */
+    public void poll(final SysfsCounterHandler counterHandler)
+    {
+        for (int counterId = 0; counterId < fileChannels.length; counterId++)
+        {
+            final long value = read(counterId);
+            if(value != values[counterId])
+            {
+                values[counterId] = value;
+                counterHandler.onCounterUpdated(counterId, value);
+            }
+        }
+    }
+
+    /**
+     * Close every registered file.
+     */
+    @Override
+    public void close()
+    {
+        UncheckedIOException closeFailure = null;
+        for (int counterId = 0; counterId < fileChannels.length; counterId++)
+        {
+            try
+            {
+                closeChannel(counterId);
+            }
+            catch(final UncheckedIOException e)
+            {
+                if(closeFailure == null)
+                {
+                    closeFailure = e;
+                }
+                else
+                {
+                    closeFailure.addSuppressed(e);
+                }
+            }
+        }
+        if(closeFailure != null)
+        {
+            throw closeFailure;
+        }
+    }
+
+    private long read(final int counterId)
+    {
+        if(fileChannels[counterId] == null)
+        {
+            fileChannels[counterId] = open(paths[counterId]);
+            if(fileChannels[counterId] == null)
+            {
+                return UNAVAILABLE;
+            }
+        }
+
+        buffer.clear();
+        try
+        {
+            fileChannels[counterId].read(buffer, 0L);
+        }
+        catch(final IOException e)
+        {
+            // stale descriptor, e.g. ENODEV once the interface is gone; reopen on the next poll
+            closeQuietly(counterId);
+            return UNAVAILABLE;
+        }
+
+        final int length = buffer.position();
+        int end = 0;
+        while(end < length && buffer.get(end) >= '0' && buffer.get(end) <= '9')
+        {
+            end++;
+        }
+        if(end == 0 || (end < length && buffer.get(end) != '\n'))
+        {
+            // e.g. an empty read, a hex attribute or junk from a stale descriptor; reopen on the next poll
+            closeQuietly(counterId);
+            return UNAVAILABLE;
+        }
+        decoder.clearError();
+        final long value = decoder.decodeAscii(buffer, 0, end);
+        return decoder.hasError() ? UNAVAILABLE : value;
+    }
+
+    private void closeChannel(final int counterId)
+    {
+        final FileChannel fileChannel = fileChannels[counterId];
+        fileChannels[counterId] = null;
+        if(fileChannel != null)
+        {
+            try
+            {
+                fileChannel.close();
+            }
+            catch(final IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void closeQuietly(final int counterId)
+    {
+        try
+        {
+            closeChannel(counterId);
+        }
+        catch(final UncheckedIOException e)
+        {
+            // the descriptor is already unusable
+        }
+    }
+
+    private static FileChannel open(final Path path)
+    {
+        try
+        {
+            return FileChannel.open(path, StandardOpenOption.READ);
+        }
+        catch(final IOException e)
+        {
+            return null;
+        }
+    }
+}
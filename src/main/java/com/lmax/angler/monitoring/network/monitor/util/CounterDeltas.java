@@ -0,0 +1,46 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+/**
+ * Arithmetic for monotonically-increasing kernel counters.
+ */
+public final class CounterDeltas
+{
+    private static final long UNSIGNED_32_BIT_MASK = 0xFFFF_FFFFL;
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private CounterDeltas()
+    {
+    }
+
+    /**
+     * Difference between two readings of a 32-bit counter, allowing for the counter wrapping past 2^32 - 1.
+     * @param previous the earlier reading
+     * @param current the later reading
+     * @return the increase in the counter
+     */
+    public static long delta32(final long previous, final long current)
+    {
+        return (current - previous) & UNSIGNED_32_BIT_MASK;
+    }
+
+    /**
+     * Difference between two readings of a 64-bit counter. A decrease is treated as the counter being reset to zero.
+     * @param previous the earlier reading
+     * @param current the later reading
+     * @return the increase in the counter
+     */
+    public static long delta64(final long previous, final long current)
+    {
+        return current >= previous ? current - previous : current;
+    }
+
+    /**
+     * @param delta the increase in a counter
+     * @param intervalNanos the interval over which the counter increased
+     * @return the increase per second, or zero for an empty interval
+     */
+    public static double perSecond(final long delta, final long intervalNanos)
+    {
+        return intervalNanos > 0L ? delta * NANOS_PER_SECOND / intervalNanos : 0d;
+    }
+}
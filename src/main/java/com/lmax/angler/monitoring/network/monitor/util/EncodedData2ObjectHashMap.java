@@ -126,6 +126,27 @@ public final class EncodedData2ObjectHashMap<K, V> implements Map<K, V>
         return null;
     }
 
+    /**
+     * Look up a value using a key that has already been encoded, so that no key instance is required.
+     * @param encodedKey buffer containing the encoded key, starting at index zero
+     * @return the value associated with the key, or null if not present
+     */
+    @SuppressWarnings("unchecked")
+    public V getByEncodedKey(final ByteBuffer encodedKey)
+    {
+        encodedKey.clear();
+        encodedKey.limit(keyLengthInBytes);
+        final int hashCode = hashFunction.applyAsInt(encodedKey);
+        encodedKey.rewind();
+        final int actualKeySpaceIndex = findKeySpaceIndex(maskForCurrentCapacity(hashCode), encodedKey);
+        if(actualKeySpaceIndex != KEY_NOT_FOUND)
+        {
+            return (V) values[actualKeySpaceIndex];
+        }
+
+        return null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public V put(final K key, final V value)
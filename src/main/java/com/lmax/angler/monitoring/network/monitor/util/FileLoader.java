@@ -9,13 +9,18 @@ import java.nio.file.StandardOpenOption;
 
 /**
  * Utility for repeated reads of a file using a ByteBuffer to avoid allocating unnecessary objects.
+ *
+ * File data is read directly into the target buffer, which is sized from the previously loaded length,
+ * so that a file of stable size is normally loaded with a single read call.
  */
 public final class FileLoader
 {
+    private static final int SIZE_HEADROOM_SHIFT = 3;
+
     private final Path path;
-    private final ByteBuffer tmp = ByteBuffer.allocateDirect(4096);
     private ByteBuffer buffer;
     private FileChannel fileChannel;
+    private int lastLoadedSize;
 
     public FileLoader(final Path path, final int initialBufferCapacity)
     {
@@ -37,24 +42,18 @@ public final class FileLoader
                 fileChannel = FileChannel.open(path, StandardOpenOption.READ);
             }
 
-            fileChannel.position(0L);
+            ensureCapacity(lastLoadedSize + (lastLoadedSize >> SIZE_HEADROOM_SHIFT));
             buffer.clear();
-            tmp.clear();
-            while(fileChannel.read(tmp) > 0)
+            while(fileChannel.read(buffer, buffer.position()) > 0)
             {
-                tmp.flip();
-                if(tmp.remaining() > buffer.capacity() - buffer.position())
+                if(!buffer.hasRemaining())
                 {
-                    final ByteBuffer next = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, tmp.remaining()));
-                    buffer.flip();
-                    next.put(buffer);
-                    buffer = next;
+                    ensureCapacity(buffer.capacity() * 2);
                 }
-                buffer.put(tmp);
-                tmp.clear();
             }
 
             buffer.flip();
+            lastLoadedSize = buffer.limit();
         }
         catch(final IOException e)
         {
@@ -66,4 +65,15 @@ public final class FileLoader
     {
         return buffer;
     }
+
+    private void ensureCapacity(final int requiredCapacity)
+    {
+        if(requiredCapacity > buffer.capacity())
+        {
+            final ByteBuffer next = ByteBuffer.allocateDirect(Math.max(buffer.capacity() * 2, requiredCapacity));
+            buffer.flip();
+            next.put(buffer);
+            buffer = next;
+        }
+    }
 }
@@ -0,0 +1,111 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of non-negative values with log-linear buckets, held in a primitive array.
+ *
+ * Values below 32 are counted exactly; above that, each power-of-two range is split into 16 linear buckets,
+ * bounding the error of a reported value to 1/16 of the value. Values above 2^32 - 1 (the widest
+ * queue depth reported by the kernel) are counted in the highest bucket.
+ *
+ * Recording does not allocate.
+ *
+ * Not thread-safe, only call from a single thread.
+ */
+public final class LogLinearHistogram
+{
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 31;
+    private static final long MAX_TRACKABLE_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long maxValue;
+
+    /**
+     * Record a value, negative values are recorded as zero.
+     * @param value the value
+     */
+    public void record(final long value)
+    {
+        final long trackedValue = Math.min(Math.max(value, 0L), MAX_TRACKABLE_VALUE);
+        counts[bucketIndex(trackedValue)]++;
+        totalCount++;
+        maxValue = Math.max(maxValue, trackedValue);
+    }
+
+    /**
+     * @return the number of values recorded since the last reset
+     */
+    public long getCount()
+    {
+        return totalCount;
+    }
+
+    /**
+     * @return the largest value recorded since the last reset, or zero if none were recorded
+     */
+    public long getMaxValue()
+    {
+        return maxValue;
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 100
+     * @return the highest value in the bucket containing the percentile, capped at the maximum recorded value;
+     * zero if no values were recorded
+     */
+    public long getValueAtPercentile(final double percentile)
+    {
+        if(totalCount == 0L)
+        {
+            return 0L;
+        }
+        final long targetCount = Math.max(1L, (long) Math.ceil(Math.min(percentile, 100d) / 100d * totalCount));
+        long cumulativeCount = 0L;
+        for(int i = 0; i < BUCKET_COUNT; i++)
+        {
+            cumulativeCount += counts[i];
+            if(cumulativeCount >= targetCount)
+            {
+                return Math.min(highestValueInBucket(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Discard all recorded values.
+     */
+    public void reset()
+    {
+        Arrays.fill(counts, 0L);
+        totalCount = 0L;
+        maxValue = 0L;
+    }
+
+    static int bucketIndex(final long value)
+    {
+        if(value < 2 * SUB_BUCKET_COUNT)
+        {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKET_COUNT;
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueInBucket(final int index)
+    {
+        if(index < 2 * SUB_BUCKET_COUNT)
+        {
+            return index;
+        }
+        final int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        final long lowestValue = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << (exponent - SUB_BUCKET_BITS);
+        return lowestValue + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
@@ -8,13 +8,26 @@ public final class Parsers
     public static TokenHandler rowColumnParser(
             TokenHandler tokenHandler)
     {
-        return new DelimitedDataParser(
-                new DelimitedDataParser(
-                        tokenHandler,
-                        COLUMN_DELIMITER,
-                        true),
+        return new RowColumnParser(
+                tokenHandler,
                 ROW_DELIMITER,
-                true);
+                COLUMN_DELIMITER);
+    }
+
+    /**
+     * Offers each row to the row handler, falling back to tokenising rows that it declines.
+     * @param rowHandler the handler for complete rows
+     * @param fallbackTokenHandler the handler for tokens of declined rows
+     * @return the parser
+     */
+    public static TokenHandler rowParser(
+            final RowHandler rowHandler,
+            final TokenHandler fallbackTokenHandler)
+    {
+        return new RowParser(
+                rowHandler,
+                rowColumnParser(fallbackTokenHandler),
+                ROW_DELIMITER);
     }
 
     private Parsers() {}
@@ -0,0 +1,130 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Single-pass parser for row/column delimited data.
+ *
+ * Equivalent to nesting a column DelimitedDataParser within a row DelimitedDataParser, skipping consecutive delimiters,
+ * but each byte is examined once, and token ends are located eight bytes at a time.
+ */
+final class RowColumnParser implements TokenHandler
+{
+    private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final long EACH_BYTE = 0x0101010101010101L;
+
+    private final TokenHandler tokenHandler;
+    private final byte rowDelimiter;
+    private final byte columnDelimiter;
+    private final long rowDelimiterPattern;
+    private final long columnDelimiterPattern;
+
+    RowColumnParser(
+            final TokenHandler tokenHandler,
+            final byte rowDelimiter,
+            final byte columnDelimiter)
+    {
+        this.tokenHandler = tokenHandler;
+        this.rowDelimiter = rowDelimiter;
+        this.columnDelimiter = columnDelimiter;
+        this.rowDelimiterPattern = EACH_BYTE * (rowDelimiter & 0xFF);
+        this.columnDelimiterPattern = EACH_BYTE * (columnDelimiter & 0xFF);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleToken(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        final boolean bigEndian = src.order() == ByteOrder.BIG_ENDIAN;
+        boolean rowHasTokens = false;
+        int currentPosition = startPosition;
+
+        while(currentPosition < endPosition)
+        {
+            final byte current = src.get(currentPosition);
+            if(current == rowDelimiter)
+            {
+                if(rowHasTokens)
+                {
+                    tokenHandler.complete();
+                    rowHasTokens = false;
+                }
+                currentPosition++;
+            }
+            else if(current == columnDelimiter)
+            {
+                currentPosition++;
+            }
+            else
+            {
+                final int tokenEnd = findNextDelimiter(src, currentPosition + 1, endPosition, bigEndian);
+                tokenHandler.handleToken(src, currentPosition, tokenEnd);
+                rowHasTokens = true;
+                currentPosition = tokenEnd;
+            }
+        }
+
+        if(rowHasTokens)
+        {
+            tokenHandler.complete();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset()
+    {
+        tokenHandler.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void complete()
+    {
+        tokenHandler.complete();
+    }
+
+    private int findNextDelimiter(final ByteBuffer src, final int startPosition, final int endPosition, final boolean bigEndian)
+    {
+        int currentPosition = startPosition;
+        while(currentPosition + Long.BYTES <= endPosition)
+        {
+            final long word = src.getLong(currentPosition);
+            final long matches = matchingBytes(word, rowDelimiterPattern) | matchingBytes(word, columnDelimiterPattern);
+            if(matches != 0L)
+            {
+                final int matchingBits = bigEndian ? Long.numberOfLeadingZeros(matches) : Long.numberOfTrailingZeros(matches);
+                return currentPosition + (matchingBits >>> 3);
+            }
+            currentPosition += Long.BYTES;
+        }
+
+        while(currentPosition < endPosition)
+        {
+            final byte current = src.get(currentPosition);
+            if(current == rowDelimiter || current == columnDelimiter)
+            {
+                break;
+            }
+            currentPosition++;
+        }
+
+        return currentPosition;
+    }
+
+    /**
+     * Sets the high bit of each byte in word that equals the corresponding byte in pattern, with no false positives.
+     */
+    static long matchingBytes(final long word, final long pattern)
+    {
+        final long difference = word ^ pattern;
+        return ~(((difference & LOW_SEVEN_BITS) + LOW_SEVEN_BITS) | difference | LOW_SEVEN_BITS);
+    }
+}
@@ -0,0 +1,23 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A handler for a complete row of delimited data, invoked from RowParser.
+ */
+public interface RowHandler
+{
+    /**
+     * Handle a single row.
+     * @param src data source
+     * @param startPosition the start position of the row
+     * @param endPosition the end position of the row, excluding the row delimiter
+     * @return true if the row was handled, false if it should be tokenised into columns instead
+     */
+    boolean handleRow(final ByteBuffer src, final int startPosition, final int endPosition);
+
+    /**
+     * Reset state in preparation for handling a new data set.
+     */
+    void reset();
+}
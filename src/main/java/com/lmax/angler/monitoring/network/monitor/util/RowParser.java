@@ -0,0 +1,87 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static com.lmax.angler.monitoring.network.monitor.util.RowColumnParser.matchingBytes;
+
+/**
+ * Parser that offers each row of data to a RowHandler, tokenising any row that it declines into columns.
+ */
+final class RowParser implements TokenHandler
+{
+    private final RowHandler rowHandler;
+    private final TokenHandler columnParser;
+    private final byte rowDelimiter;
+    private final long rowDelimiterPattern;
+
+    RowParser(
+            final RowHandler rowHandler,
+            final TokenHandler columnParser,
+            final byte rowDelimiter)
+    {
+        this.rowHandler = rowHandler;
+        this.columnParser = columnParser;
+        this.rowDelimiter = rowDelimiter;
+        this.rowDelimiterPattern = 0x0101010101010101L * (rowDelimiter & 0xFF);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handleToken(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        final boolean bigEndian = src.order() == ByteOrder.BIG_ENDIAN;
+        int rowStart = startPosition;
+        while(rowStart < endPosition)
+        {
+            final int rowEnd = findRowEnd(src, rowStart, endPosition, bigEndian);
+            if(rowEnd != rowStart && !rowHandler.handleRow(src, rowStart, rowEnd))
+            {
+                columnParser.handleToken(src, rowStart, rowEnd);
+            }
+            rowStart = rowEnd + 1;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset()
+    {
+        rowHandler.reset();
+        columnParser.reset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void complete()
+    {
+        columnParser.complete();
+    }
+
+    private int findRowEnd(final ByteBuffer src, final int startPosition, final int endPosition, final boolean bigEndian)
+    {
+        int currentPosition = startPosition;
+        while(currentPosition + Long.BYTES <= endPosition)
+        {
+            final long matches = matchingBytes(src.getLong(currentPosition), rowDelimiterPattern);
+            if(matches != 0L)
+            {
+                final int matchingBits = bigEndian ? Long.numberOfLeadingZeros(matches) : Long.numberOfTrailingZeros(matches);
+                return currentPosition + (matchingBits >>> 3);
+            }
+            currentPosition += Long.BYTES;
+        }
+
+        while(currentPosition < endPosition && src.get(currentPosition) != rowDelimiter)
+        {
+            currentPosition++;
+        }
+        return currentPosition;
+    }
+}
@@ -0,0 +1,160 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Converts ASCII-encoded decimal and hex integer characters to a long value, eight characters at a time.
+ *
+ * Rather than throwing on invalid input, decode methods set an error flag that remains set until cleared,
+ * so that a caller can decode several values and check for errors once.
+ *
+ * Not thread-safe.
+ */
+public final class SwarDecoder
+{
+    private static final int MAX_HEX_LENGTH = 8;
+    private static final int MAX_DECIMAL_LENGTH = 19;
+    private static final long DECIMAL_WORD_MULTIPLIER = 100_000_000L;
+    private static final long MAX_VALUE_BEFORE_LAST_DECIMAL_WORD = Long.MAX_VALUE / DECIMAL_WORD_MULTIPLIER;
+    private static final long MAX_LAST_DECIMAL_WORD = Long.MAX_VALUE % DECIMAL_WORD_MULTIPLIER;
+    private static final long EACH_BYTE = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LOW_NIBBLES = 0x0F0F0F0F0F0F0F0FL;
+    private static final long ASCII_ZEROES = 0x3030303030303030L;
+
+    private boolean error;
+
+    /**
+     * Decode an integer from at most eight hex-encoded ASCII bytes, of either case.
+     * @param src ASCII bytes
+     * @param startPosition start position in the source buffer
+     * @param endPosition end position in the source buffer
+     * @return the decoded value, or zero if the error flag was set
+     */
+    public long decodeHex(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        final int length = endPosition - startPosition;
+        if(length <= 0 || length > MAX_HEX_LENGTH)
+        {
+            error = true;
+            return 0L;
+        }
+
+        final long word = loadRightAligned(src, endPosition, length);
+        final long valid = inRange(word, '0', '9') | inRange(word, 'A', 'F') | inRange(word, 'a', 'f');
+        if((valid & ~word & HIGH_BITS) != HIGH_BITS)
+        {
+            error = true;
+            return 0L;
+        }
+
+        // letters have bit 6 set, and their low nibble is 9 less than their value
+        long value = (word & LOW_NIBBLES) + ((word >>> 6) & EACH_BYTE) * 9;
+        value = (value | (value >>> 4)) & 0x00FF00FF00FF00FFL;
+        value = (value | (value >>> 8)) & 0x0000FFFF0000FFFFL;
+        return (value | (value >>> 16)) & 0x00000000FFFFFFFFL;
+    }
+
+    /**
+     * Decode a non-negative integer from at most nineteen ASCII decimal bytes.
+     * Values greater than Long.MAX_VALUE set the error flag.
+     * @param src ASCII bytes
+     * @param startPosition start position in the source buffer
+     * @param endPosition end position in the source buffer
+     * @return the decoded value, or zero if the error flag was set
+     */
+    public long decodeAscii(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        final int length = endPosition - startPosition;
+        if(length <= 0 || length > MAX_DECIMAL_LENGTH)
+        {
+            error = true;
+            return 0L;
+        }
+
+        int wordEnd = startPosition + ((length - 1) & (Long.BYTES - 1)) + 1;
+        long value = decodeDecimalWord(loadRightAligned(src, wordEnd, wordEnd - startPosition));
+        while(wordEnd < endPosition)
+        {
+            wordEnd += Long.BYTES;
+            final long digits = decodeDecimalWord(loadRightAligned(src, wordEnd, Long.BYTES));
+            // only the last word of a nineteen digit value can overflow
+            if(value > MAX_VALUE_BEFORE_LAST_DECIMAL_WORD ||
+                    (value == MAX_VALUE_BEFORE_LAST_DECIMAL_WORD && digits > MAX_LAST_DECIMAL_WORD))
+            {
+                error = true;
+                return 0L;
+            }
+            value = value * DECIMAL_WORD_MULTIPLIER + digits;
+        }
+        return value;
+    }
+
+    /**
+     * @return whether any value decoded since the flag was last cleared was invalid
+     */
+    public boolean hasError()
+    {
+        return error;
+    }
+
+    /**
+     * Clear the error flag.
+     */
+    public void clearError()
+    {
+        error = false;
+    }
+
+    private long decodeDecimalWord(final long word)
+    {
+        if((inRange(word, '0', '9') & ~word & HIGH_BITS) != HIGH_BITS)
+        {
+            error = true;
+            return 0L;
+        }
+
+        long value = word - ASCII_ZEROES;
+        value = (((value * 10) >>> 8) + value) & 0x00FF00FF00FF00FFL;
+        value = (((value * 100) >>> 16) + value) & 0x0000FFFF0000FFFFL;
+        return (((value * 10000) >>> 32) + value) & 0x00000000FFFFFFFFL;
+    }
+
+    /**
+     * Load up to eight bytes ending at endPosition, most significant first, padded with leading ASCII zeroes.
+     */
+    private static long loadRightAligned(final ByteBuffer src, final int endPosition, final int length)
+    {
+        long word;
+        if(endPosition >= Long.BYTES)
+        {
+            word = src.getLong(endPosition - Long.BYTES);
+            if(src.order() == ByteOrder.LITTLE_ENDIAN)
+            {
+                word = Long.reverseBytes(word);
+            }
+        }
+        else
+        {
+            word = 0L;
+            for(int i = endPosition - length; i < endPosition; i++)
+            {
+                word = (word << 8) | (src.get(i) & 0xFF);
+            }
+        }
+
+        final long mask = -1L >>> ((Long.BYTES - length) << 3);
+        return (word & mask) | (ASCII_ZEROES & ~mask);
+    }
+
+    /**
+     * Sets the high bit of each byte of word that is within [low, high]; only valid for bytes without the high bit set.
+     */
+    private static long inRange(final long word, final char low, final char high)
+    {
+        final long notBelowLow = (word | HIGH_BITS) - EACH_BYTE * low;
+        final long notAboveHigh = (EACH_BYTE * (high | 0x80)) - word;
+        return notBelowLow & notAboveHigh & HIGH_BITS;
+    }
+}
@@ -0,0 +1,67 @@
+package com.lmax.angler.monitoring.network.monitor;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Asserts that an operation is garbage-free once warmed up, using the allocation counter of the current thread.
+ */
+public final class AllocationAssertions
+{
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 1_000;
+    private static final int MAX_ATTEMPTS = 20;
+
+    private AllocationAssertions() {}
+
+    /**
+     * Warm up the operation, then fail unless a run of repeated invocations allocates nothing.
+     *
+     * Several runs are attempted, so that allocation in code that has not yet been compiled is tolerated,
+     * while allocation on every invocation is not.
+     *
+     * @param operation the operation, e.g. polling a monitor over unchanging data
+     */
+    public static void assertNoAllocationInSteadyState(final Runnable operation)
+    {
+        final com.sun.management.ThreadMXBean threadMXBean = threadMXBean();
+        final long threadId = Thread.currentThread().getId();
+
+        for(int i = 0; i < WARMUP_ITERATIONS; i++)
+        {
+            operation.run();
+        }
+
+        long allocatedBytes = 0L;
+        for(int attempt = 0; attempt < MAX_ATTEMPTS; attempt++)
+        {
+            final long calibrationStart = threadMXBean.getThreadAllocatedBytes(threadId);
+            final long start = threadMXBean.getThreadAllocatedBytes(threadId);
+            final long measurementOverhead = start - calibrationStart;
+
+            for(int i = 0; i < MEASURED_ITERATIONS; i++)
+            {
+                operation.run();
+            }
+
+            allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - start - measurementOverhead;
+            if(allocatedBytes <= 0L)
+            {
+                return;
+            }
+        }
+
+        fail(String.format("Allocated %d bytes over %d invocations after warm-up", allocatedBytes, MEASURED_ITERATIONS));
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean()
+    {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        return threadMXBean;
+    }
+}
@@ -0,0 +1,167 @@
+package com.lmax.angler.monitoring.network.monitor.agent;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class AnglerAgentTest
+{
+    private long nanoTime = 1_000L;
+    private final AnglerAgent agent = new AnglerAgent(() -> nanoTime);
+    private int fastPollCount;
+    private int slowPollCount;
+
+    @Test
+    public void shouldRunEachTaskAtItsOwnInterval() throws Exception
+    {
+        agent.schedule(() -> fastPollCount++, 10, TimeUnit.NANOSECONDS);
+        agent.schedule(() -> slowPollCount++, 25, TimeUnit.NANOSECONDS);
+
+        assertThat(agent.doWork(), is(2));
+
+        advanceAndDoWork(5);
+        assertPollCounts(1, 1);
+
+        advanceAndDoWork(5);
+        assertPollCounts(2, 1);
+
+        advanceAndDoWork(10);
+        assertPollCounts(3, 1);
+
+        advanceAndDoWork(5);
+        assertPollCounts(3, 2);
+    }
+
+    @Test
+    public void shouldReportNoWorkWhenNoTaskIsDue() throws Exception
+    {
+        agent.schedule(() -> fastPollCount++, 10, TimeUnit.NANOSECONDS);
+        agent.doWork();
+
+        nanoTime += 9;
+
+        assertThat(agent.doWork(), is(0));
+    }
+
+    @Test
+    public void shouldSkipMissedRunsWhenFallingBehind() throws Exception
+    {
+        agent.schedule(() -> fastPollCount++, 10, TimeUnit.NANOSECONDS);
+        agent.doWork();
+
+        advanceAndDoWork(55);
+        agent.doWork();
+        assertPollCounts(2, 0);
+
+        advanceAndDoWork(10);
+        assertPollCounts(3, 0);
+    }
+
+    @Test
+    public void shouldAdvanceDeadlineOfFailingTask() throws Exception
+    {
+        agent.schedule(() ->
+        {
+            fastPollCount++;
+            throw new IllegalStateException("poll failed");
+        }, 10, TimeUnit.NANOSECONDS);
+
+        try
+        {
+            agent.doWork();
+            fail();
+        }
+        catch(final IllegalStateException e)
+        {
+            // expected
+        }
+
+        assertThat(agent.doWork(), is(0));
+        assertPollCounts(1, 0);
+    }
+
+    @Test
+    public void shouldRecordIntervalsBetweenRuns() throws Exception
+    {
+        final SamplingStatistics statistics = new SamplingStatistics(2L);
+        agent.schedule(() -> fastPollCount++, 10, TimeUnit.NANOSECONDS, statistics);
+        agent.doWork();
+
+        advanceAndDoWork(10);
+        advanceAndDoWork(11);
+        advanceAndDoWork(12);
+
+        assertThat(statistics.getSampleCount(), is(4L));
+        assertThat(statistics.getIntervals().getCount(), is(3L));
+        assertThat(statistics.getIntervals().getValueAtPercentile(50d), is(11L));
+        assertThat(statistics.getIntervals().getMaxValue(), is(12L));
+        // lateness is measured against the schedule, so the last run is three nanoseconds late
+        assertThat(statistics.getLateSampleCount(), is(1L));
+    }
+
+    @Test
+    public void shouldCountLateAndMissedRuns() throws Exception
+    {
+        final SamplingStatistics statistics = new SamplingStatistics(2L);
+        agent.schedule(() -> fastPollCount++, 10, TimeUnit.NANOSECONDS, statistics);
+        agent.doWork();
+
+        advanceAndDoWork(13);
+        assertThat(statistics.getLateSampleCount(), is(1L));
+        assertThat(statistics.getMissedSampleCount(), is(0L));
+
+        advanceAndDoWork(55);
+        assertThat(statistics.getLateSampleCount(), is(2L));
+        assertThat(statistics.getMissedSampleCount(), is(4L));
+
+        statistics.reset();
+        advanceAndDoWork(10);
+        assertThat(statistics.getSampleCount(), is(1L));
+        assertThat(statistics.getIntervals().getMaxValue(), is(10L));
+        assertThat(statistics.getLateSampleCount(), is(0L));
+        assertThat(statistics.getMissedSampleCount(), is(0L));
+    }
+
+    @Test
+    public void shouldMeasureEachTaskFromWhenItStarts() throws Exception
+    {
+        final SamplingStatistics statistics = new SamplingStatistics(2L);
+        agent.schedule(() -> nanoTime += 15, 10, TimeUnit.NANOSECONDS);
+        agent.schedule(() -> slowPollCount++, 10, TimeUnit.NANOSECONDS, statistics);
+
+        agent.doWork();
+
+        // the second task started fifteen nanoseconds after it was due, having waited for the first
+        assertThat(statistics.getLateSampleCount(), is(1L));
+        assertThat(statistics.getMissedSampleCount(), is(1L));
+        assertPollCounts(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNegativeParkTime() throws Exception
+    {
+        agent.newSamplingAgentRunner(-1L, Throwable::printStackTrace);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNonPositiveInterval() throws Exception
+    {
+        agent.schedule(() -> fastPollCount++, 0, TimeUnit.MILLISECONDS);
+    }
+
+    private void advanceAndDoWork(final long nanos)
+    {
+        nanoTime += nanos;
+        agent.doWork();
+    }
+
+    private void assertPollCounts(final int expectedFastPollCount, final int expectedSlowPollCount)
+    {
+        assertThat(fastPollCount, is(expectedFastPollCount));
+        assertThat(slowPollCount, is(expectedSlowPollCount));
+    }
+}
@@ -0,0 +1,139 @@
+package com.lmax.angler.monitoring.network.monitor.app;
+
+import com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorder;
+import com.lmax.angler.monitoring.network.monitor.recorder.FlightRecordingReader;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ExportFlightRecordingMainTest
+{
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    private final ExportFlightRecordingMain.AsciiOutput output = new ExportFlightRecordingMain.AsciiOutput(outputStream);
+    private Path recordingDirectory;
+    private Path recordingPath;
+
+    @Before
+    public void before() throws Exception
+    {
+        recordingDirectory = Files.createTempDirectory("angler-recording");
+        recordingPath = recordingDirectory.resolve("recording.bin");
+        final InetAddress address = InetAddress.getByName("192.168.122.1");
+        final long socketIdentifier = socketIdentifier(address, 53);
+        try(FlightRecorder recorder = new FlightRecorder(recordingPath.toFile(), 16))
+        {
+            recorder.onStatisticsUpdated(address, 53, socketIdentifier, 15292L, 166L, 144L, 2L);
+            recorder.perCpuStatistics(1, 1000L, 7L, 0L);
+            recorder.onStatisticsUpdated(address, 53, socketIdentifier, 15292L, 0L, 12L, 5L);
+            recorder.onStatisticsUpdated(address, 8080, socketIdentifier(address, 8080), 0L, 1L, 2L);
+            recorder.onStatisticsUpdated(address, 8081, socketIdentifier(address, 8081), 0L, 3L, 4L);
+        }
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        Files.deleteIfExists(recordingPath);
+        Files.deleteIfExists(recordingDirectory);
+    }
+
+    @Test
+    public void shouldExportFilteredRecordsAsCsv() throws Exception
+    {
+        final String[] lines = export(false, "--type", "udp", "--port", "53", "--address", "192.168.122.1");
+
+        assertThat(lines.length, is(3));
+        assertThat(lines[0], is("timestamp_ns,type,address,port_or_cpu,inode,value0,value1,value2"));
+        assertThat(withoutTimestamp(lines[1]), is("udp,192.168.122.1,53,15292,166,144,2"));
+        assertThat(withoutTimestamp(lines[2]), is("udp,192.168.122.1,53,15292,0,12,5"));
+    }
+
+    @Test
+    public void shouldExcludeRecordsOutsideTimeRange() throws Exception
+    {
+        final String[] lines = export(false, "--to", "0");
+
+        assertThat(lines.length, is(1));
+    }
+
+    @Test
+    public void shouldSummariseEachSocket() throws Exception
+    {
+        final String[] lines = export(true, "--type", "udp");
+
+        assertThat(lines.length, is(2));
+        final String[] columns = lines[1].split(",");
+        assertThat(columns[0] + "," + columns[1] + "," + columns[2] + "," + columns[3] + "," + columns[4], is("udp,192.168.122.1,53,15292,2"));
+        assertThat(columns[7] + "," + columns[8] + "," + columns[9] + "," + columns[10] + "," + columns[11] + "," + columns[12],
+                is("166,-166,144,-132,5,3"));
+    }
+
+    @Test
+    public void shouldNotApplyPortFilterToSoftnetRecords() throws Exception
+    {
+        final String[] lines = export(false, "--port", "53");
+
+        assertThat(lines.length, is(4));
+        assertThat(withoutTimestamp(lines[1]), is("udp,192.168.122.1,53,15292,166,144,2"));
+        assertThat(withoutTimestamp(lines[2]), is("softnet,0.0.0.0,1,0,1000,7,0"));
+        assertThat(withoutTimestamp(lines[3]), is("udp,192.168.122.1,53,15292,0,12,5"));
+    }
+
+    @Test
+    public void shouldSummariseTcpSocketsWithoutInodeSeparately() throws Exception
+    {
+        final String[] lines = export(true, "--type", "tcp");
+
+        assertThat(lines.length, is(3));
+        final Set<String> sockets = new HashSet<>();
+        sockets.add(socketColumns(lines[1]));
+        sockets.add(socketColumns(lines[2]));
+        assertThat(sockets, is(new HashSet<>(Arrays.asList("tcp,192.168.122.1,8080,0,1", "tcp,192.168.122.1,8081,0,1"))));
+    }
+
+    private String[] export(final boolean summary, final String... filters) throws Exception
+    {
+        final String[] args = new String[filters.length + 1];
+        args[0] = recordingPath.toString();
+        System.arraycopy(filters, 0, args, 1, filters.length);
+
+        final ExportFlightRecordingMain exporter = new ExportFlightRecordingMain(output, summary);
+        exporter.parseFilters(args);
+        try(FlightRecordingReader reader = new FlightRecordingReader(recordingPath.toFile()))
+        {
+            exporter.export(reader);
+        }
+        output.flush();
+        return new String(outputStream.toByteArray(), US_ASCII).split("\n");
+    }
+
+    private static String socketColumns(final String summaryLine)
+    {
+        final String[] columns = summaryLine.split(",");
+        return columns[0] + "," + columns[1] + "," + columns[2] + "," + columns[3] + "," + columns[4];
+    }
+
+    private static long socketIdentifier(final InetAddress address, final int port)
+    {
+        return SocketIdentifier.fromInet4SocketAddress(new InetSocketAddress(address, port));
+    }
+
+    private static String withoutTimestamp(final String line)
+    {
+        return line.substring(line.indexOf(',') + 1);
+    }
+}
@@ -1,5 +1,6 @@
 package com.lmax.angler.monitoring.network.monitor.example;
 
+import com.lmax.angler.monitoring.network.monitor.agent.AnglerAgent;
 import com.lmax.angler.monitoring.network.monitor.socket.SocketMonitoringLifecycleListener;
 import com.lmax.angler.monitoring.network.monitor.socket.udp.UdpSocketMonitor;
 import com.lmax.angler.monitoring.network.monitor.socket.udp.UdpSocketStatisticsHandler;
@@ -7,6 +8,7 @@ import com.lmax.angler.monitoring.network.monitor.system.snmp.SystemNetworkManag
 import com.lmax.angler.monitoring.network.monitor.system.snmp.udp.SnmpUdpStatisticsHandler;
 import com.lmax.angler.monitoring.network.monitor.system.softnet.SoftnetStatsHandler;
 import com.lmax.angler.monitoring.network.monitor.system.softnet.SoftnetStatsMonitor;
+import org.agrona.concurrent.AgentRunner;
 
 import java.io.IOException;
 import java.net.InetAddress;
@@ -21,7 +23,6 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Enumeration;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -44,7 +45,11 @@ public final class ExampleApplication implements SocketMonitoringLifecycleListen
             final DatagramChannel c1 = createListeningChannelOnPort(new InetSocketAddress(InetAddress.getLoopbackAddress(), 12770));
             final DatagramChannel c2 = multicastListener(InetAddress.getByName("239.192.45.3"), 5000))
         {
-            Executors.newSingleThreadScheduledExecutor().scheduleAtFixedRate(this::pollMonitors, 0L, 1L, TimeUnit.SECONDS);
+            final AnglerAgent agent = new AnglerAgent().
+                    schedule(() -> udpSocketMonitor.poll(changeLoggingUdpSocketStatisticsHandler), 1L, TimeUnit.SECONDS).
+                    schedule(() -> softnetStatsMonitor.poll(changeLoggingSoftnetStatsHandler), 1L, TimeUnit.SECONDS).
+                    schedule(() -> systemNetworkManagementMonitor.poll(changeLoggingSnmpUdpStatisticsHandler), 5L, TimeUnit.SECONDS);
+            AgentRunner.startOnThread(agent.newAgentRunner(Throwable::printStackTrace));
             udpSocketMonitor.beginMonitoringOf((InetSocketAddress) c0.getLocalAddress());
             udpSocketMonitor.beginMonitoringOf((InetSocketAddress) c1.getLocalAddress());
             udpSocketMonitor.beginMonitoringOf((InetSocketAddress) c2.getLocalAddress());
@@ -64,21 +69,6 @@ public final class ExampleApplication implements SocketMonitoringLifecycleListen
         }
     }
 
-    private void pollMonitors()
-    {
-        try
-        {
-            udpSocketMonitor.poll(changeLoggingUdpSocketStatisticsHandler);
-            softnetStatsMonitor.poll(changeLoggingSoftnetStatsHandler);
-            systemNetworkManagementMonitor.poll(changeLoggingSnmpUdpStatisticsHandler);
-            System.out.println("");
-        }
-        catch(RuntimeException e)
-        {
-            e.printStackTrace();
-        }
-    }
-
     @Override
     public void socketMonitoringStarted(final InetAddress inetAddress, final int port, final long inode)
     {
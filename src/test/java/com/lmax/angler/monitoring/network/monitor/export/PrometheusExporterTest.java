@@ -0,0 +1,169 @@
+package com.lmax.angler.monitoring.network.monitor.export;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.junit.Assert.assertThat;
+
+public class PrometheusExporterTest
+{
+    private final PrometheusExporter exporter = new PrometheusExporter();
+
+    @After
+    public void after()
+    {
+        exporter.close();
+    }
+
+    @Test
+    public void shouldServeRenderedValues() throws Exception
+    {
+        exporter.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        exporter.onStatisticsUpdated(InetAddress.getByName("127.0.0.1"), 53, 17L, 15292L, 166L, 144L, 2L);
+        exporter.onStatisticsUpdated(InetAddress.getByName("127.0.0.1"), 8080, 18L, 15293L, 5L, 6L);
+        exporter.perCpuStatistics(1, 1000L, 7L, 1L);
+        exporter.onStatisticsUpdated(11L, 12L, 13L);
+        exporter.render();
+
+        final String page = scrape();
+
+        assertThat(page, startsWith("# HELP angler_socket_receive_queue_bytes Bytes queued in the socket receive buffer.\n" +
+                "# TYPE angler_socket_receive_queue_bytes gauge\n" +
+                "angler_socket_receive_queue_bytes{protocol=\"udp\",address=\"127.0.0.1\",port=\"53\",inode=\"15292\"} 166\n" +
+                "angler_socket_receive_queue_bytes{protocol=\"tcp\",address=\"127.0.0.1\",port=\"8080\",inode=\"15293\"} 5\n"));
+        assertThat(page, containsString(
+                "angler_socket_transmit_queue_bytes{protocol=\"udp\",address=\"127.0.0.1\",port=\"53\",inode=\"15292\"} 144\n"));
+        assertThat(page, containsString(
+                "# TYPE angler_socket_drops_total counter\n" +
+                "angler_socket_drops_total{protocol=\"udp\",address=\"127.0.0.1\",port=\"53\",inode=\"15292\"} 2\n"));
+        assertThat(page, containsString(
+                "# TYPE angler_softnet_processed_total counter\nangler_softnet_processed_total{cpu=\"1\"} 1000\n"));
+        assertThat(page, not(containsString("cpu=\"0\"")));
+        assertThat(page, containsString("angler_softnet_time_squeeze_total{cpu=\"1\"} 7\n"));
+        assertThat(page, containsString("angler_softnet_dropped_total{cpu=\"1\"} 1\n"));
+        assertThat(page, containsString("angler_udp_in_errors_total 11\n"));
+        assertThat(page, containsString("angler_udp_receive_buffer_errors_total 12\n"));
+        assertThat(page, containsString("angler_udp_in_checksum_errors_total 13\n"));
+    }
+
+    @Test
+    public void shouldServeEmptyPageBeforeFirstRender() throws Exception
+    {
+        exporter.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        exporter.onStatisticsUpdated(11L, 12L, 13L);
+
+        assertThat(scrape(), is(""));
+    }
+
+    @Test
+    public void shouldOnlyServeValuesOnceRendered() throws Exception
+    {
+        exporter.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        exporter.onStatisticsUpdated(11L, 12L, 13L);
+        exporter.render();
+        exporter.onStatisticsUpdated(21L, 22L, 23L);
+
+        assertThat(scrape(), containsString("angler_udp_in_errors_total 11\n"));
+
+        exporter.render();
+
+        assertThat(scrape(), containsString("angler_udp_in_errors_total 21\n"));
+    }
+
+    @Test
+    public void shouldStopExportingSocketWhenMonitoringStops() throws Exception
+    {
+        exporter.onStatisticsUpdated(InetAddress.getByName("127.0.0.1"), 53, 17L, 15292L, 166L, 144L, 2L);
+        exporter.render();
+        exporter.socketMonitoringStopped(InetAddress.getByName("127.0.0.1"), 53, 15292L);
+        exporter.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+
+        assertThat(scrape(), containsString("port=\"53\""));
+
+        exporter.render();
+
+        assertThat(scrape(), not(containsString("port=\"53\"")));
+    }
+
+    @Test
+    public void shouldExportTcpSocketsWithoutInodeSeparately() throws Exception
+    {
+        final InetAddress address = InetAddress.getByName("127.0.0.1");
+        exporter.onStatisticsUpdated(address, 8080, 18L, 0L, 5L, 6L);
+        exporter.onStatisticsUpdated(address, 8081, 19L, 0L, 7L, 8L);
+        exporter.render();
+        exporter.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+
+        final String page = scrape();
+
+        assertThat(page, containsString(
+                "angler_socket_receive_queue_bytes{protocol=\"tcp\",address=\"127.0.0.1\",port=\"8080\",inode=\"0\"} 5\n"));
+        assertThat(page, containsString(
+                "angler_socket_receive_queue_bytes{protocol=\"tcp\",address=\"127.0.0.1\",port=\"8081\",inode=\"0\"} 7\n"));
+
+        exporter.socketMonitoringStopped(address, 8080, 0L);
+        exporter.render();
+
+        assertThat(scrape(), not(containsString("port=\"8080\"")));
+        assertThat(scrape(), containsString(
+                "angler_socket_receive_queue_bytes{protocol=\"tcp\",address=\"127.0.0.1\",port=\"8081\",inode=\"0\"} 7\n"));
+    }
+
+    @Test
+    public void shouldNotAllocateWhenRecordingAndRendering() throws Exception
+    {
+        final InetAddress address = InetAddress.getByName("127.0.0.1");
+        exporter.onStatisticsUpdated(address, 53, 17L, 15292L, 166L, 144L, 2L);
+        exporter.onStatisticsUpdated(address, 8080, 18L, 15293L, 5L, 6L);
+        exporter.perCpuStatistics(3, 1000L, 7L, 1L);
+
+        assertNoAllocationInSteadyState(() ->
+        {
+            exporter.onStatisticsUpdated(address, 53, 17L, 15292L, 167L, 144L, Long.MAX_VALUE);
+            exporter.onStatisticsUpdated(address, 8080, 18L, 15293L, 5L, 7L);
+            exporter.perCpuStatistics(3, 1001L, 7L, 1L);
+            exporter.onStatisticsUpdated(11L, 12L, 13L);
+            exporter.render();
+        });
+    }
+
+    private String scrape() throws Exception
+    {
+        final InetSocketAddress address = exporter.getAddress();
+        final HttpURLConnection connection = (HttpURLConnection) new URL(
+                "http://" + address.getHostString() + ":" + address.getPort() + "/metrics").openConnection();
+        try
+        {
+            assertThat(connection.getResponseCode(), is(200));
+            assertThat(connection.getContentType(), startsWith("text/plain; version=0.0.4"));
+            final ByteArrayOutputStream page = new ByteArrayOutputStream();
+            try (InputStream body = connection.getInputStream())
+            {
+                final byte[] chunk = new byte[1024];
+                int read;
+                while((read = body.read(chunk)) != -1)
+                {
+                    page.write(chunk, 0, read);
+                }
+            }
+            return new String(page.toByteArray(), US_ASCII);
+        }
+        finally
+        {
+            connection.disconnect();
+        }
+    }
+}
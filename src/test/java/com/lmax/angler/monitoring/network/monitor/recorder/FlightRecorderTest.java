@@ -0,0 +1,142 @@
+package com.lmax.angler.monitoring.network.monitor.recorder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.CAPACITY_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.COMMIT_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.INODE_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.MAGIC;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.MAGIC_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.PORT_OR_CPU_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.SOCKET_IDENTIFIER_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.TIMESTAMP_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.TYPE_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VALUE_0_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VALUE_1_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.VALUE_2_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.WRITE_SEQUENCE_OFFSET;
+import static com.lmax.angler.monitoring.network.monitor.recorder.FlightRecorderFormat.recordOffset;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FlightRecorderTest
+{
+    private long nanoTime = 1_000L;
+    private Path recordingDirectory;
+    private Path recordingPath;
+    private FlightRecorder recorder;
+
+    @Before
+    public void before() throws Exception
+    {
+        recordingDirectory = Files.createTempDirectory("angler-recording");
+        recordingPath = recordingDirectory.resolve("recording.bin");
+        recorder = new FlightRecorder(recordingPath.toFile(), 4, () -> nanoTime++);
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        recorder.close();
+        Files.deleteIfExists(recordingPath);
+        Files.deleteIfExists(recordingDirectory);
+    }
+
+    @Test
+    public void shouldWriteHeader() throws Exception
+    {
+        final ByteBuffer recording = readRecording();
+
+        assertThat(recording.getLong(MAGIC_OFFSET), is(MAGIC));
+        assertThat(recording.getLong(CAPACITY_OFFSET), is(4L));
+        assertThat(recording.getLong(WRITE_SEQUENCE_OFFSET), is(0L));
+        assertThat(recording.limit(), is((int) FlightRecorderFormat.fileLength(4)));
+    }
+
+    @Test
+    public void shouldRecordSamplesFromEachMonitorType() throws Exception
+    {
+        recorder.onStatisticsUpdated(InetAddress.getLoopbackAddress(), 53, 17L, 15292L, 166L, 144L, 2L);
+        recorder.onStatisticsUpdated(InetAddress.getLoopbackAddress(), 8080, 18L, 15293L, 5L, 6L);
+        recorder.perCpuStatistics(3, 1000L, 7L, 1L);
+        recorder.onStatisticsUpdated(11L, 12L, 13L);
+
+        final ByteBuffer recording = readRecording();
+        assertThat(recording.getLong(WRITE_SEQUENCE_OFFSET), is(4L));
+        assertRecord(recording, 0, FlightRecorderFormat.UDP_SOCKET_RECORD, 53, 1_000L, 17L, 15292L, 166L, 144L, 2L);
+        assertRecord(recording, 1, FlightRecorderFormat.TCP_SOCKET_RECORD, 8080, 1_001L, 18L, 15293L, 5L, 6L, FlightRecorderFormat.UNAVAILABLE);
+        assertRecord(recording, 2, FlightRecorderFormat.SOFTNET_RECORD, 3, 1_002L, 0L, 0L, 1000L, 7L, 1L);
+        assertRecord(recording, 3, FlightRecorderFormat.SNMP_UDP_RECORD, 0, 1_003L, 0L, 0L, 11L, 12L, 13L);
+    }
+
+    @Test
+    public void shouldOverwriteOldestRecordsWhenFull() throws Exception
+    {
+        for(int i = 0; i < 6; i++)
+        {
+            recorder.perCpuStatistics(i, i, 0L, 0L);
+        }
+
+        final ByteBuffer recording = readRecording();
+        assertThat(recorder.getRecordCount(), is(6L));
+        assertThat(recording.getLong(WRITE_SEQUENCE_OFFSET), is(6L));
+        assertRecord(recording, 4, FlightRecorderFormat.SOFTNET_RECORD, 4, 1_004L, 0L, 0L, 4L, 0L, 0L);
+        assertRecord(recording, 5, FlightRecorderFormat.SOFTNET_RECORD, 5, 1_005L, 0L, 0L, 5L, 0L, 0L);
+        assertRecord(recording, 2, FlightRecorderFormat.SOFTNET_RECORD, 2, 1_002L, 0L, 0L, 2L, 0L, 0L);
+    }
+
+    @Test
+    public void shouldNotAllocateWhenRecording() throws Exception
+    {
+        final InetAddress address = InetAddress.getLoopbackAddress();
+
+        assertNoAllocationInSteadyState(() ->
+        {
+            recorder.onStatisticsUpdated(address, 53, 17L, 15292L, 166L, 144L, 2L);
+            recorder.perCpuStatistics(3, 1000L, 7L, 1L);
+        });
+    }
+
+    @Test(expected = FileAlreadyExistsException.class)
+    public void shouldNotOverwriteExistingRecording() throws Exception
+    {
+        new FlightRecorder(recordingPath.toFile(), 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNonPositiveCapacity() throws Exception
+    {
+        new FlightRecorder(recordingDirectory.resolve("empty.bin").toFile(), 0);
+    }
+
+    private ByteBuffer readRecording() throws Exception
+    {
+        return ByteBuffer.wrap(Files.readAllBytes(recordingPath)).order(ByteOrder.nativeOrder());
+    }
+
+    private static void assertRecord(
+            final ByteBuffer recording, final long sequence, final int type, final int portOrCpu, final long timestamp,
+            final long socketIdentifier, final long inode, final long value0, final long value1, final long value2)
+    {
+        final int offset = recordOffset(sequence, recording.getLong(CAPACITY_OFFSET));
+        assertThat(recording.getLong(offset + COMMIT_OFFSET), is(sequence + 1));
+        assertThat(recording.getInt(offset + TYPE_OFFSET), is(type));
+        assertThat(recording.getInt(offset + PORT_OR_CPU_OFFSET), is(portOrCpu));
+        assertThat(recording.getLong(offset + TIMESTAMP_OFFSET), is(timestamp));
+        assertThat(recording.getLong(offset + SOCKET_IDENTIFIER_OFFSET), is(socketIdentifier));
+        assertThat(recording.getLong(offset + INODE_OFFSET), is(inode));
+        assertThat(recording.getLong(offset + VALUE_0_OFFSET), is(value0));
+        assertThat(recording.getLong(offset + VALUE_1_OFFSET), is(value1));
+        assertThat(recording.getLong(offset + VALUE_2_OFFSET), is(value2));
+    }
+}
@@ -0,0 +1,145 @@
+package com.lmax.angler.monitoring.network.monitor.recorder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.RandomAccessFile;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FlightRecordingReaderTest
+{
+    private final List<String> records = new ArrayList<>();
+    private final FlightRecordHandler recordingHandler = record -> records.add(record.getSequence() + ":" + record.getType() + ":" +
+            record.getPortOrCpuId() + ":" + record.getTimestampNanos() + ":" + record.getSocketIdentifier() + ":" +
+            record.getInode() + ":" + record.getValue0() + ":" + record.getValue1() + ":" + record.getValue2());
+    private long nanoTime = 100L;
+    private Path recordingDirectory;
+    private Path recordingPath;
+    private FlightRecorder recorder;
+
+    @Before
+    public void before() throws Exception
+    {
+        recordingDirectory = Files.createTempDirectory("angler-recording");
+        recordingPath = recordingDirectory.resolve("recording.bin");
+        recorder = new FlightRecorder(recordingPath.toFile(), 3, () -> nanoTime++);
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        recorder.close();
+        Files.deleteIfExists(recordingPath);
+        Files.deleteIfExists(recordingDirectory.resolve("invalid.bin"));
+        Files.deleteIfExists(recordingDirectory);
+    }
+
+    @Test
+    public void shouldReadRecordsInOrder() throws Exception
+    {
+        recorder.onStatisticsUpdated(InetAddress.getLoopbackAddress(), 53, 17L, 15292L, 166L, 144L, 2L);
+        recorder.perCpuStatistics(1, 1000L, 7L, 0L);
+
+        try(FlightRecordingReader reader = new FlightRecordingReader(recordingPath.toFile()))
+        {
+            assertThat(reader.getCapacity(), is(3L));
+            assertThat(reader.read(recordingHandler), is(2L));
+        }
+
+        assertThat(records, is(asList("0:1:53:100:17:15292:166:144:2", "1:3:1:101:0:0:1000:7:0")));
+    }
+
+    @Test
+    public void shouldReadOnlyRetainedRecordsOldestFirstAfterWrapping() throws Exception
+    {
+        for(int i = 0; i < 5; i++)
+        {
+            recorder.perCpuStatistics(i, i, 0L, 0L);
+        }
+
+        try(FlightRecordingReader reader = new FlightRecordingReader(recordingPath.toFile()))
+        {
+            assertThat(reader.getRecordCount(), is(5L));
+            assertThat(reader.read(recordingHandler), is(3L));
+        }
+
+        assertThat(records, is(asList("2:3:2:102:0:0:2:0:0", "3:3:3:103:0:0:3:0:0", "4:3:4:104:0:0:4:0:0")));
+    }
+
+    @Test
+    public void shouldNotTearRecordOverwrittenDuringCallback() throws Exception
+    {
+        recorder.perCpuStatistics(0, 1000L, 7L, 1L);
+        recorder.perCpuStatistics(1, 2000L, 8L, 2L);
+
+        try(FlightRecordingReader reader = new FlightRecordingReader(recordingPath.toFile()))
+        {
+            final long readCount = reader.read(record ->
+            {
+                // the writer laps the reader, overwriting this record and the next
+                for(int i = 0; i < 3; i++)
+                {
+                    recorder.perCpuStatistics(9, 9L, 9L, 9L);
+                }
+                recordingHandler.onRecord(record);
+            });
+
+            assertThat(readCount, is(1L));
+        }
+
+        assertThat(records, is(asList("0:3:0:100:0:0:1000:7:1")));
+    }
+
+    @Test
+    public void shouldSkipIncompleteRecord() throws Exception
+    {
+        recorder.perCpuStatistics(0, 1L, 0L, 0L);
+        recorder.perCpuStatistics(1, 2L, 0L, 0L);
+        try(RandomAccessFile file = new RandomAccessFile(recordingPath.toFile(), "rw"))
+        {
+            // as if the JVM crashed after clearing the commit word of the second record
+            file.seek(FlightRecorderFormat.recordOffset(1, 3) + FlightRecorderFormat.COMMIT_OFFSET);
+            file.writeLong(0L);
+        }
+
+        try(FlightRecordingReader reader = new FlightRecordingReader(recordingPath.toFile()))
+        {
+            assertThat(reader.read(recordingHandler), is(1L));
+        }
+
+        assertThat(records, is(asList("0:3:0:100:0:0:1:0:0")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectFileThatIsNotARecording() throws Exception
+    {
+        final Path invalid = recordingDirectory.resolve("invalid.bin");
+        Files.write(invalid, new byte[FlightRecorderFormat.HEADER_LENGTH]);
+
+        new FlightRecordingReader(invalid.toFile());
+    }
+
+    @Test
+    public void shouldNotAllocateWhenReading() throws Exception
+    {
+        recorder.perCpuStatistics(0, 1L, 0L, 0L);
+        recorder.perCpuStatistics(1, 2L, 0L, 0L);
+        final long[] total = new long[1];
+        final FlightRecordHandler summingHandler = record -> total[0] += record.getValue0();
+
+        try(FlightRecordingReader reader = new FlightRecordingReader(recordingPath.toFile()))
+        {
+            assertNoAllocationInSteadyState(() -> reader.read(summingHandler));
+        }
+    }
+}
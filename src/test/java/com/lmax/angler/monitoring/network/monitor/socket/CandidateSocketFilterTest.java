@@ -0,0 +1,66 @@
+package com.lmax.angler.monitoring.network.monitor.socket;
+
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier.fromInet4Address;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier.fromInet4SocketAddress;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier.fromInet4SocketAddressAndInode;
+import static com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier.fromPortAndInode;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CandidateSocketFilterTest
+{
+    private final CandidateSocketFilter filter = CandidateSocketFilter.forIpv4Addresses(4);
+
+    @Test
+    public void shouldMatchRequestedSocketAddress() throws Exception
+    {
+        filter.addSocketIdentifier(fromInet4SocketAddress(socketAddress("192.168.122.1", 53)));
+
+        assertThat(filter.test(fromInet4SocketAddress(socketAddress("192.168.122.1", 53))), is(true));
+        assertThat(filter.test(fromInet4SocketAddress(socketAddress("192.168.122.1", 54))), is(false));
+        assertThat(filter.test(fromInet4SocketAddress(socketAddress("192.168.122.2", 53))), is(false));
+    }
+
+    @Test
+    public void shouldMatchAnyPortForMatchAllPortsRequest() throws Exception
+    {
+        filter.addSocketIdentifier(fromInet4Address(InetAddress.getByName("127.0.0.1")));
+
+        assertThat(filter.test(fromInet4SocketAddress(socketAddress("127.0.0.1", 32770))), is(true));
+        assertThat(filter.test(fromInet4SocketAddress(socketAddress("127.0.0.2", 32770))), is(false));
+    }
+
+    @Test
+    public void shouldIgnoreInodeOfRequest() throws Exception
+    {
+        filter.addSocketIdentifier(fromInet4SocketAddressAndInode(socketAddress("0.0.0.0", 20048), 21682));
+
+        assertThat(filter.test(fromInet4SocketAddress(socketAddress("0.0.0.0", 20048))), is(true));
+    }
+
+    @Test
+    public void shouldMatchAnyAddressOnRequestedPortWhenFilteringPortsOnly() throws Exception
+    {
+        final CandidateSocketFilter portsOnlyFilter = CandidateSocketFilter.forPortsOnly();
+        portsOnlyFilter.addPort(8080);
+
+        assertThat(portsOnlyFilter.test(fromPortAndInode(8080, 0L)), is(true));
+        assertThat(portsOnlyFilter.test(fromPortAndInode(8081, 0L)), is(false));
+    }
+
+    @Test
+    public void shouldMatchNothingWhenEmpty() throws Exception
+    {
+        assertThat(filter.test(fromInet4SocketAddress(socketAddress("0.0.0.0", 0))), is(false));
+    }
+
+    private static InetSocketAddress socketAddress(final String host, final int port) throws Exception
+    {
+        return new InetSocketAddress(InetAddress.getByName(host), port);
+    }
+}
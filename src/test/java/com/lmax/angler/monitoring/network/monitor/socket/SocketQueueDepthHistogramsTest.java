@@ -0,0 +1,83 @@
+package com.lmax.angler.monitoring.network.monitor.socket;
+
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SocketQueueDepthHistogramsTest
+{
+    private final SocketQueueDepthHistograms histograms = new SocketQueueDepthHistograms();
+    private final List<String> reports = new ArrayList<>();
+    private final SocketQueueDepthHistogramHandler handler =
+            (inetAddress, port, socketInstanceIdentifier, receiveQueueDepths, transmitQueueDepths) ->
+                    reports.add(port + " " + socketInstanceIdentifier + " n=" + receiveQueueDepths.getCount() +
+                            " rx=" + receiveQueueDepths.getValueAtPercentile(50d) + "/" +
+                            receiveQueueDepths.getValueAtPercentile(99d) + "/" + receiveQueueDepths.getMaxValue() +
+                            " tx=" + transmitQueueDepths.getMaxValue());
+
+    @Test
+    public void shouldReportDistributionOfEachSocketSinceLastReport() throws Exception
+    {
+        final InetAddress address = InetAddress.getLoopbackAddress();
+        for(int i = 1; i <= 100; i++)
+        {
+            histograms.record(address, 8080, 1L, i, 0L);
+            histograms.record(address, 8081, 2L, 7L, i % 3);
+        }
+
+        histograms.report(handler);
+
+        assertThat(reports.size(), is(2));
+        assertThat(reports.get(0), is("8080 1 n=100 rx=51/99/100 tx=0"));
+        assertThat(reports.get(1), is("8081 2 n=100 rx=7/7/7 tx=2"));
+
+        reports.clear();
+        histograms.record(address, 8081, 2L, 3L, 0L);
+
+        histograms.report(handler);
+
+        assertThat(reports.size(), is(1));
+        assertThat(reports.get(0), is("8081 2 n=1 rx=3/3/3 tx=0"));
+    }
+
+    @Test
+    public void shouldTrackSocketAgainWhenSampledAfterBeingDropped() throws Exception
+    {
+        final InetAddress address = InetAddress.getLoopbackAddress();
+        histograms.record(address, 8080, 1L, 5L, 0L);
+        histograms.report(handler);
+        histograms.report(handler);
+        reports.clear();
+
+        histograms.record(address, 8080, 1L, 9L, 0L);
+        histograms.report(handler);
+
+        assertThat(reports.size(), is(1));
+        assertThat(reports.get(0), is("8080 1 n=1 rx=9/9/9 tx=0"));
+    }
+
+    @Test
+    public void shouldNotAllocateWhenRecordingAndReportingKnownSockets() throws Exception
+    {
+        final InetAddress address = InetAddress.getLoopbackAddress();
+        final long[] sampleCount = new long[1];
+        final SocketQueueDepthHistogramHandler countingHandler =
+                (inetAddress, port, socketInstanceIdentifier, receiveQueueDepths, transmitQueueDepths) ->
+                        sampleCount[0] += receiveQueueDepths.getCount();
+
+        assertNoAllocationInSteadyState(() ->
+        {
+            for(int i = 0; i < 64; i++)
+            {
+                histograms.record(address, 8080 + i, i, i * 1000L, 0L);
+            }
+            histograms.report(countingHandler);
+        });
+    }
+}
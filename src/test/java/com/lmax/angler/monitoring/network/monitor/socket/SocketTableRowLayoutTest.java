@@ -0,0 +1,97 @@
+package com.lmax.angler.monitoring.network.monitor.socket;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SocketTableRowLayoutTest
+{
+    private static final String TCP_ROW =
+            " 1487: 00000000:4E50 00000000:0000 07 00000000:00000000 00:00000000 00000000     0        0 21682";
+    private static final String UDP6_ROW =
+            "    1: B80D0120000000000000000010000000:1388 00000000000000000000000000000000:0000 07 " +
+            "00000090:000000A6 00:00000000 00000000   104        0 21016 2 0000000000000000 3";
+
+    private final SocketTableRowLayout tcpLayout = new SocketTableRowLayout(SocketTableRowLayout.INODE + 1);
+    private final SocketTableRowLayout udpLayout = new SocketTableRowLayout(SocketTableRowLayout.DROPS + 1);
+
+    @Test
+    public void shouldLocateIpv4Columns() throws Exception
+    {
+        final ByteBuffer src = prepare(TCP_ROW);
+
+        assertThat(tcpLayout.locate(src, 0, src.limit()), is(true));
+        assertThat(column(src, tcpLayout.getLocalAddressStart(), tcpLayout.getLocalAddressStart() + tcpLayout.getAddressAndPortLength()),
+                is("00000000:4E50"));
+        assertThat(column(src, tcpLayout.getRemoteAddressStart(), tcpLayout.getRemoteAddressStart() + tcpLayout.getAddressAndPortLength()),
+                is("00000000:0000"));
+        assertThat(column(src, tcpLayout.getStateStart(), tcpLayout.getStateStart() + 2), is("07"));
+        assertThat(column(src, tcpLayout.getTransmitQueueStart(), tcpLayout.getReceiveQueueEnd()), is("00000000:00000000"));
+        assertThat(column(src, tcpLayout.getRetransmitsStart(), tcpLayout.getRetransmitsEnd()), is("00000000"));
+        assertThat(trailingToken(src, tcpLayout, SocketTableRowLayout.INODE), is("21682"));
+    }
+
+    @Test
+    public void shouldLocateIpv6Columns() throws Exception
+    {
+        final ByteBuffer src = prepare(UDP6_ROW);
+
+        assertThat(udpLayout.locate(src, 0, src.limit()), is(true));
+        assertThat(column(src, udpLayout.getLocalAddressStart(), udpLayout.getLocalAddressStart() + udpLayout.getAddressAndPortLength()),
+                is("B80D0120000000000000000010000000:1388"));
+        assertThat(column(src, udpLayout.getReceiveQueueStart(), udpLayout.getReceiveQueueEnd()), is("000000A6"));
+        assertThat(trailingToken(src, udpLayout, SocketTableRowLayout.UID), is("104"));
+        assertThat(trailingToken(src, udpLayout, SocketTableRowLayout.INODE), is("21016"));
+        assertThat(trailingToken(src, udpLayout, SocketTableRowLayout.DROPS), is("3"));
+    }
+
+    @Test
+    public void shouldRejectRowWithUnexpectedSpacing() throws Exception
+    {
+        final ByteBuffer src = prepare(TCP_ROW.replace(" 07 ", "  07 "));
+
+        assertThat(tcpLayout.locate(src, 0, src.limit()), is(false));
+    }
+
+    @Test
+    public void shouldRejectRowWithMissingTrailingColumns() throws Exception
+    {
+        final ByteBuffer src = prepare(TCP_ROW);
+
+        assertThat(udpLayout.locate(src, 0, src.limit()), is(false));
+    }
+
+    @Test
+    public void shouldRecogniseHeaderRow() throws Exception
+    {
+        final ByteBuffer header = prepare("  sl  local_address rem_address   st tx_queue rx_queue");
+        final ByteBuffer row = prepare(TCP_ROW);
+
+        assertThat(SocketTableRowLayout.isHeaderRow(header, 0, header.limit()), is(true));
+        assertThat(SocketTableRowLayout.isHeaderRow(row, 0, row.limit()), is(false));
+    }
+
+    private static String trailingToken(final ByteBuffer src, final SocketTableRowLayout layout, final int token)
+    {
+        return column(src, layout.getTrailingTokenStart(token), layout.getTrailingTokenEnd(token));
+    }
+
+    private static String column(final ByteBuffer src, final int startPosition, final int endPosition)
+    {
+        final byte[] tmp = new byte[endPosition - startPosition];
+        for(int i = 0; i < tmp.length; i++)
+        {
+            tmp[i] = src.get(startPosition + i);
+        }
+        return new String(tmp, UTF_8);
+    }
+
+    private static ByteBuffer prepare(final String row)
+    {
+        return ByteBuffer.wrap(row.getBytes(UTF_8));
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.Test;
 
 import java.net.InetAddress;
 
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -75,6 +76,16 @@ public class SocketOwnedByCurrentProcessFilterTest
         assertThat(socketInodeRequestCount, is(1));
     }
 
+    @Test
+    public void shouldNotAllocateForKnownInodes() throws Exception
+    {
+        assertNoAllocationInSteadyState(() ->
+        {
+            filter.onStatisticsUpdated(INET_ADDRESS, PORT, 17L, INODE_OWNED_BY_PROCESS, 0L, 0L);
+            filter.onStatisticsUpdated(INET_ADDRESS, PORT, 17L, INODE_NOT_OWNED_BY_PROCESS, 0L, 0L);
+        });
+    }
+
     private void handleStatistics(final InetAddress inetAddress,
                                   final int port,
                                   final long socketIdentifier,
@@ -0,0 +1,189 @@
+package com.lmax.angler.monitoring.network.monitor.socket.tcp;
+
+import com.lmax.angler.monitoring.network.monitor.ResourceUtil;
+import com.lmax.angler.monitoring.network.monitor.socket.RecordingSocketMonitoringLifecycleListener;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+public class Tcp6SocketMonitorTest
+{
+    private final RecordingTcpSocketStatisticsHandler recordingTcpSocketStatisticsHandler =
+            new RecordingTcpSocketStatisticsHandler();
+    private final RecordingSocketMonitoringLifecycleListener lifecycleListener =
+            new RecordingSocketMonitoringLifecycleListener();
+    private Path inputPath;
+    private Tcp6SocketMonitor monitor;
+
+    @Before
+    public void before() throws Exception
+    {
+        inputPath = Files.createTempFile("proc-net-tcp6", "txt");
+        ResourceUtil.writeDataFile("proc_net_tcp6_sample.txt", inputPath);
+        monitor = new Tcp6SocketMonitor(lifecycleListener, inputPath);
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        Files.deleteIfExists(inputPath);
+    }
+
+    @Test
+    public void shouldSampleMonitoredSockets() throws Exception
+    {
+        monitor.beginMonitoringOf(getSocketAddress("::", 8080));
+        monitor.beginMonitoringOf(getSocketAddress("2001:db8::10", 43210));
+        monitor.beginMonitoringOf(getSocketAddress("::1", 9000));
+
+        monitor.poll(recordingTcpSocketStatisticsHandler);
+
+        final List<MonitoredEntry> recordedEntries = recordingTcpSocketStatisticsHandler.getRecordedEntries();
+        assertThat(recordedEntries.size(), is(3));
+        assertEntry(recordedEntries.get(0), "::", 8080, 0, 0, 4437391);
+        assertEntry(recordedEntries.get(1), "2001:db8::10", 43210, 166, 144, 4437393);
+        assertEntry(recordedEntries.get(2), "::1", 9000, 0, 0, 4437394);
+    }
+
+    @Test
+    public void shouldMonitorAllPortsOfAddress() throws Exception
+    {
+        monitor.beginMonitoringOf(InetAddress.getByName("2001:db8::10"));
+
+        monitor.poll(recordingTcpSocketStatisticsHandler);
+
+        final List<MonitoredEntry> recordedEntries = recordingTcpSocketStatisticsHandler.getRecordedEntries();
+        assertThat(recordedEntries.size(), is(2));
+        assertEntry(recordedEntries.get(0), "2001:db8::10", 5000, 0, 0, 4437392);
+        assertEntry(recordedEntries.get(1), "2001:db8::10", 43210, 166, 144, 4437393);
+    }
+
+    @Test
+    public void shouldMonitorSpecificInode() throws Exception
+    {
+        monitor.beginMonitoringOf(InetAddress.getByName("2001:db8::10"), 4437393);
+
+        monitor.poll(recordingTcpSocketStatisticsHandler);
+
+        final List<MonitoredEntry> recordedEntries = recordingTcpSocketStatisticsHandler.getRecordedEntries();
+        assertThat(recordedEntries.size(), is(1));
+        assertEntry(recordedEntries.get(0), "2001:db8::10", 43210, 166, 144, 4437393);
+    }
+
+    @Test
+    public void shouldNotNotifyHandlerOfUnchangedEntries() throws Exception
+    {
+        monitor.beginMonitoringOf(InetAddress.getByName("2001:db8::10"));
+
+        monitor.poll(recordingTcpSocketStatisticsHandler);
+        recordingTcpSocketStatisticsHandler.getRecordedEntries().clear();
+
+        ResourceUtil.writeDataFile("proc_net_tcp6_updated_sample.txt", inputPath);
+
+        monitor.poll(recordingTcpSocketStatisticsHandler);
+
+        final List<MonitoredEntry> recordedEntries = recordingTcpSocketStatisticsHandler.getRecordedEntries();
+        assertThat(recordedEntries.size(), is(1));
+        assertEntry(recordedEntries.get(0), "2001:db8::10", 43210, 166, 0, 4437393);
+    }
+
+    @Test
+    public void shouldStopNotifyingWhenMonitoringEnds() throws Exception
+    {
+        monitor.beginMonitoringOf(getSocketAddress("2001:db8::10", 43210));
+        monitor.poll(recordingTcpSocketStatisticsHandler);
+
+        monitor.endMonitoringOf(getSocketAddress("2001:db8::10", 43210));
+        monitor.poll(recordingTcpSocketStatisticsHandler);
+
+        assertThat(recordingTcpSocketStatisticsHandler.getRecordedEntries().size(), is(1));
+        assertThat(lifecycleListener.getMonitoringStoppedList().size(), is(1));
+        assertThat(lifecycleListener.getMonitoringStoppedList().get(0), is(getSocketAddress("2001:db8::10", 43210)));
+    }
+
+    @Test
+    public void shouldIdentifySocketsOnSamePortByFullInodeAndIgnoreRowsWithoutInode() throws Exception
+    {
+        ResourceUtil.writeDataFile("proc_net_tcp6_time_wait_sample.txt", inputPath);
+        monitor.beginMonitoringOf(InetAddress.getByName("2001:db8::10"));
+
+        monitor.poll(recordingTcpSocketStatisticsHandler);
+
+        final List<MonitoredEntry> recordedEntries = recordingTcpSocketStatisticsHandler.getRecordedEntries();
+        assertThat(recordedEntries.size(), is(2));
+        assertEntry(recordedEntries.get(0), "2001:db8::10", 5000, 0, 0, 4437392);
+        assertEntry(recordedEntries.get(1), "2001:db8::10", 5000, 32, 16, 4502928);
+        assertThat(recordedEntries.get(0).getSocketIdentifier(), is(not(recordedEntries.get(1).getSocketIdentifier())));
+        assertThat(lifecycleListener.getMonitoringStartedList().size(), is(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectIpv4Address() throws Exception
+    {
+        monitor.beginMonitoringOf(getSocketAddress("127.0.0.1", 9000));
+    }
+
+    @Test
+    public void shouldReportSocketDetailsWhenStateOrRetransmitsChange() throws Exception
+    {
+        final List<String> reportedDetails = new ArrayList<>();
+        final TcpSocketDetailsHandler detailsHandler =
+                (inetAddress, port, socketIdentifier, inode, receiveQueueDepth, transmitQueueDepth, details) ->
+                reportedDetails.add(String.format("%d st=%d tr=%d when=%d retrnsmt=%d uid=%d rto=%d cwnd=%d ssthresh=%d",
+                        port, details.getState(), details.getTimerActive(), details.getTimerExpiry(), details.getRetransmits(),
+                        details.getUid(), details.getRetransmitTimeout(), details.getCongestionWindow(), details.getSlowStartThreshold()));
+        monitor.beginMonitoringOf(getSocketAddress("2001:db8::10", 43210));
+
+        monitor.poll(detailsHandler);
+        monitor.poll(detailsHandler);
+        ResourceUtil.writeDataFile("proc_net_tcp6_retransmitting_sample.txt", inputPath);
+        monitor.poll(detailsHandler);
+
+        assertThat(reportedDetails.size(), is(2));
+        assertThat(reportedDetails.get(0), is("43210 st=1 tr=0 when=0 retrnsmt=0 uid=1000 rto=100 cwnd=10 ssthresh=0"));
+        assertThat(reportedDetails.get(1), is("43210 st=4 tr=1 when=20 retrnsmt=3 uid=1000 rto=400 cwnd=5 ssthresh=-1"));
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingInSteadyState() throws Exception
+    {
+        monitor.beginMonitoringOf(getSocketAddress("::", 8080));
+        monitor.beginMonitoringOf(InetAddress.getByName("2001:db8::10"));
+        monitor.beginMonitoringOf(getSocketAddress("::1", 9000), 4437394);
+
+        assertNoAllocationInSteadyState(() -> monitor.poll(recordingTcpSocketStatisticsHandler));
+    }
+
+    private static void assertEntry(final MonitoredEntry monitoredEntry,
+                                    final String address,
+                                    final int port,
+                                    final long receiveQueueDepth,
+                                    final long transmitQueueDepth,
+                                    final long inode) throws UnknownHostException
+    {
+        assertThat(SocketIdentifier.extractPortNumber(monitoredEntry.getSocketIdentifier()), is(port));
+        assertThat(monitoredEntry.getReceiverQueueDepth(), is(receiveQueueDepth));
+        assertThat(monitoredEntry.getTransmitQueueDepth(), is(transmitQueueDepth));
+        assertThat(monitoredEntry.getInode(), is(inode));
+        assertThat(monitoredEntry.getSocketAddress(), is(getSocketAddress(address, port)));
+    }
+
+    private static InetSocketAddress getSocketAddress(final String host, final int port) throws UnknownHostException
+    {
+        return new InetSocketAddress(InetAddress.getByName(host), port);
+    }
+}
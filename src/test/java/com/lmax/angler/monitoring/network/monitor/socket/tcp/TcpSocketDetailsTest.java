@@ -0,0 +1,148 @@
+package com.lmax.angler.monitoring.network.monitor.socket.tcp;
+
+import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowFields;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketTableRowLayout;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static com.lmax.angler.monitoring.network.monitor.socket.tcp.TcpSocketDetails.UNAVAILABLE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TcpSocketDetailsTest
+{
+    private final SocketTableRowFields fields = new SocketTableRowFields();
+    private final TcpSocketDetails details = new TcpSocketDetails(fields);
+
+    @Test
+    public void shouldDecodeAllColumnsOfEstablishedSocket() throws Exception
+    {
+        wrap(" 12: 017AA8C0:A8CA 027AA8C0:0035 01 00000000:00000000 02:000005DC 00000002  1000        1 15292 " +
+                "2 0000000000000000 204 40 30 12 -1");
+
+        assertThat(details.getRemoteSocketIdentifier(),
+                is(SocketIdentifier.fromInet4SocketAddress(new InetSocketAddress(InetAddress.getByName("192.168.122.2"), 53))));
+        assertThat(details.getRemotePort(), is(53L));
+        assertThat(details.getState(), is(1L));
+        assertThat(details.getTimerActive(), is(2L));
+        assertThat(details.getTimerExpiry(), is(1500L));
+        assertThat(details.getRetransmits(), is(2L));
+        assertThat(details.getUid(), is(1000L));
+        assertThat(details.getUnansweredProbes(), is(1L));
+        assertThat(details.getReferenceCount(), is(2L));
+        assertThat(details.getRetransmitTimeout(), is(204L));
+        assertThat(details.getAckTimeout(), is(40L));
+        assertThat(details.getQuickAck(), is(30L));
+        assertThat(details.getCongestionWindow(), is(12L));
+        assertThat(details.getSlowStartThreshold(), is(-1L));
+    }
+
+    @Test
+    public void shouldReportUnavailableColumnsOfTimeWaitSocket() throws Exception
+    {
+        wrap(" 13: 017AA8C0:A8CA 027AA8C0:0035 06 00000000:00000000 03:00001770 00000000     0        0 0 " +
+                "3 0000000000000000");
+
+        assertThat(details.getState(), is(6L));
+        assertThat(details.getReferenceCount(), is(3L));
+        assertThat(details.getRetransmitTimeout(), is(UNAVAILABLE));
+        assertThat(details.getSlowStartThreshold(), is(UNAVAILABLE));
+    }
+
+    @Test
+    public void shouldNotReportRemoteSocketIdentifierForIpv6Socket() throws Exception
+    {
+        wrap("   2: B80D0120000000000000000010000000:A8CA B80D0120000000000000000020000000:1388 01 " +
+                "00000090:000000A6 00:00000000 00000000  1000        0 4437393 1 0000000000000000 100 0 0 10 0");
+
+        assertThat(details.getRemoteSocketIdentifier(), is(UNAVAILABLE));
+        assertThat(details.getRemotePort(), is(5000L));
+        assertThat(details.getCongestionWindow(), is(10L));
+    }
+
+    @Test
+    public void shouldCopyRemoteAddressOfIpv4AndIpv6Sockets() throws Exception
+    {
+        final byte[] address = new byte[16];
+        wrap(" 12: 017AA8C0:A8CA 027AA8C0:0035 01 00000000:00000000 02:000005DC 00000002  1000        1 15292");
+
+        assertThat(details.getRemoteAddress(address), is(4));
+        assertThat(InetAddress.getByAddress(Arrays.copyOf(address, 4)), is(InetAddress.getByName("192.168.122.2")));
+
+        wrap("   2: B80D0120000000000000000010000000:A8CA B80D0120000000000000000020000000:1388 01 " +
+                "00000090:000000A6 00:00000000 00000000  1000        0 4437393 1 0000000000000000 100 0 0 10 0");
+
+        assertThat(details.getRemoteAddress(address), is(16));
+        assertThat(InetAddress.getByAddress(address), is(InetAddress.getByName("2001:db8::20")));
+        assertThat(details.getRemoteAddress(new byte[4]), is(0));
+    }
+
+    @Test
+    public void shouldNotCopyInvalidRemoteAddress() throws Exception
+    {
+        wrap(" 12: 017AA8C0:A8CA 027AXXC0:0035 01");
+
+        assertThat(details.getRemoteAddress(new byte[16]), is(0));
+    }
+
+    @Test
+    public void shouldReportUnavailableForInvalidColumn() throws Exception
+    {
+        wrap(" 12: 017AA8C0:A8CA 027AA8C0:0035 XX 00000000:00000000");
+
+        assertThat(details.getState(), is(UNAVAILABLE));
+    }
+
+    @Test
+    public void shouldDecodeSameColumnsFromLocatedRowLayout() throws Exception
+    {
+        final String[] rows =
+        {
+            " 12: 017AA8C0:A8CA 027AA8C0:0035 01 00000000:00000000 02:000005DC 00000002  1000        1 15292 " +
+                    "2 0000000000000000 204 40 30 12 -1",
+            "   2: B80D0120000000000000000010000000:A8CA B80D0120000000000000000020000000:1388 01 " +
+                    "00000090:000000A6 00:00000000 00000000  1000        0 4437393 1 0000000000000000 100 0 0 10 0"
+        };
+        final SocketTableRowFields locatedFields = new SocketTableRowFields();
+        final TcpSocketDetails locatedDetails = new TcpSocketDetails(locatedFields);
+        final SocketTableRowLayout layout = new SocketTableRowLayout(SocketTableRowLayout.INODE + 1);
+        for (final String row : rows)
+        {
+            final ByteBuffer src = ByteBuffer.wrap(row.getBytes(UTF_8));
+            assertThat(layout.locate(src, 0, src.limit()), is(true));
+            locatedFields.wrap(src, 0, src.limit(), layout);
+            fields.wrap(src, 0, src.limit());
+
+            assertThat(locatedDetails.getRemoteSocketIdentifier(), is(details.getRemoteSocketIdentifier()));
+            assertThat(locatedDetails.getRemotePort(), is(details.getRemotePort()));
+            final byte[] locatedAddress = new byte[16];
+            final byte[] address = new byte[16];
+            assertThat(locatedDetails.getRemoteAddress(locatedAddress), is(details.getRemoteAddress(address)));
+            assertThat(locatedAddress, is(address));
+            assertThat(locatedDetails.getState(), is(details.getState()));
+            assertThat(locatedDetails.getTimerActive(), is(details.getTimerActive()));
+            assertThat(locatedDetails.getTimerExpiry(), is(details.getTimerExpiry()));
+            assertThat(locatedDetails.getRetransmits(), is(details.getRetransmits()));
+            assertThat(locatedDetails.getUid(), is(details.getUid()));
+            assertThat(locatedDetails.getUnansweredProbes(), is(details.getUnansweredProbes()));
+            assertThat(locatedDetails.getReferenceCount(), is(details.getReferenceCount()));
+            assertThat(locatedDetails.getRetransmitTimeout(), is(details.getRetransmitTimeout()));
+            assertThat(locatedDetails.getCongestionWindow(), is(details.getCongestionWindow()));
+            assertThat(locatedDetails.getSlowStartThreshold(), is(details.getSlowStartThreshold()));
+            assertThat(locatedFields.length(SocketTableRowFields.LOCAL_ADDRESS), is(fields.length(SocketTableRowFields.LOCAL_ADDRESS)));
+            assertThat(locatedFields.length(0), is(fields.length(0)));
+        }
+    }
+
+    private void wrap(final String row)
+    {
+        final ByteBuffer src = ByteBuffer.wrap(row.getBytes(UTF_8));
+        fields.wrap(src, 0, src.limit());
+    }
+}
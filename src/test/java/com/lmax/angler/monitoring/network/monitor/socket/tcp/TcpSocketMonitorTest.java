@@ -3,6 +3,7 @@ package com.lmax.angler.monitoring.network.monitor.socket.tcp;
 import com.lmax.angler.monitoring.network.monitor.ResourceUtil;
 import com.lmax.angler.monitoring.network.monitor.socket.RecordingSocketMonitoringLifecycleListener;
 import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketRowView;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -13,10 +14,12 @@ import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -148,6 +151,36 @@ public abstract class TcpSocketMonitorTest<T>
         assertEntry(recordedEntries.get(0), "127.0.0.1", 32770, 0, 0, 15293);
     }
 
+    @Test
+    public void shouldSupplyRowViewOfChangedSockets() throws Exception
+    {
+        beginMonitoring(requestSpecFor(
+                getSocketAddress("0.0.0.0", 20048),
+                getSocketAddress("0.0.0.0", 56150),
+                getSocketAddress("192.168.122.1", 53)));
+        final List<String> rows = new ArrayList<>();
+
+        monitor.poll(row -> rows.add(row.getInetAddress() + ":" + row.getPort() + " inode=" + row.getInode() +
+                " rxq=" + row.getReceiveQueueDepth() + " txq=" + row.getTransmitQueueDepth() + " uid=" + row.getUid() +
+                " drops=" + (row.getDrops() == SocketRowView.UNAVAILABLE ? "n/a" : row.getDrops())));
+
+        assertThat(rows.size(), is(3));
+        assertThat(rows.get(0), is("/0.0.0.0:20048 inode=21682 rxq=0 txq=0 uid=0 drops=n/a"));
+        assertThat(rows.get(1), is("/0.0.0.0:56150 inode=13597 rxq=0 txq=0 uid=70 drops=n/a"));
+        assertThat(rows.get(2), is("/192.168.122.1:53 inode=15292 rxq=166 txq=144 uid=0 drops=n/a"));
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingInSteadyState() throws Exception
+    {
+        beginMonitoring(requestSpecFor(
+                getSocketAddress("0.0.0.0", 20048),
+                getSocketAddress("0.0.0.0", 56150),
+                getSocketAddress("192.168.122.1", 53)));
+
+        assertNoAllocationInSteadyState(() -> monitor.poll(recordingTcpSocketStatisticsHandler));
+    }
+
     protected static void assertEntry(final MonitoredEntry monitoredEntry,
                                     final String address,
                                     final int port,
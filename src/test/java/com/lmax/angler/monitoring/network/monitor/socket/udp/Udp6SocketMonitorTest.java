@@ -0,0 +1,108 @@
+package com.lmax.angler.monitoring.network.monitor.socket.udp;
+
+import com.lmax.angler.monitoring.network.monitor.ResourceUtil;
+import com.lmax.angler.monitoring.network.monitor.socket.RecordingSocketMonitoringLifecycleListener;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class Udp6SocketMonitorTest
+{
+    private final RecordingUdpSocketStatisticsHandler recordingUdpSocketStatisticsHandler =
+            new RecordingUdpSocketStatisticsHandler();
+    private final RecordingSocketMonitoringLifecycleListener lifecycleListener =
+            new RecordingSocketMonitoringLifecycleListener();
+    private Path inputPath;
+    private Udp6SocketMonitor monitor;
+
+    @Before
+    public void before() throws Exception
+    {
+        inputPath = Files.createTempFile("proc-net-udp6", "txt");
+        ResourceUtil.writeDataFile("proc_net_udp6_sample.txt", inputPath);
+        monitor = new Udp6SocketMonitor(lifecycleListener, inputPath);
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        Files.deleteIfExists(inputPath);
+    }
+
+    @Test
+    public void shouldSampleMonitoredSockets() throws Exception
+    {
+        monitor.beginMonitoringOf(getSocketAddress("::", 5353));
+        monitor.beginMonitoringOf(getSocketAddress("2001:db8::10", 5000));
+        monitor.beginMonitoringOf(getSocketAddress("ff15::1", 5001));
+
+        monitor.poll(recordingUdpSocketStatisticsHandler);
+
+        final List<MonitoredEntry> recordedEntries = recordingUdpSocketStatisticsHandler.getRecordedEntries();
+        assertThat(recordedEntries.size(), is(3));
+        assertEntry(recordedEntries.get(0), "::", 5353, 0, 0, 0, 21015);
+        assertEntry(recordedEntries.get(1), "2001:db8::10", 5000, 166, 144, 0, 21016);
+        assertEntry(recordedEntries.get(2), "ff15::1", 5001, 0, 0, 4, 21017);
+    }
+
+    @Test
+    public void shouldNotNotifyHandlerOfUnchangedEntries() throws Exception
+    {
+        monitor.beginMonitoringOf(getSocketAddress("2001:db8::10", 5000));
+        monitor.beginMonitoringOf(InetAddress.getByName("ff15::1"));
+
+        monitor.poll(recordingUdpSocketStatisticsHandler);
+        recordingUdpSocketStatisticsHandler.getRecordedEntries().clear();
+
+        ResourceUtil.writeDataFile("proc_net_udp6_updated_sample.txt", inputPath);
+
+        monitor.poll(recordingUdpSocketStatisticsHandler);
+
+        final List<MonitoredEntry> recordedEntries = recordingUdpSocketStatisticsHandler.getRecordedEntries();
+        assertThat(recordedEntries.size(), is(1));
+        assertEntry(recordedEntries.get(0), "ff15::1", 5001, 32, 0, 7, 21017);
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingInSteadyState() throws Exception
+    {
+        monitor.beginMonitoringOf(getSocketAddress("::", 8080));
+        monitor.beginMonitoringOf(InetAddress.getByName("2001:db8::10"));
+        monitor.beginMonitoringOf(getSocketAddress("::1", 9000), 4437394);
+
+        assertNoAllocationInSteadyState(() -> monitor.poll(recordingUdpSocketStatisticsHandler));
+    }
+
+    private static void assertEntry(final MonitoredEntry monitoredEntry,
+                                    final String address,
+                                    final int port,
+                                    final long receiveQueueDepth,
+                                    final long transmitQueueDepth,
+                                    final long dropCount,
+                                    final long inode) throws UnknownHostException
+    {
+        assertThat(SocketIdentifier.extractPortNumber(monitoredEntry.getSocketIdentifier()), is(port));
+        assertThat(monitoredEntry.getReceiverQueueDepth(), is(receiveQueueDepth));
+        assertThat(monitoredEntry.getTransmitQueueDepth(), is(transmitQueueDepth));
+        assertThat(monitoredEntry.getDrops(), is(dropCount));
+        assertThat(monitoredEntry.getInode(), is(inode));
+        assertThat(monitoredEntry.getSocketAddress(), is(getSocketAddress(address, port)));
+    }
+
+    private static InetSocketAddress getSocketAddress(final String host, final int port) throws UnknownHostException
+    {
+        return new InetSocketAddress(InetAddress.getByName(host), port);
+    }
+}
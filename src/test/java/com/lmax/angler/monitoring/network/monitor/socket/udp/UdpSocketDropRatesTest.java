@@ -0,0 +1,111 @@
+package com.lmax.angler.monitoring.network.monitor.socket.udp;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class UdpSocketDropRatesTest
+{
+    private final List<String> reported = new ArrayList<>();
+    private final UdpSocketDropRateHandler recordingHandler =
+            (inetAddress, port, socketIdentifier, inode, intervalNanos, drops, dropsPerSecond) ->
+            reported.add(inetAddress.getHostAddress() + ":" + port + " " + inode + " " + intervalNanos + " " + drops + "@" + dropsPerSecond);
+    private long nanoTime = 0L;
+    private Path inputPath;
+    private UdpSocketMonitor monitor;
+    private UdpSocketDropRates rates;
+
+    @Before
+    public void before() throws Exception
+    {
+        inputPath = Files.createTempFile("proc-net-udp", "txt");
+        rates = new UdpSocketDropRates(() -> nanoTime);
+        monitor = new UdpSocketMonitor(rates, inputPath);
+        monitor.beginMonitoringOf(new InetSocketAddress(InetAddress.getByName("192.168.122.1"), 53));
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        Files.deleteIfExists(inputPath);
+    }
+
+    @Test
+    public void shouldReportDropDeltaAndRateAfterBaseline() throws Exception
+    {
+        writeSocket(166L, 2L);
+        rates.poll(monitor, recordingHandler);
+        writeSocket(166L, 12L);
+        nanoTime += 250_000_000L;
+
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.size(), is(1));
+        assertThat(reported.get(0), is("192.168.122.1:53 15292 250000000 10@40.0"));
+    }
+
+    @Test
+    public void shouldHandle32BitWraparound() throws Exception
+    {
+        writeSocket(166L, 4294967295L);
+        rates.poll(monitor, recordingHandler);
+        writeSocket(166L, 3L);
+        nanoTime += 1_000_000_000L;
+
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.get(0), is("192.168.122.1:53 15292 1000000000 4@4.0"));
+    }
+
+    @Test
+    public void shouldNotReportQueueDepthChangesWithoutDrops() throws Exception
+    {
+        writeSocket(166L, 2L);
+        rates.poll(monitor, recordingHandler);
+        writeSocket(100L, 2L);
+        nanoTime += 1_000_000_000L;
+
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.size(), is(0));
+    }
+
+    @Test
+    public void shouldReportZeroOnceWhenDropsStop() throws Exception
+    {
+        writeSocket(166L, 2L);
+        rates.poll(monitor, recordingHandler);
+        writeSocket(166L, 5L);
+        nanoTime += 1_000_000_000L;
+        rates.poll(monitor, recordingHandler);
+        reported.clear();
+
+        nanoTime += 1_000_000_000L;
+        rates.poll(monitor, recordingHandler);
+        nanoTime += 1_000_000_000L;
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.size(), is(1));
+        assertThat(reported.get(0), is("192.168.122.1:53 15292 1000000000 0@0.0"));
+    }
+
+    private void writeSocket(final long receiveQueueDepth, final long drops) throws Exception
+    {
+        final String content =
+                "  sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode ref pointer drops\n" +
+                String.format("14260: 017AA8C0:0035 00000000:0000 07 00000000:%08X 00:00000000 00000000     0        0 15292 2 ffff88100b2d1680 %d\n",
+                        receiveQueueDepth, drops);
+        Files.write(inputPath, content.getBytes(US_ASCII));
+    }
+}
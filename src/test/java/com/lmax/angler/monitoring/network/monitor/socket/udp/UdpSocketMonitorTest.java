@@ -3,6 +3,9 @@ package com.lmax.angler.monitoring.network.monitor.socket.udp;
 import com.lmax.angler.monitoring.network.monitor.ResourceUtil;
 import com.lmax.angler.monitoring.network.monitor.socket.RecordingSocketMonitoringLifecycleListener;
 import com.lmax.angler.monitoring.network.monitor.socket.SocketIdentifier;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketQueueDepthHistograms;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketRowView;
+import com.lmax.angler.monitoring.network.monitor.socket.SocketRowViewHandler;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -13,10 +16,12 @@ import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -148,6 +153,97 @@ public abstract class UdpSocketMonitorTest<T>
         assertEntry(recordedEntries.get(0), "127.0.0.1", 32770, 0, 0, 0, 15293);
     }
 
+    @Test
+    public void shouldSampleRowsThatDoNotMatchKernelColumnLayout() throws Exception
+    {
+        ResourceUtil.writeDataFile("proc_net_udp_irregular_layout_sample.txt", inputPath);
+        beginMonitoring(requestSpecFor(
+                getSocketAddress("0.0.0.0", 20048),
+                getSocketAddress("0.0.0.0", 56150),
+                getSocketAddress("192.168.122.1", 53)));
+
+        monitor.poll(recordingUdpSocketStatisticsHandler);
+
+        final List<MonitoredEntry> recordedEntries = recordingUdpSocketStatisticsHandler.getRecordedEntries();
+        assertThat(recordedEntries.size(), is(3));
+        assertEntry(recordedEntries.get(0), "0.0.0.0", 20048, 0, 0, 0, 21682);
+        assertEntry(recordedEntries.get(1), "0.0.0.0", 56150, 0, 0, 4, 13597);
+        assertEntry(recordedEntries.get(2), "192.168.122.1", 53, 166, 144, 0, 15292);
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingInSteadyState() throws Exception
+    {
+        beginMonitoring(requestSpecFor(
+                getSocketAddress("0.0.0.0", 20048),
+                getSocketAddress("0.0.0.0", 56150),
+                getSocketAddress("192.168.122.1", 53)));
+
+        assertNoAllocationInSteadyState(() -> monitor.poll(recordingUdpSocketStatisticsHandler));
+    }
+
+    @Test
+    public void shouldSupplyRowViewOfChangedSockets() throws Exception
+    {
+        beginMonitoring(requestSpecFor(
+                getSocketAddress("0.0.0.0", 20048),
+                getSocketAddress("0.0.0.0", 56150),
+                getSocketAddress("192.168.122.1", 53)));
+        final List<String> rows = new ArrayList<>();
+
+        monitor.poll(row -> rows.add(describe(row)));
+
+        assertThat(rows.size(), is(3));
+        assertThat(rows.get(0), is("/0.0.0.0:20048 inode=21682 rxq=0 txq=0 drops=0 uid=0 state=7"));
+        assertThat(rows.get(1), is("/0.0.0.0:56150 inode=13597 rxq=0 txq=0 drops=4 uid=70 state=7"));
+        assertThat(rows.get(2), is("/192.168.122.1:53 inode=15292 rxq=166 txq=144 drops=0 uid=0 state=7"));
+
+        ResourceUtil.writeDataFile("proc_net_udp_updated_sample.txt", inputPath);
+        rows.clear();
+
+        monitor.poll(row -> rows.add(describe(row)));
+
+        assertThat(rows.size(), is(2));
+        assertThat(rows.get(0), is("/0.0.0.0:56150 inode=13597 rxq=1 txq=0 drops=4 uid=70 state=7"));
+        assertThat(rows.get(1), is("/192.168.122.1:53 inode=15292 rxq=166 txq=0 drops=2 uid=0 state=7"));
+    }
+
+    @Test
+    public void shouldRecordEverySampleOfMonitoredSocketsToQueueDepthHistograms() throws Exception
+    {
+        beginMonitoring(requestSpecFor(getSocketAddress("192.168.122.1", 53)));
+        final SocketQueueDepthHistograms histograms = new SocketQueueDepthHistograms();
+        monitor.recordQueueDepthsTo(histograms);
+        final List<String> reports = new ArrayList<>();
+
+        monitor.poll(recordingUdpSocketStatisticsHandler);
+        monitor.poll(recordingUdpSocketStatisticsHandler);
+        ResourceUtil.writeDataFile("proc_net_udp_updated_sample.txt", inputPath);
+        monitor.poll(recordingUdpSocketStatisticsHandler);
+
+        histograms.report((inetAddress, port, socketInstanceIdentifier, receiveQueueDepths, transmitQueueDepths) ->
+                reports.add(inetAddress + ":" + port + " n=" + receiveQueueDepths.getCount() +
+                        " rx=" + receiveQueueDepths.getMaxValue() +
+                        " tx=" + transmitQueueDepths.getValueAtPercentile(50d) + "/" + transmitQueueDepths.getMaxValue()));
+
+        assertThat(recordingUdpSocketStatisticsHandler.getRecordedEntries().size(), is(2));
+        assertThat(reports.size(), is(1));
+        assertThat(reports.get(0), is("/192.168.122.1:53 n=3 rx=166 tx=144/144"));
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingRowViewsInSteadyState() throws Exception
+    {
+        beginMonitoring(requestSpecFor(
+                getSocketAddress("0.0.0.0", 20048),
+                getSocketAddress("0.0.0.0", 56150),
+                getSocketAddress("192.168.122.1", 53)));
+        final long[] receiveQueueDepth = new long[1];
+        final SocketRowViewHandler handler = row -> receiveQueueDepth[0] += row.getReceiveQueueDepth();
+
+        assertNoAllocationInSteadyState(() -> monitor.poll(handler));
+    }
+
     protected static void assertEntry(final MonitoredEntry monitoredEntry,
                                     final String address,
                                     final int port,
@@ -181,6 +277,13 @@ public abstract class UdpSocketMonitorTest<T>
         requestSpec.stream().forEach(getEndMonitoringRequestMethod());
     }
 
+    private static String describe(final SocketRowView row)
+    {
+        return row.getInetAddress() + ":" + row.getPort() + " inode=" + row.getInode() +
+                " rxq=" + row.getReceiveQueueDepth() + " txq=" + row.getTransmitQueueDepth() +
+                " drops=" + row.getDrops() + " uid=" + row.getUid() + " state=" + row.getState();
+    }
+
     private static String extractHostIpAddress(final long socketIdentifier) throws UnknownHostException
     {
         final byte[] address = new byte[4];
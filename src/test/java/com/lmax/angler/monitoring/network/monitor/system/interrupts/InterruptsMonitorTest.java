@@ -0,0 +1,172 @@
+package com.lmax.angler.monitoring.network.monitor.system.interrupts;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static com.lmax.angler.monitoring.network.monitor.ResourceUtil.writeDataFile;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class InterruptsMonitorTest
+{
+    private final List<String> reported = new ArrayList<>();
+    private final InterruptsHandler recordingHandler = (irq, cpuId, interrupts) ->
+            reported.add(irq + "@" + cpuId + "=" + interrupts);
+    private Path inputPath;
+    private InterruptsMonitor monitor;
+
+    @Before
+    public void before() throws Exception
+    {
+        inputPath = Files.createTempFile("proc-interrupts", "txt");
+        writeDataFile("proc_interrupts_sample.txt", inputPath);
+        monitor = new InterruptsMonitor(Pattern.compile("mlx5_comp"), inputPath);
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        Files.deleteIfExists(inputPath);
+    }
+
+    @Test
+    public void shouldSelectInterruptsMatchingDevicePatternWithoutReportingBaseline() throws Exception
+    {
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.size(), is(0));
+        assertThat(monitor.isSelected(25), is(true));
+        assertThat(monitor.isSelected(26), is(true));
+        assertThat(monitor.isSelected(27), is(true));
+        assertThat(monitor.isSelected(0), is(false));
+        assertThat(monitor.isSelected(24), is(false));
+        assertThat(monitor.isSelected(28), is(false));
+        assertThat(monitor.getDescription(25), is("PCI-MSI 524289-edge      mlx5_comp0@pci:0000:01:00.0"));
+        assertThat(monitor.getDescription(100), is(nullValue()));
+    }
+
+    @Test
+    public void shouldReportPerCpuDeltasKeyedByCpuIdFromHeader() throws Exception
+    {
+        monitor.poll(recordingHandler);
+        writeDataFile("proc_interrupts_updated_sample.txt", inputPath);
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.size(), is(3));
+        assertThat(reported.get(0), is("25@0=100"));
+        assertThat(reported.get(1), is("25@4=7"));
+        assertThat(reported.get(2), is("27@2=10"));
+    }
+
+    @Test
+    public void shouldRematchInterruptWhenDescriptionChanges() throws Exception
+    {
+        monitor.poll(recordingHandler);
+        writeDataFile("proc_interrupts_updated_sample.txt", inputPath);
+        monitor.poll(recordingHandler);
+        reported.clear();
+
+        assertThat(monitor.isSelected(28), is(true));
+        assertThat(monitor.isSelected(29), is(true));
+
+        writeDataFile("proc_interrupts_sample.txt", inputPath);
+        monitor.poll(recordingHandler);
+
+        assertThat(monitor.isSelected(28), is(false));
+        assertThat(monitor.isSelected(29), is(false));
+        assertThat(monitor.getDescription(29), is(nullValue()));
+        assertThat(reported.size(), is(0));
+    }
+
+    @Test
+    public void shouldRebaselineInterruptWhenCountsRestartAfterReset() throws Exception
+    {
+        monitor.poll(recordingHandler);
+        writeDataFile("proc_interrupts_reset_sample.txt", inputPath);
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.size(), is(0));
+
+        writeDataFile("proc_interrupts_updated_sample.txt", inputPath);
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.size(), is(3));
+        assertThat(reported.get(0), is("25@0=1097"));
+        assertThat(reported.get(1), is("25@4=7"));
+        assertThat(reported.get(2), is("27@2=10"));
+    }
+
+    @Test
+    public void shouldRebaselineInterruptThatReappears() throws Exception
+    {
+        monitor.poll(recordingHandler);
+        writeDataFile("proc_interrupts_updated_sample.txt", inputPath);
+        monitor.poll(recordingHandler);
+        writeDataFile("proc_interrupts_sample.txt", inputPath);
+        monitor.poll(recordingHandler);
+        reported.clear();
+
+        writeDataFile("proc_interrupts_updated_sample.txt", inputPath);
+        monitor.poll(recordingHandler);
+
+        assertThat(monitor.isSelected(29), is(true));
+        assertThat(reported.contains("29@0=100"), is(false));
+    }
+
+    @Test
+    public void shouldUseCountsOfCpuComingOnlineAsBaseline() throws Exception
+    {
+        monitor.poll(recordingHandler);
+        writeDataFile("proc_interrupts_cpu_online_sample.txt", inputPath);
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.size(), is(0));
+    }
+
+    @Test
+    public void shouldReuseMatrixRowsOfDeselectedAndRemovedInterrupts() throws Exception
+    {
+        monitor.poll(recordingHandler);
+        final int initialRowCount = monitor.getMatrixRowCount();
+
+        for (int i = 0; i < 5; i++)
+        {
+            writeDataFile("proc_interrupts_updated_sample.txt", inputPath);
+            monitor.poll(recordingHandler);
+            writeDataFile("proc_interrupts_sample.txt", inputPath);
+            monitor.poll(recordingHandler);
+        }
+
+        assertThat(monitor.getMatrixRowCount(), is(initialRowCount + 2));
+    }
+
+    @Test
+    public void shouldNotReportUnchangedCounts() throws Exception
+    {
+        monitor.poll(recordingHandler);
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.size(), is(0));
+    }
+
+    @Test
+    public void shouldNotAllocateInSteadyState() throws Exception
+    {
+        final InterruptsHandler noOpHandler = (irq, cpuId, interrupts) -> {};
+        monitor.poll(noOpHandler);
+
+        assertNoAllocationInSteadyState(() -> monitor.poll(noOpHandler));
+    }
+}
@@ -0,0 +1,117 @@
+package com.lmax.angler.monitoring.network.monitor.system.netdev;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static com.lmax.angler.monitoring.network.monitor.ResourceUtil.writeDataFile;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class InterfaceStatsMonitorTest
+{
+    private final List<String> reported = new ArrayList<>();
+    private Path inputPath;
+    private InterfaceStatsMonitor monitor;
+    private final InterfaceStatsHandler recordingHandler = (interfaceId, receivedBytes, receivedPackets, receiveErrors,
+            receiveDropped, receiveFifoErrors, transmittedBytes, transmittedPackets, transmitErrors, transmitDropped,
+            transmitFifoErrors) ->
+            reported.add(monitor.getInterfaceName(interfaceId) + " rx=" + receivedBytes + "/" + receivedPackets + "/" +
+                    receiveErrors + "/" + receiveDropped + "/" + receiveFifoErrors + " tx=" + transmittedBytes + "/" +
+                    transmittedPackets + "/" + transmitErrors + "/" + transmitDropped + "/" + transmitFifoErrors);
+
+    @Before
+    public void before() throws Exception
+    {
+        inputPath = Files.createTempFile("proc-net-dev", "txt");
+        writeDataFile("proc_net_dev_sample.txt", inputPath);
+        monitor = new InterfaceStatsMonitor(inputPath);
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        Files.deleteIfExists(inputPath);
+    }
+
+    @Test
+    public void shouldInternInterfaceNamesWithoutReportingBaseline() throws Exception
+    {
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.size(), is(0));
+        assertThat(monitor.getInterfaceCount(), is(3));
+        assertThat(monitor.getInterfaceName(0), is("lo"));
+        assertThat(monitor.getInterfaceName(1), is("eth0"));
+        assertThat(monitor.getInterfaceName(2), is("eth1"));
+    }
+
+    @Test
+    public void shouldReportDeltasForEveryInterfaceOnEachPoll() throws Exception
+    {
+        monitor.poll(recordingHandler);
+        writeDataFile("proc_net_dev_updated_sample.txt", inputPath);
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.size(), is(3));
+        assertThat(reported.get(0), is("lo rx=0/0/0/0/0 tx=0/0/0/0/0"));
+        assertThat(reported.get(1), is("eth0 rx=1000/10/1/2/3 tx=500/5/0/0/0"));
+        assertThat(reported.get(2), is("eth1 rx=1000/10/0/3/4 tx=100/1/0/0/2"));
+        assertThat(monitor.getInterfaceCount(), is(4));
+        assertThat(monitor.getInterfaceName(3), is("eth2"));
+    }
+
+    @Test
+    public void shouldKeepInterfaceIdsStable() throws Exception
+    {
+        monitor.poll(recordingHandler);
+        writeDataFile("proc_net_dev_updated_sample.txt", inputPath);
+        monitor.poll(recordingHandler);
+        reported.clear();
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.size(), is(4));
+        assertThat(reported.get(3), is("eth2 rx=0/0/0/0/0 tx=0/0/0/0/0"));
+        assertThat(monitor.getInterfaceCount(), is(4));
+    }
+
+    @Test
+    public void shouldForgetInterfaceThatDisappearsAndRebaselineItWhenItReturns() throws Exception
+    {
+        monitor.poll(recordingHandler);
+        writeDataFile("proc_net_dev_removed_sample.txt", inputPath);
+        monitor.poll(recordingHandler);
+
+        assertThat(monitor.getInterfaceName(2), is(nullValue()));
+
+        reported.clear();
+        writeDataFile("proc_net_dev_updated_sample.txt", inputPath);
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.size(), is(2));
+        assertThat(reported.get(0), is("lo rx=0/0/0/0/0 tx=0/0/0/0/0"));
+        assertThat(reported.get(1), is("eth0 rx=1000/10/1/2/3 tx=500/5/0/0/0"));
+        assertThat(monitor.getInterfaceCount(), is(4));
+        assertThat(monitor.getInterfaceName(2), is("eth1"));
+        assertThat(monitor.getInterfaceName(3), is("eth2"));
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingInSteadyState() throws Exception
+    {
+        final InterfaceStatsHandler handler = (interfaceId, receivedBytes, receivedPackets, receiveErrors,
+                receiveDropped, receiveFifoErrors, transmittedBytes, transmittedPackets, transmitErrors, transmitDropped,
+                transmitFifoErrors) -> {};
+
+        assertNoAllocationInSteadyState(() -> monitor.poll(handler));
+    }
+}
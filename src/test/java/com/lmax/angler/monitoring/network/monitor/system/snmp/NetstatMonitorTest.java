@@ -0,0 +1,91 @@
+package com.lmax.angler.monitoring.network.monitor.system.snmp;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static com.lmax.angler.monitoring.network.monitor.ResourceUtil.writeDataFile;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class NetstatMonitorTest
+{
+    private final List<String> reported = new ArrayList<>();
+    private final NetstatCounterHandler recordingHandler = (counterId, value) -> reported.add(counterId + "=" + value);
+    private Path inputPath;
+    private NetstatMonitor monitor;
+
+    @Before
+    public void before() throws Exception
+    {
+        inputPath = Files.createTempFile("proc-net-netstat", "txt");
+        writeDataFile("proc_net_netstat_sample.txt", inputPath);
+        monitor = new NetstatMonitor(inputPath);
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        Files.deleteIfExists(inputPath);
+    }
+
+    @Test
+    public void shouldReportRegisteredTcpExtAndIpExtCounters() throws Exception
+    {
+        monitor.register("TcpExt", "ListenOverflows");
+        monitor.register("TcpExt", "ListenDrops");
+        monitor.register("TcpExt", "TCPBacklogDrop");
+        monitor.register("TcpExt", "TCPRcvQDrop");
+        monitor.register("TcpExt", "TCPOFOQueue");
+        monitor.register("TcpExt", "TCPTimeouts");
+        monitor.register("IpExt", "InOctets");
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[0=57, 1=57, 2=3, 3=6, 4=1010442, 5=1024, 6=24513519113]"));
+    }
+
+    @Test
+    public void shouldOnlyReportChangedCounters() throws Exception
+    {
+        monitor.register("TcpExt", "ListenOverflows");
+        monitor.register("TcpExt", "TCPTimeouts");
+        monitor.poll(recordingHandler);
+        reported.clear();
+        Files.write(inputPath, new String(Files.readAllBytes(inputPath), US_ASCII).
+                replace(" 139 7 1024 ", " 139 7 1030 ").getBytes(US_ASCII));
+
+        monitor.poll(recordingHandler);
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[1=1030]"));
+    }
+
+    @Test
+    public void shouldNotReportCountersMissingFromKernel() throws Exception
+    {
+        monitor.register("TcpExt", "NoSuchCounter");
+        final int listenDrops = monitor.register("TcpExt", "ListenDrops");
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[" + listenDrops + "=57]"));
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingInSteadyState() throws Exception
+    {
+        monitor.register("TcpExt", "ListenOverflows");
+        monitor.register("TcpExt", "TCPBacklogDrop");
+        final NetstatCounterHandler handler = (counterId, value) -> {};
+
+        assertNoAllocationInSteadyState(() -> monitor.poll(handler));
+    }
+}
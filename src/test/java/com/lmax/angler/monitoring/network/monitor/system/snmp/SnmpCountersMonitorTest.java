@@ -0,0 +1,135 @@
+package com.lmax.angler.monitoring.network.monitor.system.snmp;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static com.lmax.angler.monitoring.network.monitor.ResourceUtil.writeDataFile;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SnmpCountersMonitorTest
+{
+    private final List<String> reported = new ArrayList<>();
+    private final SnmpCountersHandler recordingHandler = counters ->
+    {
+        for (int counterId = 0; counterId < counters.getCounterCount(); counterId++)
+        {
+            reported.add(counters.getSection(counterId) + "." + counters.getName(counterId) + "=" +
+                    (counters.isAvailable(counterId) ? Long.toString(counters.getValue(counterId)) : "n/a"));
+        }
+    };
+    private Path inputPath;
+    private SnmpCountersMonitor monitor;
+
+    @Before
+    public void before() throws Exception
+    {
+        inputPath = Files.createTempFile("proc-net-snmp", "txt");
+        writeDataFile("proc_net_snmp_sample.txt", inputPath);
+        monitor = new SnmpCountersMonitor(inputPath);
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        Files.deleteIfExists(inputPath);
+    }
+
+    @Test
+    public void shouldReportRegisteredCountersFromEverySection() throws Exception
+    {
+        monitor.register("Tcp", "RetransSegs");
+        monitor.register("Ip", "ReasmFails");
+        monitor.register("Ip", "FragCreates");
+        monitor.register("Tcp", "MaxConn");
+        monitor.register("Udp", "SndbufErrors");
+        monitor.register("Udp", "IgnoredMulti");
+        monitor.register("UdpLite", "InDatagrams");
+        monitor.register("Icmp", "OutEchoReps");
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[Tcp.RetransSegs=8861, Ip.ReasmFails=0, Ip.FragCreates=1286, Tcp.MaxConn=-1, " +
+                "Udp.SndbufErrors=0, Udp.IgnoredMulti=66795, UdpLite.InDatagrams=0, Icmp.OutEchoReps=2619]"));
+    }
+
+    @Test
+    public void shouldReportCountersMissingFromFileAsUnavailable() throws Exception
+    {
+        final int missingColumn = monitor.register("Tcp", "NoSuchColumn");
+        final int missingSection = monitor.register("Sctp", "InErrs");
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[Tcp.NoSuchColumn=n/a, Sctp.InErrs=n/a]"));
+        monitor.poll(counters -> assertThat(counters.getValue(missingColumn), is(SnmpCounters.UNAVAILABLE)));
+        monitor.poll(counters -> assertThat(counters.isAvailable(missingSection), is(false)));
+    }
+
+    @Test
+    public void shouldLocateColumnsByHeaderName() throws Exception
+    {
+        Files.write(inputPath, ("Tcp: RetransSegs NewColumn InSegs\n" +
+                "Tcp: 17 5 23\n").getBytes(US_ASCII));
+        monitor.register("Tcp", "InSegs");
+        monitor.register("Tcp", "RetransSegs");
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[Tcp.InSegs=23, Tcp.RetransSegs=17]"));
+    }
+
+    @Test
+    public void shouldReadUpdatedValuesOnSubsequentPolls() throws Exception
+    {
+        monitor.register("Tcp", "RetransSegs");
+        monitor.poll(recordingHandler);
+        reported.clear();
+        Files.write(inputPath, new String(Files.readAllBytes(inputPath), US_ASCII).
+                replace(" 8861 ", " 9000 ").getBytes(US_ASCII));
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[Tcp.RetransSegs=9000]"));
+    }
+
+    @Test
+    public void shouldLocateCountersRegisteredAfterFirstPoll() throws Exception
+    {
+        monitor.register("Tcp", "RetransSegs");
+        monitor.poll(recordingHandler);
+        reported.clear();
+
+        monitor.register("Ip", "ReasmFails");
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[Tcp.RetransSegs=8861, Ip.ReasmFails=0]"));
+    }
+
+    @Test
+    public void shouldReturnSameIdForDuplicateRegistration() throws Exception
+    {
+        final int first = monitor.register("Tcp", "RetransSegs");
+        monitor.register("Udp", "InErrors");
+
+        assertThat(monitor.register("Tcp", "RetransSegs"), is(first));
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingInSteadyState() throws Exception
+    {
+        monitor.register("Tcp", "RetransSegs");
+        monitor.register("Ip", "ReasmFails");
+        final SnmpCountersHandler handler = counters -> {};
+
+        assertNoAllocationInSteadyState(() -> monitor.poll(handler));
+    }
+}
@@ -0,0 +1,96 @@
+package com.lmax.angler.monitoring.network.monitor.system.snmp;
+
+import com.lmax.angler.monitoring.network.monitor.system.snmp.udp.SnmpUdpStatisticsRateHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SnmpUdpStatisticsRatesTest
+{
+    private final List<String> reported = new ArrayList<>();
+    private final SnmpUdpStatisticsRateHandler recordingHandler = (intervalNanos, inErrors, inErrorsPerSecond,
+            receiveBufferErrors, receiveBufferErrorsPerSecond, inChecksumErrors, inChecksumErrorsPerSecond) ->
+            reported.add(intervalNanos + " " + inErrors + "@" + inErrorsPerSecond + " " +
+                    receiveBufferErrors + "@" + receiveBufferErrorsPerSecond + " " + inChecksumErrors + "@" + inChecksumErrorsPerSecond);
+    private long nanoTime = 0L;
+    private Path inputPath;
+    private SystemNetworkManagementMonitor monitor;
+    private SnmpUdpStatisticsRates rates;
+
+    @Before
+    public void before() throws Exception
+    {
+        inputPath = Files.createTempFile("proc-net-snmp", "txt");
+        monitor = new SystemNetworkManagementMonitor(inputPath);
+        rates = new SnmpUdpStatisticsRates(() -> nanoTime);
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        Files.deleteIfExists(inputPath);
+    }
+
+    @Test
+    public void shouldReportDeltaAndRatePerSecondAfterBaseline() throws Exception
+    {
+        writeCounters(100L, 50L, 1L);
+        rates.poll(monitor, recordingHandler);
+        writeCounters(110L, 70L, 1L);
+        nanoTime += 2_000_000_000L;
+
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.size(), is(1));
+        assertThat(reported.get(0), is("2000000000 10@5.0 20@10.0 0@0.0"));
+    }
+
+    @Test
+    public void shouldReportZeroOnceWhenCountersStopChanging() throws Exception
+    {
+        writeCounters(100L, 50L, 1L);
+        rates.poll(monitor, recordingHandler);
+        writeCounters(110L, 50L, 1L);
+        nanoTime += 1_000_000_000L;
+        rates.poll(monitor, recordingHandler);
+        reported.clear();
+
+        nanoTime += 1_000_000_000L;
+        rates.poll(monitor, recordingHandler);
+        nanoTime += 1_000_000_000L;
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.size(), is(1));
+        assertThat(reported.get(0), is("1000000000 0@0.0 0@0.0 0@0.0"));
+    }
+
+    @Test
+    public void shouldTreatDecreasingCounterAsReset() throws Exception
+    {
+        writeCounters(100L, 50L, 1L);
+        rates.poll(monitor, recordingHandler);
+        writeCounters(3L, 50L, 1L);
+        nanoTime += 1_000_000_000L;
+
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.get(0), is("1000000000 3@3.0 0@0.0 0@0.0"));
+    }
+
+    private void writeCounters(final long inErrors, final long receiveBufferErrors, final long inChecksumErrors) throws Exception
+    {
+        final String content =
+                "Udp: InDatagrams NoPorts InErrors OutDatagrams RcvbufErrors SndbufErrors InCsumErrors IgnoredMulti\n" +
+                "Udp: 36153253 211560 " + inErrors + " 5792038 " + receiveBufferErrors + " 0 " + inChecksumErrors + " 66795\n";
+        Files.write(inputPath, content.getBytes(US_ASCII));
+    }
+}
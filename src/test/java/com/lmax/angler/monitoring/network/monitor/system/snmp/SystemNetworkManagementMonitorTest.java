@@ -10,6 +10,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
 import static com.lmax.angler.monitoring.network.monitor.ResourceUtil.writeDataFile;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -43,6 +44,14 @@ public class SystemNetworkManagementMonitorTest
         assertEntry(statsHandler.getRecorded().get(0), 78665L, 62374L, 37L);
     }
 
+    @Test
+    public void shouldNotAllocateWhenPollingInSteadyState() throws Exception
+    {
+        // monitor notifies on every poll, so use a handler that does not record
+        final SnmpUdpStatisticsHandler handler = (inErrors, receiveBufferErrors, inChecksumErrors) -> {};
+        assertNoAllocationInSteadyState(() -> monitor.poll(handler));
+    }
+
     private static void assertEntry(
             final SnmpUdpStatistic snmpUdpStatistic,
             final long inErrors,
@@ -10,6 +10,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 
@@ -65,6 +67,131 @@ public class SoftnetStatsMonitorTest
         assertEntry(recordedEntries.get(0), 2, 60730L, 3L, 2L);
     }
 
+    @Test
+    public void shouldReportCpuWithZeroStatisticsWhenFirstSeen() throws Exception
+    {
+        Files.write(inputPath, ("00000000 00000000 00000000 00000000 00000000 00000000 00000000 00000000 00000000\n" +
+                "00000010 00000000 00000000 00000000 00000000 00000000 00000000 00000000 00000000\n").getBytes(US_ASCII));
+
+        monitor.poll(softnetStatsHandler);
+        monitor.poll(softnetStatsHandler);
+
+        final List<SoftnetStatEntry> recordedEntries = softnetStatsHandler.getRecordedEntries();
+        assertThat(recordedEntries.size(), is(2));
+        assertEntry(recordedEntries.get(0), 0, 0L, 0L, 0L);
+        assertEntry(recordedEntries.get(1), 1, 16L, 0L, 0L);
+    }
+
+    @Test
+    public void shouldNotReportBacklogLengthChangeToBasicStatisticsHandler() throws Exception
+    {
+        final String row = "00000010 00000001 00000002 00000000 00000000 00000000 00000000 00000000 00000000 00000000 00000000 %08x\n";
+        final List<String> recordedDetails = new ArrayList<>();
+        Files.write(inputPath, String.format(row, 3).getBytes(US_ASCII));
+        monitor.poll(softnetStatsHandler);
+        softnetStatsHandler.getRecordedEntries().clear();
+
+        Files.write(inputPath, String.format(row, 5).getBytes(US_ASCII));
+        monitor.poll(softnetStatsHandler);
+        Files.write(inputPath, String.format(row, 7).getBytes(US_ASCII));
+        monitor.poll((cpuId, processed, squeezed, dropped, receivedRps, flowLimitCount, backlogLength) ->
+                recordedDetails.add(cpuId + " " + backlogLength));
+
+        assertThat(softnetStatsHandler.getRecordedEntries().size(), is(0));
+        assertThat(recordedDetails.size(), is(1));
+        assertThat(recordedDetails.get(0), is("0 7"));
+    }
+
+    @Test
+    public void shouldReportAllColumnsKeyedByCpuIndexColumn() throws Exception
+    {
+        ResourceUtil.writeDataFile("proc_net_softnet_stat_cpu_index_sample.txt", inputPath);
+        final List<String> recordedDetails = new ArrayList<>();
+
+        monitor.poll((cpuId, processed, squeezed, dropped, receivedRps, flowLimitCount, backlogLength) ->
+                recordedDetails.add(cpuId + " " + processed + " " + squeezed + " " + dropped + " " +
+                        receivedRps + " " + flowLimitCount + " " + backlogLength));
+
+        assertThat(recordedDetails.size(), is(4));
+        assertThat(recordedDetails.get(0), is("0 41394 1 0 16 0 0"));
+        assertThat(recordedDetails.get(1), is("1 50132 0 2 0 0 3"));
+        assertThat(recordedDetails.get(2), is("4 65536 0 0 43981 7 0"));
+        assertThat(recordedDetails.get(3), is("5 131072 5 0 256 0 2"));
+    }
+
+    @Test
+    public void shouldReportBasicStatisticsKeyedByCpuIndexColumn() throws Exception
+    {
+        ResourceUtil.writeDataFile("proc_net_softnet_stat_cpu_index_sample.txt", inputPath);
+
+        monitor.poll(softnetStatsHandler);
+
+        final List<SoftnetStatEntry> recordedEntries = softnetStatsHandler.getRecordedEntries();
+        assertThat(recordedEntries.size(), is(4));
+        assertEntry(recordedEntries.get(2), 4, 65536L, 0L, 0L);
+        assertEntry(recordedEntries.get(3), 5, 131072L, 0L, 5L);
+    }
+
+    @Test
+    public void shouldPassStatisticsOfEveryCpuToVectorHandler() throws Exception
+    {
+        ResourceUtil.writeDataFile("proc_net_softnet_stat_cpu_index_sample.txt", inputPath);
+        final List<String> recordedVectors = new ArrayList<>();
+
+        monitor.poll(statistics ->
+        {
+            long totalProcessed = 0L;
+            int busiestCpuId = -1;
+            final StringBuilder presentCpuIds = new StringBuilder();
+            for (int cpuId = 0; cpuId < statistics.getCpuIdLimit(); cpuId++)
+            {
+                totalProcessed += statistics.getProcessed(cpuId);
+                if(busiestCpuId == -1 || statistics.getProcessed(cpuId) > statistics.getProcessed(busiestCpuId))
+                {
+                    busiestCpuId = cpuId;
+                }
+                if(statistics.isPresent(cpuId))
+                {
+                    presentCpuIds.append(cpuId);
+                }
+            }
+            recordedVectors.add(statistics.getCpuIdLimit() + " " + presentCpuIds + " " + totalProcessed + " " + busiestCpuId);
+        });
+        monitor.poll(statistics -> recordedVectors.add(Long.toString(statistics.getFlowLimitCount(4))));
+
+        assertThat(recordedVectors.size(), is(2));
+        assertThat(recordedVectors.get(0), is("6 0145 288134 5"));
+        assertThat(recordedVectors.get(1), is("7"));
+    }
+
+    @Test
+    public void shouldGrowStorageForHighCpuIds() throws Exception
+    {
+        final int cpuId = Runtime.getRuntime().availableProcessors() * 4 + 1;
+        Files.write(inputPath, String.format(
+                "00000010 00000000 00000000 00000000 00000000 00000000 00000000 00000000 00000000 00000000 00000000 00000000 %08x\n",
+                cpuId).getBytes(US_ASCII));
+
+        monitor.poll(softnetStatsHandler);
+
+        assertThat(softnetStatsHandler.getRecordedEntries().size(), is(1));
+        assertEntry(softnetStatsHandler.getRecordedEntries().get(0), cpuId, 16L, 0L, 0L);
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingWithVectorHandlerInSteadyState() throws Exception
+    {
+        final SoftnetStatsVectorHandler handler = statistics -> {};
+
+        assertNoAllocationInSteadyState(() -> monitor.poll(handler));
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingInSteadyState() throws Exception
+    {
+        assertNoAllocationInSteadyState(() -> monitor.poll(softnetStatsHandler));
+    }
+
     private static void assertEntry(final SoftnetStatEntry softnetStatEntry,
                                     final int cpuId,
                                     final long total,
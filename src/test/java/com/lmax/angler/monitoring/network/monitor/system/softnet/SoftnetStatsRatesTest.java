@@ -0,0 +1,136 @@
+package com.lmax.angler.monitoring.network.monitor.system.softnet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SoftnetStatsRatesTest
+{
+    private static final String ZERO_COLUMNS = " 00000000 00000000 00000000 00000000 00000000 00000000 00000000 00000000\n";
+
+    private final List<String> reported = new ArrayList<>();
+    private final SoftnetStatsRateHandler recordingHandler = (cpuId, intervalNanos, processed, processedPerSecond,
+            squeezed, squeezedPerSecond, dropped, droppedPerSecond) ->
+            reported.add(cpuId + " " + intervalNanos + " " + processed + "@" + processedPerSecond + " " +
+                    squeezed + "@" + squeezedPerSecond + " " + dropped + "@" + droppedPerSecond);
+    private long nanoTime = 0L;
+    private Path inputPath;
+    private SoftnetStatsMonitor monitor;
+    private SoftnetStatsRates rates;
+
+    @Before
+    public void before() throws Exception
+    {
+        inputPath = Files.createTempFile("proc-net-softnet_stat", "txt");
+        monitor = new SoftnetStatsMonitor(inputPath);
+        rates = new SoftnetStatsRates(() -> nanoTime);
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        Files.deleteIfExists(inputPath);
+    }
+
+    @Test
+    public void shouldUseFirstReadingAsBaseline() throws Exception
+    {
+        writeCounters("00001000 00000001 00000002", "00002000 00000000 00000000");
+
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.size(), is(0));
+    }
+
+    @Test
+    public void shouldReportDeltaAndRatePerSecond() throws Exception
+    {
+        writeCounters("00001000 00000001 00000002", "00002000 00000000 00000000");
+        rates.poll(monitor, recordingHandler);
+        writeCounters("00001064 00000001 00000004", "00002000 00000000 00000000");
+        nanoTime += 500_000_000L;
+
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.size(), is(1));
+        assertThat(reported.get(0), is("0 500000000 100@200.0 2@4.0 0@0.0"));
+    }
+
+    @Test
+    public void shouldHandle32BitWraparound() throws Exception
+    {
+        writeCounters("fffffff0 00000000 00000000");
+        rates.poll(monitor, recordingHandler);
+        writeCounters("00000010 00000000 00000000");
+        nanoTime += 1_000_000_000L;
+
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.get(0), is("0 1000000000 32@32.0 0@0.0 0@0.0"));
+    }
+
+    @Test
+    public void shouldReportZeroOnceWhenCountersStopChanging() throws Exception
+    {
+        writeCounters("00001000 00000000 00000000", "00002000 00000000 00000000");
+        rates.poll(monitor, recordingHandler);
+        writeCounters("00001000 00000003 00000000", "00002000 00000000 00000000");
+        nanoTime += 1_000_000_000L;
+        rates.poll(monitor, recordingHandler);
+        reported.clear();
+        nanoTime += 2_000_000_000L;
+
+        rates.poll(monitor, recordingHandler);
+        nanoTime += 1_000_000_000L;
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.size(), is(1));
+        assertThat(reported.get(0), is("0 2000000000 0@0.0 0@0.0 0@0.0"));
+    }
+
+    @Test
+    public void shouldMeasureIntervalFromPreviousPollWhenCountersResumeChanging() throws Exception
+    {
+        writeCounters("00001000 00000000 00000000");
+        rates.poll(monitor, recordingHandler);
+        nanoTime += 5_000_000_000L;
+        rates.poll(monitor, recordingHandler);
+        writeCounters("00001010 00000000 00000000");
+        nanoTime += 1_000_000_000L;
+
+        rates.poll(monitor, recordingHandler);
+
+        assertThat(reported.size(), is(1));
+        assertThat(reported.get(0), is("0 1000000000 16@16.0 0@0.0 0@0.0"));
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingInSteadyState() throws Exception
+    {
+        writeCounters("00001000 00000000 00000000", "00002000 00000000 00000000");
+        final SoftnetStatsRateHandler handler = (cpuId, intervalNanos, processed, processedPerSecond,
+                squeezed, squeezedPerSecond, dropped, droppedPerSecond) -> {};
+
+        assertNoAllocationInSteadyState(() -> rates.poll(monitor, handler));
+    }
+
+    private void writeCounters(final String... rows) throws Exception
+    {
+        final StringBuilder content = new StringBuilder();
+        for (final String row : rows)
+        {
+            content.append(row).append(ZERO_COLUMNS);
+        }
+        Files.write(inputPath, content.toString().getBytes(US_ASCII));
+    }
+}
@@ -0,0 +1,158 @@
+package com.lmax.angler.monitoring.network.monitor.system.sysfs;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.lmax.angler.monitoring.network.monitor.AllocationAssertions.assertNoAllocationInSteadyState;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SysfsCountersMonitorTest
+{
+    private final List<String> reported = new ArrayList<>();
+    private final SysfsCounterHandler recordingHandler = (counterId, value) -> reported.add(counterId + "=" + value);
+    private Path sysClassNet;
+    private SysfsCountersMonitor monitor;
+
+    @Before
+    public void before() throws Exception
+    {
+        sysClassNet = Files.createTempDirectory("sys-class-net");
+        writeCounter("eth0/statistics/rx_missed_errors", "0\n");
+        writeCounter("eth0/statistics/rx_over_errors", "17\n");
+        writeCounter("eth1/statistics/rx_missed_errors", "18446744073709551\n");
+        writeCounter("eth0/device/rx_queue_0_drops", "5");
+        monitor = new SysfsCountersMonitor(sysClassNet);
+    }
+
+    @After
+    public void after() throws Exception
+    {
+        monitor.close();
+        try (Stream<Path> files = Files.walk(sysClassNet))
+        {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void shouldReportEveryCounterOnFirstPoll() throws Exception
+    {
+        monitor.registerInterfaceStatistic("eth0", "rx_missed_errors");
+        monitor.registerInterfaceStatistic("eth0", "rx_over_errors");
+        monitor.registerInterfaceStatistic("eth1", "rx_missed_errors");
+        final int driverCounter = monitor.register(sysClassNet.resolve("eth0/device/rx_queue_0_drops"));
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[0=0, 1=17, 2=18446744073709551, 3=5]"));
+        assertThat(monitor.getPath(driverCounter), is(sysClassNet.resolve("eth0/device/rx_queue_0_drops")));
+    }
+
+    @Test
+    public void shouldOnlyReportChangedCountersFromOpenFiles() throws Exception
+    {
+        monitor.registerInterfaceStatistic("eth0", "rx_missed_errors");
+        monitor.registerInterfaceStatistic("eth0", "rx_over_errors");
+        monitor.poll(recordingHandler);
+        reported.clear();
+
+        writeCounter("eth0/statistics/rx_over_errors", "1234\n");
+        monitor.poll(recordingHandler);
+        writeCounter("eth0/statistics/rx_over_errors", "2\n");
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[1=1234, 1=2]"));
+    }
+
+    @Test
+    public void shouldReportUnreadableCounterAsUnavailableAndContinuePolling() throws Exception
+    {
+        // a process's /proc files fail to read once it exits, as a removed interface's sysfs files do
+        final Process process = new ProcessBuilder("sh", "-c", "echo $$; exec sleep 60").start();
+        final String pid = new BufferedReader(new InputStreamReader(process.getInputStream(), US_ASCII)).readLine();
+        monitor.registerInterfaceStatistic("eth0", "rx_over_errors");
+        monitor.register(Paths.get("/proc", pid, "oom_score_adj"));
+        monitor.poll(recordingHandler);
+
+        process.destroy();
+        process.waitFor();
+        writeCounter("eth0/statistics/rx_over_errors", "18\n");
+        monitor.poll(recordingHandler);
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[0=17, 1=0, 0=18, 1=" + SysfsCountersMonitor.UNAVAILABLE + "]"));
+    }
+
+    @Test
+    public void shouldReportValueGreaterThanLongMaxValueAsUnavailable() throws Exception
+    {
+        writeCounter("eth1/statistics/rx_missed_errors", "18446744073709551615\n");
+        monitor.registerInterfaceStatistic("eth1", "rx_missed_errors");
+
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[0=" + SysfsCountersMonitor.UNAVAILABLE + "]"));
+    }
+
+    @Test
+    public void shouldReadFileMissingWhenRegisteredOnceItAppears() throws Exception
+    {
+        final int missingCounter = monitor.registerInterfaceStatistic("eth9", "rx_missed_errors");
+        monitor.registerInterfaceStatistic("eth0", "rx_over_errors");
+        monitor.poll(recordingHandler);
+        monitor.poll(recordingHandler);
+
+        writeCounter("eth9/statistics/rx_missed_errors", "3\n");
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[0=" + SysfsCountersMonitor.UNAVAILABLE + ", 1=17, 0=3]"));
+        assertThat(monitor.getPath(missingCounter), is(sysClassNet.resolve("eth9/statistics/rx_missed_errors")));
+    }
+
+    @Test
+    public void shouldReportFileWithoutDecimalValueAsUnavailableAndContinuePolling() throws Exception
+    {
+        writeCounter("eth0/device/mode", "0x1f\n");
+        monitor.register(sysClassNet.resolve("eth0/device/mode"));
+        monitor.registerInterfaceStatistic("eth0", "rx_over_errors");
+        monitor.poll(recordingHandler);
+
+        writeCounter("eth0/statistics/rx_over_errors", "18\n");
+        monitor.poll(recordingHandler);
+        writeCounter("eth0/device/mode", "31\n");
+        monitor.poll(recordingHandler);
+
+        assertThat(reported.toString(), is("[0=" + SysfsCountersMonitor.UNAVAILABLE + ", 1=17, 1=18, 0=31]"));
+    }
+
+    @Test
+    public void shouldNotAllocateWhenPollingInSteadyState() throws Exception
+    {
+        monitor.registerInterfaceStatistic("eth0", "rx_missed_errors");
+        monitor.registerInterfaceStatistic("eth0", "rx_over_errors");
+        monitor.registerInterfaceStatistic("eth1", "rx_missed_errors");
+        final SysfsCounterHandler handler = (counterId, value) -> {};
+
+        assertNoAllocationInSteadyState(() -> monitor.poll(handler));
+    }
+
+    private void writeCounter(final String relativePath, final String content) throws Exception
+    {
+        final Path path = sysClassNet.resolve(relativePath);
+        Files.createDirectories(path.getParent());
+        Files.write(path, content.getBytes(US_ASCII));
+    }
+}
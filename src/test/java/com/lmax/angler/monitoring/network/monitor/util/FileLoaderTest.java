@@ -4,10 +4,12 @@ import org.junit.Test;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.nio.file.Files.copy;
 import static java.nio.file.Files.createTempFile;
 import static org.hamcrest.core.Is.is;
@@ -16,6 +18,7 @@ import static org.junit.Assert.assertThat;
 public class FileLoaderTest
 {
     private static final String LONG_FILE = "src/test/resources/long_file_loader_file.txt";
+    private static final String SHORT_FILE = "src/test/resources/short_file_loader_file.txt";
 
     private final Path inputPath;
 
@@ -35,6 +38,42 @@ public class FileLoaderTest
         assertThat(fileLoader.getBuffer().remaining(), is((int)(Files.size(inputPath))));
     }
 
+    @Test
+    public void loadRetainsFileContentWhenBufferIsGrown() throws Exception
+    {
+        writeData(LONG_FILE);
+
+        final FileLoader fileLoader = new FileLoader(inputPath, 16);
+        fileLoader.load();
+
+        assertThat(contentOf(fileLoader.getBuffer()), is(new String(Files.readAllBytes(inputPath), UTF_8)));
+    }
+
+    @Test
+    public void loadReflectsChangesInFileLength() throws Exception
+    {
+        writeData(LONG_FILE);
+        final FileLoader fileLoader = new FileLoader(inputPath, 128);
+        fileLoader.load();
+
+        writeData(SHORT_FILE);
+        fileLoader.load();
+
+        assertThat(contentOf(fileLoader.getBuffer()), is(new String(Files.readAllBytes(inputPath), UTF_8)));
+
+        writeData(LONG_FILE);
+        fileLoader.load();
+
+        assertThat(contentOf(fileLoader.getBuffer()), is(new String(Files.readAllBytes(inputPath), UTF_8)));
+    }
+
+    private static String contentOf(final ByteBuffer buffer)
+    {
+        final byte[] content = new byte[buffer.remaining()];
+        buffer.duplicate().get(content);
+        return new String(content, UTF_8);
+    }
+
     private void writeData(String filename) throws IOException
     {
         copy(Paths.get(filename), new FileOutputStream(inputPath.toFile(), false));
@@ -0,0 +1,84 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class LogLinearHistogramTest
+{
+    private final LogLinearHistogram histogram = new LogLinearHistogram();
+
+    @Test
+    public void shouldReportZeroWhenEmpty() throws Exception
+    {
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMaxValue(), is(0L));
+        assertThat(histogram.getValueAtPercentile(50d), is(0L));
+    }
+
+    @Test
+    public void shouldRecordSmallValuesExactly() throws Exception
+    {
+        for(int i = 1; i <= 20; i++)
+        {
+            histogram.record(i);
+        }
+
+        assertThat(histogram.getCount(), is(20L));
+        assertThat(histogram.getValueAtPercentile(50d), is(10L));
+        assertThat(histogram.getValueAtPercentile(95d), is(19L));
+        assertThat(histogram.getValueAtPercentile(100d), is(20L));
+        assertThat(histogram.getMaxValue(), is(20L));
+    }
+
+    @Test
+    public void shouldCapReportedPercentileAtMaximumRecordedValue() throws Exception
+    {
+        histogram.record(1_000_000L);
+
+        assertThat(histogram.getValueAtPercentile(99d), is(1_000_000L));
+    }
+
+    @Test
+    public void shouldBoundRelativeErrorOfLargeValues() throws Exception
+    {
+        final Random random = new Random(11L);
+        for(int i = 0; i < 10_000; i++)
+        {
+            final long value = random.nextInt(Integer.MAX_VALUE);
+            final int index = LogLinearHistogram.bucketIndex(value);
+            final long highestEquivalentValue = LogLinearHistogram.highestValueInBucket(index);
+
+            assertTrue(highestEquivalentValue >= value);
+            assertTrue(highestEquivalentValue - value <= value / 16);
+            assertThat(LogLinearHistogram.bucketIndex(highestEquivalentValue), is(index));
+        }
+    }
+
+    @Test
+    public void shouldClampValuesOutsideTrackableRange() throws Exception
+    {
+        histogram.record(-5L);
+        histogram.record(Long.MAX_VALUE);
+
+        assertThat(histogram.getValueAtPercentile(50d), is(0L));
+        assertThat(histogram.getMaxValue(), is(0xFFFFFFFFL));
+        assertThat(LogLinearHistogram.bucketIndex(0xFFFFFFFFL), is(LogLinearHistogram.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    public void shouldDiscardValuesOnReset() throws Exception
+    {
+        histogram.record(100L);
+        histogram.reset();
+        histogram.record(3L);
+
+        assertThat(histogram.getCount(), is(1L));
+        assertThat(histogram.getMaxValue(), is(3L));
+        assertThat(histogram.getValueAtPercentile(99d), is(3L));
+    }
+}
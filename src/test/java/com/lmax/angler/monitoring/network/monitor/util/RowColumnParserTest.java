@@ -0,0 +1,154 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RowColumnParserTest
+{
+    private static final String ROW_END = "<EOR>";
+
+    private final List<String> collectedTokens = new ArrayList<>();
+    private final RowColumnParser parser = new RowColumnParser(new TokenCollector(collectedTokens), (byte) '\n', (byte) ' ');
+
+    @Test
+    public void shouldFindZeroTokensWhenDataIsEmpty() throws Exception
+    {
+        parse(bufferForData(""));
+
+        assertTrue(collectedTokens.isEmpty());
+    }
+
+    @Test
+    public void shouldFindZeroTokensWhenDataContainsOnlyDelimiters() throws Exception
+    {
+        parse(bufferForData("\n  \n \n"));
+
+        assertTrue(collectedTokens.isEmpty());
+    }
+
+    @Test
+    public void shouldFindRowsAndColumns() throws Exception
+    {
+        parse(bufferForData("\n\n 1st    line \n 2nd   line \n\n  3rd    line"));
+
+        assertThat(collectedTokens, is(asList("1st", "line", ROW_END, "2nd", "line", ROW_END, "3rd", "line", ROW_END)));
+    }
+
+    @Test
+    public void shouldFindTokensLongerThanEightBytes() throws Exception
+    {
+        parse(bufferForData("00000000000000000000000000000000:1F90 0123456789abcdef01\nx"));
+
+        assertThat(collectedTokens, is(asList(
+                "00000000000000000000000000000000:1F90", "0123456789abcdef01", ROW_END, "x", ROW_END)));
+    }
+
+    @Test
+    public void shouldFindDelimitersAtEveryAlignment() throws Exception
+    {
+        for(int offset = 0; offset < 16; offset++)
+        {
+            collectedTokens.clear();
+            final StringBuilder data = new StringBuilder();
+            for(int i = 0; i < offset; i++)
+            {
+                data.append('a');
+            }
+            data.append(" b\nc");
+
+            parse(bufferForData(data.toString()));
+
+            final List<String> expected = new ArrayList<>();
+            if(offset != 0)
+            {
+                expected.add(data.substring(0, offset));
+            }
+            expected.addAll(asList("b", ROW_END, "c", ROW_END));
+            assertThat(collectedTokens, is(expected));
+        }
+    }
+
+    @Test
+    public void shouldHandleLittleEndianBuffer() throws Exception
+    {
+        parse(bufferForData("0123456789 abcdefghijkl\n").order(ByteOrder.LITTLE_ENDIAN));
+
+        assertThat(collectedTokens, is(asList("0123456789", "abcdefghijkl", ROW_END)));
+    }
+
+    @Test
+    public void shouldProduceSameTokensAsNestedDelimitedDataParser() throws Exception
+    {
+        for (final String resource : asList("proc_net_tcp_sample.txt", "proc_net_udp6_sample.txt",
+                "proc_net_softnet_stat_sample.txt", "proc_net_snmp_sample.txt"))
+        {
+            collectedTokens.clear();
+            final ByteBuffer src = ByteBuffer.wrap(Files.readAllBytes(Paths.get("src/test/resources", resource)));
+            final List<String> nestedParserTokens = new ArrayList<>();
+            final DelimitedDataParser nestedParser = new DelimitedDataParser(
+                    new DelimitedDataParser(new TokenCollector(nestedParserTokens), (byte) ' ', true), (byte) '\n', true);
+
+            parse(src);
+            nestedParser.handleToken(src, src.position(), src.limit());
+
+            // nested parser signals completion of the final row twice
+            assertThat(collectedTokens, is(nestedParserTokens.subList(0, nestedParserTokens.size() - 1)));
+        }
+    }
+
+    private void parse(final ByteBuffer src)
+    {
+        parser.reset();
+        parser.handleToken(src, src.position(), src.limit());
+    }
+
+    private static ByteBuffer bufferForData(final String data)
+    {
+        return ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class TokenCollector implements TokenHandler
+    {
+        private final List<String> collectedTokens;
+
+        private TokenCollector(final List<String> collectedTokens)
+        {
+            this.collectedTokens = collectedTokens;
+        }
+
+        @Override
+        public void handleToken(final ByteBuffer src, final int startPosition, final int endPosition)
+        {
+            final byte[] tmp = new byte[endPosition - startPosition];
+            for(int i = 0; i < tmp.length; i++)
+            {
+                tmp[i] = src.get(startPosition + i);
+            }
+            collectedTokens.add(new String(tmp, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void complete()
+        {
+            collectedTokens.add(ROW_END);
+        }
+
+        @Override
+        public void reset()
+        {
+
+        }
+    }
+}
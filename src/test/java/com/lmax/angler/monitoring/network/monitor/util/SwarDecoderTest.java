@@ -0,0 +1,153 @@
+package com.lmax.angler.monitoring.network.monitor.util;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SwarDecoderTest
+{
+    private final SwarDecoder decoder = new SwarDecoder();
+
+    @Test
+    public void shouldDecodeHexValues() throws Exception
+    {
+        assertHexDecoded("2D1E0A0A", 0x2D1E0A0AL);
+        assertHexDecoded("BDB8085F", 3182954591L);
+        assertHexDecoded("bdb8085f", 3182954591L);
+        assertHexDecoded("4E50", 20048L);
+        assertHexDecoded("07", 7L);
+        assertHexDecoded("FFFFFFFF", 0xFFFFFFFFL);
+    }
+
+    @Test
+    public void shouldDecodeDecimalValues() throws Exception
+    {
+        assertDecimalDecoded("0", 0L);
+        assertDecimalDecoded("21682", 21682L);
+        assertDecimalDecoded("12345678", 12345678L);
+        assertDecimalDecoded("123456789", 123456789L);
+        assertDecimalDecoded("36153253000000001", 36153253000000001L);
+        assertDecimalDecoded(Long.toString(Long.MAX_VALUE), Long.MAX_VALUE);
+    }
+
+    @Test
+    public void shouldDecodeSameValuesAsExistingDecoders() throws Exception
+    {
+        final Random random = new Random(17L);
+        for(int i = 0; i < 10_000; i++)
+        {
+            final long value = random.nextLong() & 0xFFFFFFFFL;
+            final String hex = String.format("%08X", value);
+            final ByteBuffer hexBuffer = prepare("  " + hex + " ");
+            assertThat(decoder.decodeHex(hexBuffer, 2, 10), is(HexToLongDecoder.UPPER_CASE.decodeHex(hexBuffer, 2, 10)));
+
+            final String decimal = Long.toString(Long.MAX_VALUE >>> random.nextInt(63) & random.nextLong());
+            final ByteBuffer decimalBuffer = prepare(" " + decimal);
+            assertThat(decoder.decodeAscii(decimalBuffer, 1, decimalBuffer.limit()),
+                    is(AsciiBytesToLongDecoder.decodeAscii(decimalBuffer, 1, decimalBuffer.limit())));
+        }
+        assertThat(decoder.hasError(), is(false));
+    }
+
+    @Test
+    public void shouldDecodeFromLittleEndianBuffer() throws Exception
+    {
+        final ByteBuffer buffer = prepare("0123456789 4E50").order(ByteOrder.LITTLE_ENDIAN);
+
+        assertThat(decoder.decodeAscii(buffer, 0, 10), is(123456789L));
+        assertThat(decoder.decodeHex(buffer, 11, 15), is(20048L));
+    }
+
+    @Test
+    public void shouldSetErrorFlagForInvalidHexCharacter() throws Exception
+    {
+        assertHexInvalid("4E5G");
+        assertHexInvalid("4E:0");
+        assertHexInvalid("4E 0");
+        assertHexInvalid("4E\u00e90");
+    }
+
+    @Test
+    public void shouldSetErrorFlagForInvalidHexLength() throws Exception
+    {
+        assertHexInvalid("");
+        assertHexInvalid("0123456789");
+    }
+
+    @Test
+    public void shouldSetErrorFlagForInvalidDecimalCharacter() throws Exception
+    {
+        assertDecimalInvalid("12a4");
+        assertDecimalInvalid("-1");
+        assertDecimalInvalid("123456789/");
+        assertDecimalInvalid("");
+        assertDecimalInvalid("12345678901234567890");
+    }
+
+    @Test
+    public void shouldSetErrorFlagForDecimalValueGreaterThanLongMaxValue() throws Exception
+    {
+        assertDecimalDecoded("9223372036799999999", 9223372036799999999L);
+        assertDecimalInvalid("9223372036854775808");
+        assertDecimalInvalid("9223372036900000000");
+        assertDecimalInvalid("9999999999999999999");
+    }
+
+    @Test
+    public void shouldRetainErrorFlagUntilCleared() throws Exception
+    {
+        decodeHex("XX");
+        decodeHex("FF");
+
+        assertThat(decoder.hasError(), is(true));
+
+        decoder.clearError();
+
+        assertThat(decoder.hasError(), is(false));
+    }
+
+    private void assertHexDecoded(final String hexEncodedValue, final long expectedDecodedValue)
+    {
+        assertThat(decodeHex(hexEncodedValue), is(expectedDecodedValue));
+        assertThat(decoder.hasError(), is(false));
+    }
+
+    private void assertDecimalDecoded(final String asciiEncodedValue, final long expectedDecodedValue)
+    {
+        final ByteBuffer buffer = prepare(asciiEncodedValue);
+        assertThat(decoder.decodeAscii(buffer, buffer.position(), buffer.limit()), is(expectedDecodedValue));
+        assertThat(decoder.hasError(), is(false));
+    }
+
+    private void assertHexInvalid(final String hexEncodedValue)
+    {
+        decoder.clearError();
+        decodeHex(hexEncodedValue);
+        assertThat(hexEncodedValue, decoder.hasError(), is(true));
+    }
+
+    private void assertDecimalInvalid(final String asciiEncodedValue)
+    {
+        decoder.clearError();
+        final ByteBuffer buffer = prepare(asciiEncodedValue);
+        decoder.decodeAscii(buffer, buffer.position(), buffer.limit());
+        assertThat(asciiEncodedValue, decoder.hasError(), is(true));
+    }
+
+    private long decodeHex(final String hexEncodedValue)
+    {
+        final ByteBuffer buffer = prepare(hexEncodedValue);
+        return decoder.decodeHex(buffer, buffer.position(), buffer.limit());
+    }
+
+    private static ByteBuffer prepare(final String value)
+    {
+        return ByteBuffer.wrap(value.getBytes(UTF_8));
+    }
+}